@@ -1,3 +1,5 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("me.champeau.jmh")
   id("io.morethan.jmhreport")
@@ -36,3 +38,12 @@ tasks {
     outputs.cacheIf { false }
   }
 }
+
+// the benchmark classes generated by jmh don't follow our errorprone rules
+plugins.withId("net.ltgt.errorprone") {
+  tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+}
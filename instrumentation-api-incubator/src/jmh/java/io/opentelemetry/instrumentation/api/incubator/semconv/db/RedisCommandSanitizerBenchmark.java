@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RedisCommandSanitizerBenchmark {
+
+  private static final RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+
+  private static final List<Object> getArgs = singletonList("user:1234".getBytes(UTF_8));
+  private static final List<Object> setArgs =
+      asList("user:1234".getBytes(UTF_8), "{\"name\":\"john\"}".getBytes(UTF_8));
+  private static final List<Object> authArgs = singletonList("password".getBytes(UTF_8));
+  private static final List<Object> hmsetArgs =
+      asList("hash", "creditcard", "1234567887654321", "address", "asdf");
+
+  @Benchmark
+  public String get() {
+    return sanitizer.sanitize("get", getArgs);
+  }
+
+  @Benchmark
+  public String set() {
+    return sanitizer.sanitize("SET", setArgs);
+  }
+
+  @Benchmark
+  public String hmset() {
+    return sanitizer.sanitize("HMSET", hmsetArgs);
+  }
+
+  @Benchmark
+  public String auth() {
+    return sanitizer.sanitize("AUTH", authArgs);
+  }
+
+  @Benchmark
+  public String ping() {
+    return sanitizer.sanitize("PING", emptyList());
+  }
+}
@@ -28,6 +28,7 @@ import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractorBuilder;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanStatusExtractor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -164,6 +165,19 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the query parameters whose values will be redacted.
+   *
+   * @param sensitiveQueryParameters A collection of query parameter names.
+   * @see HttpClientAttributesExtractorBuilder#setSensitiveQueryParameters(Collection)
+   */
+  @CanIgnoreReturnValue
+  public DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> setSensitiveQueryParameters(
+      Collection<String> sensitiveQueryParameters) {
+    httpAttributesExtractorBuilder.setSensitiveQueryParameters(sensitiveQueryParameters);
+    return this;
+  }
+
   /**
    * Configures the instrumentation to emit experimental HTTP client metrics.
    *
@@ -244,6 +258,7 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
     set(config::getKnownHttpRequestMethods, this::setKnownMethods);
     set(config::getClientRequestHeaders, this::setCapturedRequestHeaders);
     set(config::getClientResponseHeaders, this::setCapturedResponseHeaders);
+    set(config::getSensitiveQueryParameters, this::setSensitiveQueryParameters);
     set(config::getPeerServiceResolver, this::setPeerServiceResolver);
     set(
         config::shouldEmitExperimentalHttpClientTelemetry,
@@ -27,6 +27,7 @@ import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractorBuilder;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanStatusExtractor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -163,6 +164,19 @@ public final class DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the query parameters whose values will be redacted.
+   *
+   * @param sensitiveQueryParameters A collection of query parameter names.
+   * @see HttpServerAttributesExtractorBuilder#setSensitiveQueryParameters(Collection)
+   */
+  @CanIgnoreReturnValue
+  public DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> setSensitiveQueryParameters(
+      Collection<String> sensitiveQueryParameters) {
+    httpAttributesExtractorBuilder.setSensitiveQueryParameters(sensitiveQueryParameters);
+    return this;
+  }
+
   /**
    * Configures the instrumentation to emit experimental HTTP server metrics.
    *
@@ -228,6 +242,7 @@ public final class DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> {
     set(config::getKnownHttpRequestMethods, this::setKnownMethods);
     set(config::getServerRequestHeaders, this::setCapturedRequestHeaders);
     set(config::getServerResponseHeaders, this::setCapturedResponseHeaders);
+    set(config::getSensitiveQueryParameters, this::setSensitiveQueryParameters);
     set(
         config::shouldEmitExperimentalHttpServerTelemetry,
         this::setEmitExperimentalHttpServerMetrics);
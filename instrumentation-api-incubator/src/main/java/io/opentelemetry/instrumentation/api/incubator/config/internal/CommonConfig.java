@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.incubator.config.internal;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 
 import io.opentelemetry.instrumentation.api.incubator.log.LoggingContextConstants;
@@ -21,12 +22,25 @@ import java.util.Set;
  */
 public final class CommonConfig {
 
+  // signatures and credentials of pre-signed cloud storage URLs
+  private static final List<String> DEFAULT_SENSITIVE_QUERY_PARAMETERS =
+      asList(
+          "AWSAccessKeyId",
+          "Signature",
+          "sig",
+          "X-Amz-Credential",
+          "X-Amz-Security-Token",
+          "X-Amz-Signature",
+          "X-Goog-Credential",
+          "X-Goog-Signature");
+
   private final PeerServiceResolver peerServiceResolver;
   private final List<String> clientRequestHeaders;
   private final List<String> clientResponseHeaders;
   private final List<String> serverRequestHeaders;
   private final List<String> serverResponseHeaders;
   private final Set<String> knownHttpRequestMethods;
+  private final List<String> sensitiveQueryParameters;
   private final EnduserConfig enduserConfig;
   private final boolean statementSanitizationEnabled;
   private final boolean emitExperimentalHttpClientTelemetry;
@@ -53,6 +67,10 @@ public final class CommonConfig {
             config.getList(
                 "otel.instrumentation.http.known-methods",
                 new ArrayList<>(HttpConstants.KNOWN_METHODS)));
+    sensitiveQueryParameters =
+        config.getList(
+            "otel.instrumentation.http.sensitive-query-parameters",
+            DEFAULT_SENSITIVE_QUERY_PARAMETERS);
     statementSanitizationEnabled =
         config.getBoolean("otel.instrumentation.common.db-statement-sanitizer.enabled", true);
     emitExperimentalHttpClientTelemetry =
@@ -95,6 +113,10 @@ public final class CommonConfig {
     return knownHttpRequestMethods;
   }
 
+  public List<String> getSensitiveQueryParameters() {
+    return sensitiveQueryParameters;
+  }
+
   public EnduserConfig getEnduserConfig() {
     return enduserConfig;
   }
@@ -141,6 +141,16 @@ public final class DbConnectionPoolMetrics {
         .build();
   }
 
+  // not part of the semantic conventions
+  public LongCounter connectionLeaks() {
+    return meter
+        .counterBuilder("db.client.connections.leaks")
+        .setUnit("{connections}")
+        .setDescription(
+            "The number of connections that were held longer than the leak detection threshold.")
+        .build();
+  }
+
   public Attributes getAttributes() {
     return attributes;
   }
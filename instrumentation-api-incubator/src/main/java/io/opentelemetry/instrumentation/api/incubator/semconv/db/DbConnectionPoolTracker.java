@@ -0,0 +1,216 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.instrumentation.api.internal.cache.weaklockfree.WeakConcurrentMap;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Records the time it took to obtain a connection from a pool and the time it was used for, and
+ * detects connections that are held longer than a threshold.
+ *
+ * <p>Connections are tracked by identity and without keeping them reachable. The record of a
+ * connection is reused every time the same connection object is passed, so callers should pass the
+ * object the pool keeps, e.g. the physical connection, rather than a wrapper that the pool creates
+ * for every borrow; otherwise a record is allocated for every borrow. Leak detection piggybacks on
+ * acquiring and releasing connections and runs at most once per half of the threshold. Only one in
+ * 100 acquisitions captures the location where the connection was acquired, limited to the
+ * innermost 32 frames, and the first 20 leaks of a pool are logged.
+ */
+public final class DbConnectionPoolTracker {
+
+  private static final Logger logger = Logger.getLogger(DbConnectionPoolTracker.class.getName());
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final int STACK_SAMPLE_INTERVAL = 100;
+  private static final int MAX_STACK_DEPTH = 32;
+  private static final int MAX_LOGGED_LEAKS = 20;
+
+  /**
+   * Returns a tracker that records into the histograms of the passed pool metrics. Leak detection
+   * is disabled when the passed threshold is zero or negative, in which case the leaks counter
+   * isn't created.
+   */
+  public static DbConnectionPoolTracker create(
+      DbConnectionPoolMetrics metrics, Duration leakThreshold) {
+    long leakThresholdNanos = leakThreshold.toNanos();
+    return new DbConnectionPoolTracker(
+        metrics.connectionWaitTime(),
+        metrics.connectionUseTime(),
+        leakThresholdNanos > 0 ? metrics.connectionLeaks() : null,
+        metrics.getAttributes(),
+        leakThresholdNanos);
+  }
+
+  private final DoubleHistogram waitTime;
+  private final DoubleHistogram useTime;
+  @Nullable private final LongCounter leaks;
+  private final Attributes attributes;
+  private final long leakThresholdNanos;
+
+  private final WeakConcurrentMap<Object, Borrow> borrows =
+      new WeakConcurrentMap.WithInlinedExpunction<>();
+  private final AtomicLong nextLeakCheckNanos = new AtomicLong(System.nanoTime());
+  private final LongAdder leakedCount = new LongAdder();
+  private final AtomicInteger loggedLeaks = new AtomicInteger();
+
+  DbConnectionPoolTracker(
+      DoubleHistogram waitTime,
+      DoubleHistogram useTime,
+      @Nullable LongCounter leaks,
+      Attributes attributes,
+      long leakThresholdNanos) {
+    this.waitTime = waitTime;
+    this.useTime = useTime;
+    this.leaks = leaks;
+    this.attributes = attributes;
+    this.leakThresholdNanos = leakThresholdNanos;
+  }
+
+  /** Records the time it took to obtain a connection, for pools that measure it themselves. */
+  public void recordWaitTime(long waitNanos) {
+    waitTime.record(waitNanos / NANOS_PER_MS, attributes);
+  }
+
+  /** Records the time a connection was used for, for pools that measure it themselves. */
+  public void recordUseTime(long useNanos) {
+    useTime.record(useNanos / NANOS_PER_MS, attributes);
+  }
+
+  /**
+   * Records the time it took to obtain the passed connection and starts measuring the time it is
+   * used for.
+   */
+  public void onAcquired(Object connection, long waitNanos) {
+    recordWaitTime(waitNanos);
+    onAcquired(connection);
+  }
+
+  /**
+   * Starts measuring the time the passed connection is used for, for pools that don't expose how
+   * long it took to obtain it.
+   */
+  public void onAcquired(Object connection) {
+    long now = System.nanoTime();
+    Borrow borrow = borrows.getIfPresent(connection);
+    if (borrow == null) {
+      borrow = new Borrow();
+      borrows.put(connection, borrow);
+    }
+    borrow.leakReported = false;
+    borrow.location = null;
+    if (leakThresholdNanos > 0) {
+      borrow.threadName = Thread.currentThread().getName();
+      if (ThreadLocalRandom.current().nextInt(STACK_SAMPLE_INTERVAL) == 0) {
+        borrow.location = captureLocation();
+      }
+    }
+    // written last, so that the fields above are visible to the leak detection
+    borrow.acquiredNanos = now;
+
+    detectLeaks(now);
+  }
+
+  /**
+   * Records the time the passed connection was used for. Does nothing if the connection wasn't
+   * acquired, e.g. when it is closed a second time.
+   */
+  public void onReleased(Object connection) {
+    Borrow borrow = borrows.getIfPresent(connection);
+    if (borrow == null) {
+      return;
+    }
+    long acquiredNanos = borrow.acquiredNanos;
+    if (acquiredNanos == 0) {
+      return;
+    }
+    borrow.acquiredNanos = 0;
+    long now = System.nanoTime();
+    recordUseTime(now - acquiredNanos);
+
+    detectLeaks(now);
+  }
+
+  /** Returns the number of connections that were held longer than the leak threshold. */
+  public long getLeakedCount() {
+    return leakedCount.sum();
+  }
+
+  private void detectLeaks(long now) {
+    if (leaks == null) {
+      return;
+    }
+    long next = nextLeakCheckNanos.get();
+    if (now - next < 0 || !nextLeakCheckNanos.compareAndSet(next, now + leakThresholdNanos / 2)) {
+      return;
+    }
+    for (Map.Entry<Object, Borrow> entry : borrows) {
+      Borrow borrow = entry.getValue();
+      long acquiredNanos = borrow.acquiredNanos;
+      if (acquiredNanos == 0 || borrow.leakReported || now - acquiredNanos < leakThresholdNanos) {
+        continue;
+      }
+      borrow.leakReported = true;
+      leakedCount.increment();
+      leaks.add(1, attributes);
+      if (loggedLeaks.getAndIncrement() < MAX_LOGGED_LEAKS) {
+        logger.log(
+            WARNING,
+            "Connection leak detected, held for {0} ms by {1}",
+            new Object[] {TimeUnit.NANOSECONDS.toMillis(now - acquiredNanos), borrow});
+      }
+    }
+  }
+
+  private static StackTraceElement[] captureLocation() {
+    StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+    // skip the frames of this class and the instrumentation that called it
+    int from = 0;
+    while (from < stackTrace.length
+        && stackTrace[from].getClassName().equals(DbConnectionPoolTracker.class.getName())) {
+      from++;
+    }
+    from = Math.min(from + 1, stackTrace.length);
+    int to = Math.min(stackTrace.length, from + MAX_STACK_DEPTH);
+    return Arrays.copyOfRange(stackTrace, from, to);
+  }
+
+  private static final class Borrow {
+
+    // 0 when the connection is back in the pool
+    volatile long acquiredNanos;
+    volatile boolean leakReported;
+    @Nullable String threadName;
+    @Nullable StackTraceElement[] location;
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("thread ").append(threadName);
+      StackTraceElement[] location = this.location;
+      if (location == null) {
+        return sb.append(" (the acquisition location was not sampled)").toString();
+      }
+      for (StackTraceElement element : location) {
+        sb.append("\n    at ").append(element);
+      }
+      return sb.toString();
+    }
+  }
+}
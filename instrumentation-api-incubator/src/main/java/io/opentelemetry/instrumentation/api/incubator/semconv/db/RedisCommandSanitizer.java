@@ -6,12 +6,11 @@
 package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.unmodifiableMap;
 
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -36,9 +35,22 @@ import java.util.Map;
  */
 public final class RedisCommandSanitizer {
 
-  private static final Map<String, CommandSanitizer> SANITIZERS;
+  // open addressing hash table of upper case command names, looked up ignoring case so that the
+  // command doesn't have to be upper-cased first
+  private static final String[] COMMAND_NAMES;
+  private static final CommandSanitizer[] COMMAND_SANITIZERS;
   private static final CommandSanitizer DEFAULT = new CommandAndNumArgs(0);
 
+  // statements of commands that mask all of their arguments only depend on the number of arguments
+  private static final int MAX_CACHED_MASKED_ARGS = 8;
+  private static final Cache<String, String[]> MASKED_STATEMENTS = Cache.bounded(100);
+
+  // builders are reused, unless they grew past this capacity while sanitizing a very long command;
+  // this only bounds the memory retained by each thread, long commands are still sanitized in full
+  private static final int MAX_REUSED_BUILDER_CAPACITY = 4096;
+  private static final ThreadLocal<StringBuilder> BUILDER =
+      ThreadLocal.withInitial(() -> new StringBuilder(128));
+
   static {
     Map<String, CommandSanitizer> sanitizers = new HashMap<>();
 
@@ -346,7 +358,18 @@ public final class RedisCommandSanitizer {
       sanitizers.put(command, KeepAllArgs.INSTANCE);
     }
 
-    SANITIZERS = unmodifiableMap(sanitizers);
+    int tableSize = Integer.highestOneBit(sanitizers.size() * 4);
+    COMMAND_NAMES = new String[tableSize];
+    COMMAND_SANITIZERS = new CommandSanitizer[tableSize];
+    sanitizers.forEach(
+        (name, sanitizer) -> {
+          int index = hashIgnoreCase(name) & (tableSize - 1);
+          while (COMMAND_NAMES[index] != null) {
+            index = (index + 1) & (tableSize - 1);
+          }
+          COMMAND_NAMES[index] = name;
+          COMMAND_SANITIZERS[index] = sanitizer;
+        });
   }
 
   public static RedisCommandSanitizer create(boolean statementSanitizationEnabled) {
@@ -360,28 +383,104 @@ public final class RedisCommandSanitizer {
   }
 
   public String sanitize(String command, List<?> args) {
-    if (!statementSanitizationEnabled) {
-      return KeepAllArgs.INSTANCE.sanitize(command, args);
+    if (args.isEmpty()) {
+      // all sanitizers keep the command itself
+      return command;
+    }
+    CommandSanitizer sanitizer =
+        statementSanitizationEnabled ? findSanitizer(command) : KeepAllArgs.INSTANCE;
+    if (sanitizer == DEFAULT && args.size() <= MAX_CACHED_MASKED_ARGS) {
+      return maskedStatement(command, args.size());
+    }
+
+    StringBuilder sanitized = BUILDER.get();
+    if (sanitized.length() != 0) {
+      // the builder always contains at least a space while in use, so this is a nested call from
+      // the toString() of one of the arguments
+      sanitized = new StringBuilder();
+    }
+    try {
+      sanitized.append(command);
+      sanitizer.sanitize(args, sanitized);
+      return sanitized.toString();
+    } finally {
+      if (sanitized.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+        BUILDER.remove();
+      } else {
+        sanitized.setLength(0);
+      }
     }
-    return SANITIZERS
-        .getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT)
-        .sanitize(command, args);
+  }
+
+  private static CommandSanitizer findSanitizer(String command) {
+    int mask = COMMAND_NAMES.length - 1;
+    for (int index = hashIgnoreCase(command) & mask; ; index = (index + 1) & mask) {
+      String name = COMMAND_NAMES[index];
+      if (name == null) {
+        return DEFAULT;
+      }
+      if (equalsIgnoreCase(name, command)) {
+        return COMMAND_SANITIZERS[index];
+      }
+    }
+  }
+
+  private static int hashIgnoreCase(String command) {
+    int hash = 0;
+    for (int i = 0; i < command.length(); i++) {
+      hash = 31 * hash + toUpperCase(command.charAt(i));
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  // upperCaseName contains only upper case ASCII letters, digits and underscores
+  private static boolean equalsIgnoreCase(String upperCaseName, String command) {
+    if (upperCaseName.length() != command.length()) {
+      return false;
+    }
+    for (int i = 0; i < command.length(); i++) {
+      if (upperCaseName.charAt(i) != toUpperCase(command.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char toUpperCase(char c) {
+    return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+  }
+
+  private static String maskedStatement(String command, int numOfArgs) {
+    String[] statements =
+        MASKED_STATEMENTS.computeIfAbsent(
+            command, unused -> new String[MAX_CACHED_MASKED_ARGS + 1]);
+    // racing threads compute the same statement, so it doesn't matter which one wins
+    String statement = statements[numOfArgs];
+    if (statement == null) {
+      StringBuilder sanitized = new StringBuilder(command.length() + 2 * numOfArgs);
+      sanitized.append(command);
+      for (int i = 0; i < numOfArgs; ++i) {
+        sanitized.append(" ?");
+      }
+      statement = sanitized.toString();
+      statements[numOfArgs] = statement;
+    }
+    return statement;
   }
 
   interface CommandSanitizer {
-    String sanitize(String command, List<?> args);
+    /** Appends the sanitized {@code args} to {@code sanitized}, which contains the command. */
+    void sanitize(List<?> args, StringBuilder sanitized);
   }
 
   enum KeepAllArgs implements CommandSanitizer {
     INSTANCE;
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(List<?> args, StringBuilder sanitized) {
       for (Object arg : args) {
-        sanitized.append(" ").append(argToString(arg));
+        sanitized.append(' ').append(argToString(arg));
       }
-      return sanitized.toString();
     }
   }
 
@@ -395,15 +494,13 @@ public final class RedisCommandSanitizer {
     }
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(List<?> args, StringBuilder sanitized) {
       for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        sanitized.append(' ').append(argToString(args.get(i)));
       }
       for (int i = numOfArgsToKeep; i < args.size(); ++i) {
         sanitized.append(" ?");
       }
-      return sanitized.toString();
     }
   }
 
@@ -417,18 +514,16 @@ public final class RedisCommandSanitizer {
     }
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+    public void sanitize(List<?> args, StringBuilder sanitized) {
       // append all "initial" arguments before key-value pairs start
       for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        sanitized.append(' ').append(argToString(args.get(i)));
       }
 
       // loop over keys only
       for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-        sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        sanitized.append(' ').append(argToString(args.get(i))).append(" ?");
       }
-      return sanitized.toString();
     }
   }
 
@@ -436,9 +531,7 @@ public final class RedisCommandSanitizer {
     INSTANCE;
 
     @Override
-    public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
-
+    public void sanitize(List<?> args, StringBuilder sanitized) {
       // get the number of keys passed from the command itself (second arg)
       int numberOfKeys = 0;
       if (args.size() > 2) {
@@ -452,13 +545,12 @@ public final class RedisCommandSanitizer {
       int i = 0;
       // log the script, number of keys and all keys
       for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        sanitized.append(' ').append(argToString(args.get(i)));
       }
       // mask the rest
       for (; i < args.size(); ++i) {
         sanitized.append(" ?");
       }
-      return sanitized.toString();
     }
   }
 
@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db.internal;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import javax.annotation.Nullable;
+
+/**
+ * Holds the {@link DbConnectionPoolTracker} that a library instrumentation created when it started
+ * collecting the metrics of a connection pool, so that the javaagent instrumentation can feed it
+ * the connections it sees the pool hand out and take back.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class DbConnectionPoolTrackers {
+
+  private static final Cache<Object, DbConnectionPoolTracker> trackers = Cache.weak();
+
+  public static void register(Object connectionPool, DbConnectionPoolTracker tracker) {
+    trackers.put(connectionPool, tracker);
+  }
+
+  public static void unregister(Object connectionPool) {
+    trackers.remove(connectionPool);
+  }
+
+  @Nullable
+  public static DbConnectionPoolTracker get(Object connectionPool) {
+    return trackers.get(connectionPool);
+  }
+
+  private DbConnectionPoolTrackers() {}
+}
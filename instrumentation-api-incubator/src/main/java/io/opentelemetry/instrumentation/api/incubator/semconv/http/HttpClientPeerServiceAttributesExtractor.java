@@ -9,9 +9,9 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.incubator.semconv.net.PeerServiceResolver;
-import io.opentelemetry.instrumentation.api.incubator.semconv.net.internal.UrlParser;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.url.internal.ParsedUrl;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -90,6 +90,9 @@ public final class HttpClientPeerServiceAttributesExtractor<REQUEST, RESPONSE>
     if (urlFull == null) {
       return null;
     }
-    return UrlParser.getPath(urlFull);
+    // HttpClientAttributesExtractor has parsed the URL already, but extractors don't share state
+    // between onStart() and another extractor's onEnd(); the path is only resolved for peer
+    // service mappings that have a path, so the URL is rarely parsed a second time
+    return ParsedUrl.parse(urlFull).getPath();
   }
 }
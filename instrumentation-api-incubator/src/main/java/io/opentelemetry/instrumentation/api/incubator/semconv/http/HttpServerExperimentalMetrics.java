@@ -19,8 +19,10 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteCardinalityGuard;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link OperationListener} which keeps track of <a
@@ -54,6 +56,7 @@ public final class HttpServerExperimentalMetrics implements OperationListener {
   private final LongUpDownCounter activeRequests;
   private final LongHistogram requestSize;
   private final LongHistogram responseSize;
+  @Nullable private final HttpRouteCardinalityGuard routeGuard;
 
   private HttpServerExperimentalMetrics(Meter meter) {
     LongUpDownCounterBuilder activeRequestsBuilder =
@@ -79,6 +82,7 @@ public final class HttpServerExperimentalMetrics implements OperationListener {
             .ofLongs();
     HttpExperimentalMetricsAdvice.applyServerRequestSizeAdvice(responseSizeBuilder);
     responseSize = responseSizeBuilder.build();
+    routeGuard = HttpRouteCardinalityGuard.get(meter);
   }
 
   @Override
@@ -103,6 +107,9 @@ public final class HttpServerExperimentalMetrics implements OperationListener {
     activeRequests.add(-1, startAttributes, context);
 
     Attributes sizeAttributes = startAttributes.toBuilder().putAll(endAttributes).build();
+    if (routeGuard != null) {
+      sizeAttributes = routeGuard.limitRoute(sizeAttributes);
+    }
 
     Long requestBodySize = getHttpRequestBodySize(endAttributes, startAttributes);
     if (requestBodySize != null) {
@@ -20,9 +20,11 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.MetricAttributesCache;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link OperationListener} which keeps track of <a
@@ -40,6 +42,7 @@ public final class MessagingConsumerMetrics implements OperationListener {
   private static final Logger logger = Logger.getLogger(MessagingConsumerMetrics.class.getName());
 
   private final DoubleHistogram receiveDurationHistogram;
+  @Nullable private final MetricAttributesCache attributesCache;
   private final LongCounter receiveMessageCount;
 
   private MessagingConsumerMetrics(Meter meter) {
@@ -59,6 +62,7 @@ public final class MessagingConsumerMetrics implements OperationListener {
             .setUnit("{message}");
     MessagingMetricsAdvice.applyReceiveMessagesAdvice(longCounterBuilder);
     receiveMessageCount = longCounterBuilder.build();
+    attributesCache = MetricAttributesCache.create(MessagingMetricsAdvice.MESSAGING_ATTRIBUTES);
   }
 
   public static OperationMetrics get() {
@@ -84,7 +88,10 @@ public final class MessagingConsumerMetrics implements OperationListener {
       return;
     }
 
-    Attributes attributes = state.startAttributes().toBuilder().putAll(endAttributes).build();
+    Attributes attributes =
+        attributesCache != null
+            ? attributesCache.get(state.startAttributes(), endAttributes)
+            : state.startAttributes().toBuilder().putAll(endAttributes).build();
     receiveDurationHistogram.record(
         (endNanos - state.startTimeNanos()) / NANOS_PER_S, attributes, context);
 
@@ -34,16 +34,17 @@ final class MessagingMetricsAdvice {
   private static final AttributeKey<String> MESSAGING_DESTINATION_TEMPLATE =
       AttributeKey.stringKey("messaging.destination.template");
 
-  private static final List<AttributeKey<?>> MESSAGING_ATTRIBUTES =
-      asList(
-          MESSAGING_SYSTEM,
-          MESSAGING_DESTINATION_NAME,
-          MESSAGING_OPERATION,
-          MESSAGING_DESTINATION_PARTITION_ID,
-          MESSAGING_DESTINATION_TEMPLATE,
-          ErrorAttributes.ERROR_TYPE,
-          ServerAttributes.SERVER_PORT,
-          ServerAttributes.SERVER_ADDRESS);
+  static final List<AttributeKey<?>> MESSAGING_ATTRIBUTES =
+      unmodifiableList(
+          asList(
+              MESSAGING_SYSTEM,
+              MESSAGING_DESTINATION_NAME,
+              MESSAGING_OPERATION,
+              MESSAGING_DESTINATION_PARTITION_ID,
+              MESSAGING_DESTINATION_TEMPLATE,
+              ErrorAttributes.ERROR_TYPE,
+              ServerAttributes.SERVER_PORT,
+              ServerAttributes.SERVER_ADDRESS));
 
   static void applyPublishDurationAdvice(DoubleHistogramBuilder builder) {
     if (!(builder instanceof ExtendedDoubleHistogramBuilder)) {
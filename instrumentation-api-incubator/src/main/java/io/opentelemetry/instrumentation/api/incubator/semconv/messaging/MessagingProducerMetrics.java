@@ -17,9 +17,11 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.MetricAttributesCache;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link OperationListener} which keeps track of <a
@@ -34,6 +36,7 @@ public final class MessagingProducerMetrics implements OperationListener {
   private static final Logger logger = Logger.getLogger(MessagingProducerMetrics.class.getName());
 
   private final DoubleHistogram publishDurationHistogram;
+  @Nullable private final MetricAttributesCache attributesCache;
 
   private MessagingProducerMetrics(Meter meter) {
     DoubleHistogramBuilder durationBuilder =
@@ -44,6 +47,7 @@ public final class MessagingProducerMetrics implements OperationListener {
             .setUnit("s");
     MessagingMetricsAdvice.applyPublishDurationAdvice(durationBuilder);
     publishDurationHistogram = durationBuilder.build();
+    attributesCache = MetricAttributesCache.create(MessagingMetricsAdvice.MESSAGING_ATTRIBUTES);
   }
 
   public static OperationMetrics get() {
@@ -69,7 +73,10 @@ public final class MessagingProducerMetrics implements OperationListener {
       return;
     }
 
-    Attributes attributes = state.startAttributes().toBuilder().putAll(endAttributes).build();
+    Attributes attributes =
+        attributesCache != null
+            ? attributesCache.get(state.startAttributes(), endAttributes)
+            : state.startAttributes().toBuilder().putAll(endAttributes).build();
 
     publishDurationHistogram.record(
         (endNanos - state.startTimeNanos()) / NANOS_PER_S, attributes, context);
@@ -0,0 +1,140 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.net;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/** Binary prefix tree of IPv4 and IPv6 CIDR blocks. */
+final class CidrTree<T> {
+
+  private final Node<T> ipv4 = new Node<>();
+  private final Node<T> ipv6 = new Node<>();
+  private boolean empty = true;
+
+  boolean isEmpty() {
+    return empty;
+  }
+
+  T computeIfAbsent(byte[] address, int prefixLength, Supplier<T> valueSupplier) {
+    Node<T> node = root(address);
+    for (int bit = 0; bit < prefixLength; bit++) {
+      if (isSet(address, bit)) {
+        if (node.one == null) {
+          node.one = new Node<>();
+        }
+        node = node.one;
+      } else {
+        if (node.zero == null) {
+          node.zero = new Node<>();
+        }
+        node = node.zero;
+      }
+    }
+    if (node.value == null) {
+      node.value = valueSupplier.get();
+    }
+    empty = false;
+    return node.value;
+  }
+
+  /** Adds the values of all blocks containing {@code address}, the most specific one first. */
+  void collectMatches(byte[] address, List<T> matches) {
+    int first = matches.size();
+    @Nullable Node<T> node = root(address);
+    for (int bit = 0; node != null; bit++) {
+      if (node.value != null) {
+        matches.add(node.value);
+      }
+      if (bit == address.length * 8) {
+        break;
+      }
+      node = isSet(address, bit) ? node.one : node.zero;
+    }
+    Collections.reverse(matches.subList(first, matches.size()));
+  }
+
+  private Node<T> root(byte[] address) {
+    return address.length == 4 ? ipv4 : ipv6;
+  }
+
+  private static boolean isSet(byte[] address, int bit) {
+    return (address[bit / 8] & (0x80 >>> (bit % 8))) != 0;
+  }
+
+  /**
+   * Parses an IPv4 or IPv6 address literal, returns {@code null} if {@code host} is not an IP
+   * address. Never performs a DNS lookup.
+   */
+  @Nullable
+  static byte[] parseAddress(String host) {
+    byte[] address = parseIpv4(host);
+    return address != null ? address : parseIpv6(host);
+  }
+
+  @Nullable
+  private static byte[] parseIpv4(String host) {
+    byte[] address = new byte[4];
+    int part = 0;
+    int value = -1;
+    for (int i = 0; i < host.length(); i++) {
+      char c = host.charAt(i);
+      if (c >= '0' && c <= '9') {
+        value = (value < 0 ? 0 : value * 10) + (c - '0');
+        if (value > 255) {
+          return null;
+        }
+      } else if (c == '.' && value >= 0 && part < 3) {
+        address[part++] = (byte) value;
+        value = -1;
+      } else {
+        return null;
+      }
+    }
+    if (part != 3 || value < 0) {
+      return null;
+    }
+    address[3] = (byte) value;
+    return address;
+  }
+
+  @Nullable
+  private static byte[] parseIpv6(String host) {
+    if (host.length() > 2 && host.charAt(0) == '[' && host.charAt(host.length() - 1) == ']') {
+      host = host.substring(1, host.length() - 1);
+    }
+    int zoneIndex = host.indexOf('%');
+    if (zoneIndex >= 0) {
+      host = host.substring(0, zoneIndex);
+    }
+    if (host.indexOf(':') < 0) {
+      return null;
+    }
+    for (int i = 0; i < host.length(); i++) {
+      char c = host.charAt(i);
+      if (c != ':' && c != '.' && Character.digit(c, 16) < 0) {
+        return null;
+      }
+    }
+    try {
+      // strings containing ':' are always parsed as IPv6 literals and never looked up in the DNS;
+      // IPv4-mapped addresses are returned as IPv4 addresses
+      return InetAddress.getByName(host).getAddress();
+    } catch (UnknownHostException e) {
+      return null;
+    }
+  }
+
+  private static final class Node<T> {
+    @Nullable private Node<T> zero;
+    @Nullable private Node<T> one;
+    @Nullable private T value;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.net;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Trie of host name labels in reverse order, used to match wildcard host names like {@code
+ * *.example.com}. A wildcard matches every subdomain of its suffix, at any depth, but not the
+ * suffix itself; the empty suffix ({@code *}) matches every host.
+ */
+final class HostSuffixTrie<T> {
+
+  private final Map<String, HostSuffixTrie<T>> children = new HashMap<>();
+  @Nullable private T value;
+
+  boolean isEmpty() {
+    return value == null && children.isEmpty();
+  }
+
+  T computeIfAbsent(String suffix, Supplier<T> valueSupplier) {
+    HostSuffixTrie<T> node = this;
+    int end = suffix.length();
+    while (end > 0) {
+      int start = suffix.lastIndexOf('.', end - 1) + 1;
+      node =
+          node.children.computeIfAbsent(
+              suffix.substring(start, end), unused -> new HostSuffixTrie<>());
+      end = start - 1;
+    }
+    if (node.value == null) {
+      node.value = valueSupplier.get();
+    }
+    return node.value;
+  }
+
+  /** Adds the values of all wildcards matching {@code host}, the most specific one first. */
+  void collectMatches(String host, List<T> matches) {
+    int first = matches.size();
+    if (value != null && !host.isEmpty()) {
+      matches.add(value);
+    }
+    HostSuffixTrie<T> node = this;
+    int end = host.length();
+    while (end > 0) {
+      int dot = host.lastIndexOf('.', end - 1);
+      if (dot < 0) {
+        // a wildcard requires at least one more label in front of its suffix
+        break;
+      }
+      node = node.children.get(host.substring(dot + 1, end));
+      if (node == null) {
+        break;
+      }
+      if (node.value != null) {
+        matches.add(node.value);
+      }
+      end = dot;
+    }
+    Collections.reverse(matches.subList(first, matches.size()));
+  }
+}
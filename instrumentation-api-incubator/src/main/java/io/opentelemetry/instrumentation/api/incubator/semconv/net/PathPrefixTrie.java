@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.net;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/** Character trie mapping path prefixes to peer service names. */
+final class PathPrefixTrie {
+
+  private static final char[] NO_CHARS = new char[0];
+  private static final PathPrefixTrie[] NO_CHILDREN = new PathPrefixTrie[0];
+
+  // sorted, so that children can be looked up with a binary search
+  private char[] chars = NO_CHARS;
+  private PathPrefixTrie[] children = NO_CHILDREN;
+  @Nullable private String service;
+
+  void putIfAbsent(String path, String service) {
+    PathPrefixTrie node = this;
+    for (int i = 0; i < path.length(); i++) {
+      node = node.getOrAddChild(path.charAt(i));
+    }
+    if (node.service == null) {
+      node.service = service;
+    }
+  }
+
+  /** Returns the service mapped to the longest prefix of {@code path}, if any. */
+  @Nullable
+  String longestPrefixMatch(String path) {
+    PathPrefixTrie node = this;
+    String match = service;
+    for (int i = 0; i < path.length(); i++) {
+      int index = Arrays.binarySearch(node.chars, path.charAt(i));
+      if (index < 0) {
+        break;
+      }
+      node = node.children[index];
+      if (node.service != null) {
+        match = node.service;
+      }
+    }
+    return match;
+  }
+
+  private PathPrefixTrie getOrAddChild(char c) {
+    int index = Arrays.binarySearch(chars, c);
+    if (index >= 0) {
+      return children[index];
+    }
+    index = -index - 1;
+    PathPrefixTrie child = new PathPrefixTrie();
+
+    char[] newChars = new char[chars.length + 1];
+    System.arraycopy(chars, 0, newChars, 0, index);
+    System.arraycopy(chars, index, newChars, index + 1, chars.length - index);
+    newChars[index] = c;
+    PathPrefixTrie[] newChildren = new PathPrefixTrie[children.length + 1];
+    System.arraycopy(children, 0, newChildren, 0, index);
+    System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+    newChildren[index] = child;
+
+    chars = newChars;
+    children = newChildren;
+    return child;
+  }
+}
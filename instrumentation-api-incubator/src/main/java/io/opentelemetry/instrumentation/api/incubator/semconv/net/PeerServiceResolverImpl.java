@@ -5,95 +5,188 @@
 
 package io.opentelemetry.instrumentation.api.incubator.semconv.net;
 
-import static java.util.Comparator.comparing;
-import static java.util.Comparator.naturalOrder;
-import static java.util.Comparator.nullsFirst;
-
-import com.google.auto.value.AutoValue;
 import io.opentelemetry.instrumentation.api.incubator.semconv.net.internal.UrlParser;
-import java.util.Comparator;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
+/**
+ * Resolves peer services from a mapping whose keys are {@code host[:port][/path]}, where host is
+ * either an exact host name or IP address, a wildcard host name like {@code *.example.com} or
+ * {@code *}, or an IP CIDR block like {@code 10.0.0.0/8} or {@code [fd00::]/8} (which can't be
+ * combined with a port or path).
+ *
+ * <p>When several hosts match, exact hosts take precedence over wildcards and wildcards over CIDR
+ * blocks; more specific wildcards and blocks take precedence over less specific ones. For the first
+ * matching host that maps the requested port and path, a mapping with a port takes precedence over
+ * one without, and the longest matching path prefix takes precedence over shorter ones.
+ */
 class PeerServiceResolverImpl implements PeerServiceResolver {
 
-  private static final Comparator<ServiceMatcher> matcherComparator =
-      nullsFirst(
-          comparing(ServiceMatcher::getPort, nullsFirst(naturalOrder()))
-              .thenComparing(comparing(ServiceMatcher::getPath, nullsFirst(naturalOrder()))));
+  private static final HostRules[] NO_RULES = new HostRules[0];
 
-  private final Map<String, Map<ServiceMatcher, String>> mapping = new HashMap<>();
+  private final Map<String, HostRules> exactHosts = new HashMap<>();
+  @Nullable private final HostSuffixTrie<HostRules> wildcardHosts;
+  @Nullable private final CidrTree<HostRules> cidrBlocks;
+  // matching wildcards and CIDR blocks are only looked up once per host
+  @Nullable private final Cache<String, HostRules[]> matchingRulesCache;
+  private final Function<String, HostRules[]> matchingRulesFunction = this::findMatchingRules;
 
   PeerServiceResolverImpl(Map<String, String> peerServiceMapping) {
+    HostSuffixTrie<HostRules> wildcards = new HostSuffixTrie<>();
+    CidrTree<HostRules> cidrs = new CidrTree<>();
     peerServiceMapping.forEach(
         (key, serviceName) -> {
+          if (putCidrBlock(cidrs, key, serviceName)) {
+            return;
+          }
           String url = "https://" + key;
           String host = UrlParser.getHost(url);
-          Integer port = UrlParser.getPort(url);
-          String path = UrlParser.getPath(url);
-          Map<ServiceMatcher, String> matchers =
-              mapping.computeIfAbsent(host, x -> new HashMap<>());
-          matchers.putIfAbsent(ServiceMatcher.create(port, path), serviceName);
+          if (host == null) {
+            return;
+          }
+          HostRules rules;
+          if (host.equals("*")) {
+            rules = wildcards.computeIfAbsent("", HostRules::new);
+          } else if (host.startsWith("*.")) {
+            rules = wildcards.computeIfAbsent(host.substring(2), HostRules::new);
+          } else {
+            rules = exactHosts.computeIfAbsent(host, unused -> new HostRules());
+          }
+          rules.putIfAbsent(UrlParser.getPort(url), UrlParser.getPath(url), serviceName);
         });
+    wildcardHosts = wildcards.isEmpty() ? null : wildcards;
+    cidrBlocks = cidrs.isEmpty() ? null : cidrs;
+    matchingRulesCache = wildcardHosts == null && cidrBlocks == null ? null : Cache.bounded(1000);
+  }
+
+  private static boolean putCidrBlock(CidrTree<HostRules> cidrs, String key, String serviceName) {
+    int slash = key.lastIndexOf('/');
+    if (slash <= 0 || slash == key.length() - 1 || key.length() - slash > 4) {
+      return false;
+    }
+    int prefixLength = 0;
+    for (int i = slash + 1; i < key.length(); i++) {
+      char c = key.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+      prefixLength = prefixLength * 10 + (c - '0');
+    }
+    byte[] address = CidrTree.parseAddress(key.substring(0, slash));
+    if (address == null || prefixLength > address.length * 8) {
+      return false;
+    }
+    cidrs
+        .computeIfAbsent(address, prefixLength, HostRules::new)
+        .putIfAbsent(null, null, serviceName);
+    return true;
   }
 
   @Override
   public boolean isEmpty() {
-    return mapping.isEmpty();
+    return exactHosts.isEmpty() && matchingRulesCache == null;
   }
 
   @Override
   @Nullable
   public String resolveService(
       String host, @Nullable Integer port, @Nullable Supplier<String> pathSupplier) {
-    Map<ServiceMatcher, String> matchers = mapping.get(host);
-    if (matchers == null) {
-      return null;
+    if (matchingRulesCache == null) {
+      HostRules rules = exactHosts.get(host);
+      return rules == null ? null : rules.resolve(port, pathSupplier);
+    }
+    for (HostRules rules : matchingRulesCache.computeIfAbsent(host, matchingRulesFunction)) {
+      String service = rules.resolve(port, pathSupplier);
+      if (service != null) {
+        return service;
+      }
+    }
+    return null;
+  }
+
+  private HostRules[] findMatchingRules(String host) {
+    List<HostRules> matches = new ArrayList<>();
+    HostRules exact = exactHosts.get(host);
+    if (exact != null) {
+      matches.add(exact);
+    }
+    if (wildcardHosts != null) {
+      wildcardHosts.collectMatches(host, matches);
+    }
+    if (cidrBlocks != null) {
+      byte[] address = CidrTree.parseAddress(host);
+      if (address != null) {
+        cidrBlocks.collectMatches(address, matches);
+      }
     }
-    return matchers.entrySet().stream()
-        .filter(entry -> entry.getKey().matches(port, pathSupplier))
-        .max((o1, o2) -> matcherComparator.compare(o1.getKey(), o2.getKey()))
-        .map(Map.Entry::getValue)
-        .orElse(null);
+    return matches.isEmpty() ? NO_RULES : matches.toArray(NO_RULES);
   }
 
-  @AutoValue
-  abstract static class ServiceMatcher {
+  /** The services mapped to a single host, wildcard or CIDR block. */
+  private static final class HostRules {
 
-    static ServiceMatcher create(Integer port, String path) {
-      return new AutoValue_PeerServiceResolverImpl_ServiceMatcher(port, path);
+    private final PortRules anyPort = new PortRules();
+    private final Map<Integer, PortRules> byPort = new HashMap<>();
+
+    void putIfAbsent(@Nullable Integer port, @Nullable String path, String service) {
+      PortRules rules =
+          port == null ? anyPort : byPort.computeIfAbsent(port, unused -> new PortRules());
+      rules.putIfAbsent(path, service);
     }
 
     @Nullable
-    abstract Integer getPort();
+    String resolve(@Nullable Integer port, @Nullable Supplier<String> pathSupplier) {
+      if (port == null) {
+        return anyPort.resolve(pathSupplier);
+      }
+      PortRules rules = byPort.get(port);
+      if (rules != null) {
+        String service = rules.resolve(pathSupplier);
+        if (service != null) {
+          return service;
+        }
+      }
+      // mappings with a path but without a port only match requests without a port
+      return anyPort.service;
+    }
+  }
 
-    @Nullable
-    abstract String getPath();
+  private static final class PortRules {
+
+    @Nullable private String service;
+    @Nullable private PathPrefixTrie paths;
 
-    public boolean matches(Integer port, Supplier<String> pathSupplier) {
-      if (this.getPort() != null) {
-        if (!this.getPort().equals(port)) {
-          return false;
+    void putIfAbsent(@Nullable String path, String service) {
+      if (path == null || path.isEmpty()) {
+        if (this.service == null) {
+          this.service = service;
         }
+        return;
       }
-      if (this.getPath() != null && this.getPath().length() > 0) {
-        if (pathSupplier == null) {
-          return false;
-        }
+      if (paths == null) {
+        paths = new PathPrefixTrie();
+      }
+      paths.putIfAbsent(path, service);
+    }
+
+    @Nullable
+    String resolve(@Nullable Supplier<String> pathSupplier) {
+      if (paths != null && pathSupplier != null) {
         String path = pathSupplier.get();
-        if (path == null) {
-          return false;
-        }
-        if (!path.startsWith(this.getPath())) {
-          return false;
-        }
-        if (port != null) {
-          return port.equals(this.getPort());
+        if (path != null) {
+          String pathService = paths.longestPrefixMatch(path);
+          if (pathService != null) {
+            return pathService;
+          }
         }
       }
-      return true;
+      return service;
     }
   }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.POOL_NAME;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class DbConnectionPoolTrackerTest {
+
+  private final InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+  private final SdkMeterProvider meterProvider =
+      SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+  private final DbConnectionPoolMetrics metrics =
+      new DbConnectionPoolMetrics(meterProvider.get("test"), Attributes.of(POOL_NAME, "pool"));
+
+  @Test
+  void recordsWaitAndUseTime() {
+    DbConnectionPoolTracker tracker = DbConnectionPoolTracker.create(metrics, Duration.ZERO);
+    Object connection = new Object();
+
+    tracker.onAcquired(connection, Duration.ofMillis(5).toNanos());
+    tracker.onReleased(connection);
+    // closing a connection twice doesn't record anything
+    tracker.onReleased(connection);
+    // releasing a connection that wasn't acquired doesn't record anything
+    tracker.onReleased(new Object());
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("db.client.connections.wait_time")
+                    .hasUnit("ms")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasSum(5)
+                                        .hasAttributesSatisfying(equalTo(POOL_NAME, "pool")))),
+            metric ->
+                assertThat(metric)
+                    .hasName("db.client.connections.use_time")
+                    .hasUnit("ms")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributesSatisfying(equalTo(POOL_NAME, "pool")))));
+    assertThat(tracker.getLeakedCount()).isZero();
+  }
+
+  @Test
+  void recordsUseTimeWithoutWaitTime() {
+    DbConnectionPoolTracker tracker = DbConnectionPoolTracker.create(metrics, Duration.ZERO);
+    Object connection = new Object();
+
+    // the record of a connection is reused when the pool hands it out again
+    tracker.onAcquired(connection);
+    tracker.onReleased(connection);
+    tracker.onAcquired(connection);
+    tracker.onReleased(connection);
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("db.client.connections.use_time")
+                    .hasHistogramSatisfying(
+                        histogram -> histogram.hasPointsSatisfying(point -> point.hasCount(2))));
+  }
+
+  @Test
+  void doesNotCreateLeaksCounterWithoutThreshold() {
+    Meter meter = mock(Meter.class, delegatesTo(meterProvider.get("test")));
+    DbConnectionPoolTracker tracker =
+        DbConnectionPoolTracker.create(
+            new DbConnectionPoolMetrics(meter, Attributes.of(POOL_NAME, "pool")), Duration.ZERO);
+    Object connection = new Object();
+
+    tracker.onAcquired(connection, 0);
+    tracker.onReleased(connection);
+
+    verify(meter).histogramBuilder("db.client.connections.wait_time");
+    verify(meter).histogramBuilder("db.client.connections.use_time");
+    verify(meter, never()).counterBuilder(anyString());
+  }
+
+  @Test
+  void detectsLeaks() throws InterruptedException {
+    DbConnectionPoolTracker tracker = DbConnectionPoolTracker.create(metrics, Duration.ofMillis(1));
+    Object leaked = new Object();
+    Object released = new Object();
+
+    tracker.onAcquired(leaked, 0);
+    tracker.onAcquired(released, 0);
+    Thread.sleep(10);
+    tracker.onReleased(released);
+    // a leak is only reported once
+    Thread.sleep(10);
+    tracker.onAcquired(released, 0);
+
+    assertThat(tracker.getLeakedCount()).isEqualTo(1);
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("db.client.connections.leaks")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(1)
+                                        .hasAttributesSatisfying(equalTo(POOL_NAME, "pool")))));
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -41,6 +42,53 @@ class RedisCommandSanitizerTest {
     assertThat(result).isEqualTo("NEWAUTH ? ?");
   }
 
+  @Test
+  void lookupCommandIgnoringCase() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+    assertThat(sanitizer.sanitize("set", list("key", "value"))).isEqualTo("set key ?");
+    assertThat(sanitizer.sanitize("hMSet", list("hash", "key", "value")))
+        .isEqualTo("hMSet hash key ?");
+  }
+
+  @Test
+  void reuseMaskedStatements() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+    String result = sanitizer.sanitize("AUTH", list("password"));
+    assertThat(result).isEqualTo("AUTH ?");
+    assertThat(sanitizer.sanitize("AUTH", list("other"))).isSameAs(result);
+    assertThat(sanitizer.sanitize("auth", list("user", "password"))).isEqualTo("auth ? ?");
+  }
+
+  @Test
+  void keepCommandWithoutArguments() {
+    String command = "PING";
+    assertThat(RedisCommandSanitizer.create(true).sanitize(command, list())).isSameAs(command);
+  }
+
+  @Test
+  void decodeByteArrayArguments() {
+    List<Object> args =
+        Arrays.asList(
+            "key".getBytes(StandardCharsets.UTF_8),
+            "kl\u00fc\u00df".getBytes(StandardCharsets.UTF_8));
+    assertThat(RedisCommandSanitizer.create(true).sanitize("GET", args))
+        .isEqualTo("GET key kl\u00fc\u00df");
+  }
+
+  @Test
+  void sanitizeFromArgumentToString() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(false);
+    Object arg =
+        new Object() {
+          @Override
+          public String toString() {
+            return sanitizer.sanitize("GET", list("inner"));
+          }
+        };
+    assertThat(sanitizer.sanitize("SET", Arrays.asList("key", arg))).isEqualTo("SET key GET inner");
+    assertThat(sanitizer.sanitize("GET", list("key"))).isEqualTo("GET key");
+  }
+
   static class SanitizeArgs implements ArgumentsProvider {
 
     @Override
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.messaging;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogramBuilder;
+import io.opentelemetry.api.incubator.metrics.ExtendedLongCounterBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongCounterBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.semconv.ErrorAttributes;
+import io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.SetSystemProperty;
+import org.mockito.ArgumentCaptor;
+
+class MessagingConsumerMetricsTest {
+
+  @SuppressWarnings("deprecation") // using deprecated semconv
+  @Test
+  @SetSystemProperty(
+      key = "otel.instrumentation.common.experimental.metric-attributes-cache.enabled",
+      value = "true")
+  void reusesCachedAttributes() {
+    DoubleHistogram histogram = mock(DoubleHistogram.class);
+    DoubleHistogramBuilder histogramBuilder =
+        mock(ExtendedDoubleHistogramBuilder.class, RETURNS_SELF);
+    when(histogramBuilder.build()).thenReturn(histogram);
+    LongCounter counter = mock(LongCounter.class);
+    LongCounterBuilder counterBuilder = mock(ExtendedLongCounterBuilder.class, RETURNS_SELF);
+    when(counterBuilder.build()).thenReturn(counter);
+    Meter meter = mock(Meter.class);
+    when(meter.histogramBuilder(anyString())).thenReturn(histogramBuilder);
+    when(meter.counterBuilder(anyString())).thenReturn(counterBuilder);
+
+    OperationListener listener = MessagingConsumerMetrics.get().create(meter);
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put(MessagingIncubatingAttributes.MESSAGING_SYSTEM, "kafka")
+            .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "topic")
+            .put(MessagingIncubatingAttributes.MESSAGING_OPERATION, "receive")
+            .put(MessagingIncubatingAttributes.MESSAGING_BATCH_MESSAGE_COUNT, 2L)
+            .build();
+    Attributes responseAttributes =
+        Attributes.of(MessagingIncubatingAttributes.MESSAGING_DESTINATION_PARTITION_ID, "1");
+
+    for (int i = 0; i < 2; i++) {
+      Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+      listener.onEnd(context, responseAttributes, nanos(200));
+    }
+    Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+    listener.onEnd(
+        context,
+        responseAttributes.toBuilder().put(ErrorAttributes.ERROR_TYPE, "timeout").build(),
+        nanos(200));
+
+    ArgumentCaptor<Attributes> recorded = ArgumentCaptor.forClass(Attributes.class);
+    verify(histogram, times(3)).record(anyDouble(), recorded.capture(), any());
+    List<Attributes> attributes = recorded.getAllValues();
+    assertThat(attributes.get(0))
+        .isEqualTo(
+            Attributes.builder()
+                .put(MessagingIncubatingAttributes.MESSAGING_SYSTEM, "kafka")
+                .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "topic")
+                .put(MessagingIncubatingAttributes.MESSAGING_OPERATION, "receive")
+                .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_PARTITION_ID, "1")
+                .build());
+    assertThat(attributes.get(1)).isSameAs(attributes.get(0));
+    assertThat(attributes.get(2))
+        .isNotEqualTo(attributes.get(0))
+        .containsEntry(ErrorAttributes.ERROR_TYPE, "timeout");
+
+    ArgumentCaptor<Attributes> counted = ArgumentCaptor.forClass(Attributes.class);
+    verify(counter, times(3)).add(anyLong(), counted.capture(), any());
+    assertThat(counted.getAllValues()).isEqualTo(attributes);
+    verify(counter, times(3)).add(eq(2L), any(), any());
+  }
+
+  private static long nanos(int millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
@@ -7,8 +7,20 @@ package io.opentelemetry.instrumentation.api.incubator.semconv.messaging;
 
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.ExtendedDoubleHistogramBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
@@ -19,8 +31,11 @@ import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.semconv.ServerAttributes;
 import io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.SetSystemProperty;
+import org.mockito.ArgumentCaptor;
 
 class MessagingProducerMetricsTest {
 
@@ -120,6 +135,57 @@ class MessagingProducerMetricsTest {
                                 point -> point.hasSum(0.3 /* seconds */))));
   }
 
+  @SuppressWarnings("deprecation") // using deprecated semconv
+  @Test
+  @SetSystemProperty(
+      key = "otel.instrumentation.common.experimental.metric-attributes-cache.enabled",
+      value = "true")
+  void reusesCachedAttributes() {
+    DoubleHistogram histogram = mock(DoubleHistogram.class);
+    DoubleHistogramBuilder histogramBuilder =
+        mock(ExtendedDoubleHistogramBuilder.class, RETURNS_SELF);
+    when(histogramBuilder.build()).thenReturn(histogram);
+    Meter meter = mock(Meter.class);
+    when(meter.histogramBuilder(anyString())).thenReturn(histogramBuilder);
+
+    OperationListener listener = MessagingProducerMetrics.get().create(meter);
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put(MessagingIncubatingAttributes.MESSAGING_SYSTEM, "pulsar")
+            .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "topic")
+            .put(MessagingIncubatingAttributes.MESSAGING_OPERATION, "publish")
+            .build();
+    Attributes otherRequestAttributes =
+        requestAttributes.toBuilder()
+            .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "other-topic")
+            .build();
+
+    for (int i = 0; i < 2; i++) {
+      Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+      Attributes responseAttributes =
+          Attributes.of(MessagingIncubatingAttributes.MESSAGING_MESSAGE_ID, "1:1:0:" + i);
+      listener.onEnd(context, responseAttributes, nanos(200));
+    }
+    Context context = listener.onStart(Context.root(), otherRequestAttributes, nanos(100));
+    listener.onEnd(context, Attributes.empty(), nanos(200));
+
+    ArgumentCaptor<Attributes> recorded = ArgumentCaptor.forClass(Attributes.class);
+    verify(histogram, times(3)).record(anyDouble(), recorded.capture(), any());
+    List<Attributes> attributes = recorded.getAllValues();
+    assertThat(attributes.get(0))
+        .isEqualTo(
+            Attributes.builder()
+                .put(MessagingIncubatingAttributes.MESSAGING_SYSTEM, "pulsar")
+                .put(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "topic")
+                .put(MessagingIncubatingAttributes.MESSAGING_OPERATION, "publish")
+                .build());
+    assertThat(attributes.get(1)).isSameAs(attributes.get(0));
+    assertThat(attributes.get(2))
+        .isNotEqualTo(attributes.get(0))
+        .containsEntry(MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME, "other-topic");
+  }
+
   private static long nanos(int millis) {
     return TimeUnit.MILLISECONDS.toNanos(millis);
   }
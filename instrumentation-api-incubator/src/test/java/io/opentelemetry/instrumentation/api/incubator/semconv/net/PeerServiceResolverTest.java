@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.api.incubator.semconv.net;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -35,4 +36,66 @@ class PeerServiceResolverTest {
     assertEquals(
         "someOtherServiceAPI", peerServiceResolver.resolveService("1.2.3.4", null, () -> "/api"));
   }
+
+  @Test
+  void longestPathPrefix() {
+    Map<String, String> peerServiceMapping = new HashMap<>();
+    peerServiceMapping.put("example.com/api", "api");
+    peerServiceMapping.put("example.com/api/v2", "apiV2");
+    peerServiceMapping.put("example.com:8080/api", "api8080");
+
+    PeerServiceResolver peerServiceResolver = PeerServiceResolver.create(peerServiceMapping);
+
+    assertEquals(
+        "apiV2", peerServiceResolver.resolveService("example.com", null, () -> "/api/v2/x"));
+    assertEquals("api", peerServiceResolver.resolveService("example.com", null, () -> "/api/v1"));
+    assertNull(peerServiceResolver.resolveService("example.com", null, () -> "/other"));
+    assertEquals(
+        "api8080", peerServiceResolver.resolveService("example.com", 8080, () -> "/api/v2"));
+    assertNull(peerServiceResolver.resolveService("example.com", 9000, () -> "/api/v2"));
+  }
+
+  @Test
+  void wildcardHosts() {
+    Map<String, String> peerServiceMapping = new HashMap<>();
+    peerServiceMapping.put("*.payments.internal", "payments");
+    peerServiceMapping.put("*.eu.payments.internal:8443", "paymentsEu");
+    peerServiceMapping.put("ledger.payments.internal", "ledger");
+    peerServiceMapping.put("*", "default");
+
+    PeerServiceResolver peerServiceResolver = PeerServiceResolver.create(peerServiceMapping);
+
+    assertEquals("payments", peerServiceResolver.resolveService("a.payments.internal", 80, null));
+    assertEquals(
+        "payments", peerServiceResolver.resolveService("a.b.payments.internal", null, null));
+    assertEquals(
+        "paymentsEu", peerServiceResolver.resolveService("a.eu.payments.internal", 8443, null));
+    assertEquals(
+        "payments", peerServiceResolver.resolveService("a.eu.payments.internal", 443, null));
+    assertEquals(
+        "ledger", peerServiceResolver.resolveService("ledger.payments.internal", 80, null));
+    assertEquals("default", peerServiceResolver.resolveService("payments.internal", 80, null));
+    assertEquals("default", peerServiceResolver.resolveService("example.com", null, null));
+  }
+
+  @Test
+  void cidrBlocks() {
+    Map<String, String> peerServiceMapping = new HashMap<>();
+    peerServiceMapping.put("10.0.0.0/8", "internal");
+    peerServiceMapping.put("10.1.0.0/16", "database");
+    peerServiceMapping.put("10.1.2.3:5432", "primary");
+    peerServiceMapping.put("[fd00::]/8", "internalV6");
+
+    PeerServiceResolver peerServiceResolver = PeerServiceResolver.create(peerServiceMapping);
+
+    assertEquals("internal", peerServiceResolver.resolveService("10.200.0.1", 80, null));
+    assertEquals("database", peerServiceResolver.resolveService("10.1.2.4", 5432, null));
+    assertEquals("database", peerServiceResolver.resolveService("10.1.2.3", 6432, null));
+    assertEquals("primary", peerServiceResolver.resolveService("10.1.2.3", 5432, null));
+    assertEquals("internalV6", peerServiceResolver.resolveService("fd12::1", null, null));
+    assertEquals("internalV6", peerServiceResolver.resolveService("[fd12::1]", null, null));
+    assertNull(peerServiceResolver.resolveService("11.0.0.1", null, null));
+    assertNull(peerServiceResolver.resolveService("fe80::1", null, null));
+    assertNull(peerServiceResolver.resolveService("example.com", null, null));
+  }
 }
@@ -1,5 +1,3 @@
-import net.ltgt.gradle.errorprone.errorprone
-
 plugins {
   id("otel.java-conventions")
   id("otel.animalsniffer-conventions")
@@ -25,6 +23,8 @@ dependencies {
   testImplementation("org.junit-pioneer:junit-pioneer")
 
   jmhImplementation(project(":instrumentation-api-incubator"))
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk-testing")
 }
 
 tasks {
@@ -32,13 +32,6 @@ tasks {
     exclude("**/concurrentlinkedhashmap/**")
   }
 
-  // TODO this should live in jmh-conventions
-  named<JavaCompile>("jmhCompileGeneratedClasses") {
-    options.errorprone {
-      isEnabled.set(false)
-    }
-  }
-
   withType<Test>().configureEach {
     // required on jdk17
     jvmArgs("--add-opens=java.base/java.lang=ALL-UNNAMED")
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import static java.util.Arrays.asList;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.DbGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.HttpClientGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.HttpServerGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.MessagingGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesExtractor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the cost of each semconv {@link AttributesExtractor} in isolation. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class AttributesExtractorBenchmark {
+
+  private static final BenchmarkRequest REQUEST = BenchmarkRequest.INSTANCE;
+  private static final Integer RESPONSE = 200;
+
+  private static final AttributesExtractor<BenchmarkRequest, Integer> HTTP_SERVER =
+      HttpServerAttributesExtractor.create(HttpServerGetter.INSTANCE);
+  private static final AttributesExtractor<BenchmarkRequest, Integer> HTTP_SERVER_CAPTURED_HEADERS =
+      HttpServerAttributesExtractor.builder(HttpServerGetter.INSTANCE)
+          .setCapturedRequestHeaders(asList("x-request-id", "content-length"))
+          .setCapturedResponseHeaders(asList("content-type"))
+          .build();
+  private static final AttributesExtractor<BenchmarkRequest, Integer> HTTP_CLIENT =
+      HttpClientAttributesExtractor.create(HttpClientGetter.INSTANCE);
+  private static final AttributesExtractor<BenchmarkRequest, Integer> NETWORK =
+      NetworkAttributesExtractor.create(HttpServerGetter.INSTANCE);
+  private static final AttributesExtractor<BenchmarkRequest, Void> DB_CLIENT =
+      DbClientAttributesExtractor.create(DbGetter.INSTANCE);
+  private static final AttributesExtractor<BenchmarkRequest, Void> MESSAGING =
+      MessagingAttributesExtractor.create(MessagingGetter.INSTANCE, MessageOperation.PUBLISH);
+
+  @Benchmark
+  public Attributes httpServer() {
+    return extract(HTTP_SERVER, RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes httpServerCapturedHeaders() {
+    return extract(HTTP_SERVER_CAPTURED_HEADERS, RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes httpClient() {
+    return extract(HTTP_CLIENT, RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes network() {
+    return extract(NETWORK, RESPONSE);
+  }
+
+  @Benchmark
+  public Attributes dbClient() {
+    return extract(DB_CLIENT, null);
+  }
+
+  @Benchmark
+  public Attributes messaging() {
+    return extract(MESSAGING, null);
+  }
+
+  private static <RESPONSE> Attributes extract(
+      AttributesExtractor<BenchmarkRequest, RESPONSE> extractor, RESPONSE response) {
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onStart(attributes, Context.root(), REQUEST);
+    extractor.onEnd(attributes, Context.root(), REQUEST, response, null);
+    return attributes.build();
+  }
+}
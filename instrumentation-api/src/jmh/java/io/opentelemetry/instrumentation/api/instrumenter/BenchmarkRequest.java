@@ -0,0 +1,265 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * A request with typical values of HTTP, database and messaging requests, used as the request of
+ * all benchmarked extractors and instrumenters. The HTTP status code is used as the response.
+ */
+final class BenchmarkRequest {
+
+  static final BenchmarkRequest INSTANCE = new BenchmarkRequest();
+
+  private static final InetSocketAddress PEER_ADDRESS = new InetSocketAddress("127.0.0.1", 54321);
+
+  private final Map<String, List<String>> headers = new HashMap<>();
+
+  private BenchmarkRequest() {
+    headers.put("host", singletonList("opentelemetry.io:8080"));
+    headers.put("user-agent", singletonList("Mozilla/5.0 (X11; Linux x86_64) OpenTelemetryBot"));
+    headers.put("content-length", singletonList("1024"));
+    headers.put("x-request-id", singletonList("4bf92f3577b34da6a3ce929d0e0e4736"));
+  }
+
+  List<String> getHeader(String name) {
+    List<String> values = headers.get(name.toLowerCase(Locale.ROOT));
+    return values == null ? emptyList() : values;
+  }
+
+  enum HttpServerGetter implements HttpServerAttributesGetter<BenchmarkRequest, Integer> {
+    INSTANCE;
+
+    @Override
+    public String getHttpRequestMethod(BenchmarkRequest request) {
+      return "GET";
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(BenchmarkRequest request, String name) {
+      return request.getHeader(name);
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(
+        BenchmarkRequest request, Integer response, @Nullable Throwable error) {
+      return response;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(
+        BenchmarkRequest request, Integer response, String name) {
+      return emptyList();
+    }
+
+    @Override
+    public String getUrlScheme(BenchmarkRequest request) {
+      return "https";
+    }
+
+    @Override
+    public String getUrlPath(BenchmarkRequest request) {
+      return "/api/v1/users/42";
+    }
+
+    @Override
+    public String getUrlQuery(BenchmarkRequest request) {
+      return "expand=orders&limit=10";
+    }
+
+    @Override
+    public String getHttpRoute(BenchmarkRequest request) {
+      return "/api/v1/users/{id}";
+    }
+
+    @Override
+    public String getNetworkProtocolName(BenchmarkRequest request, @Nullable Integer response) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(BenchmarkRequest request, @Nullable Integer response) {
+      return "1.1";
+    }
+
+    @Override
+    public InetSocketAddress getNetworkPeerInetSocketAddress(
+        BenchmarkRequest request, @Nullable Integer response) {
+      return PEER_ADDRESS;
+    }
+  }
+
+  enum HttpClientGetter implements HttpClientAttributesGetter<BenchmarkRequest, Integer> {
+    INSTANCE;
+
+    @Override
+    public String getUrlFull(BenchmarkRequest request) {
+      return "https://opentelemetry.io:8080/api/v1/users/42?expand=orders&limit=10";
+    }
+
+    @Override
+    public String getHttpRequestMethod(BenchmarkRequest request) {
+      return "GET";
+    }
+
+    @Override
+    public List<String> getHttpRequestHeader(BenchmarkRequest request, String name) {
+      return request.getHeader(name);
+    }
+
+    @Override
+    public Integer getHttpResponseStatusCode(
+        BenchmarkRequest request, Integer response, @Nullable Throwable error) {
+      return response;
+    }
+
+    @Override
+    public List<String> getHttpResponseHeader(
+        BenchmarkRequest request, Integer response, String name) {
+      return emptyList();
+    }
+
+    @Override
+    public String getServerAddress(BenchmarkRequest request) {
+      return "opentelemetry.io";
+    }
+
+    @Override
+    public Integer getServerPort(BenchmarkRequest request) {
+      return 8080;
+    }
+
+    @Override
+    public String getNetworkProtocolName(BenchmarkRequest request, @Nullable Integer response) {
+      return "http";
+    }
+
+    @Override
+    public String getNetworkProtocolVersion(BenchmarkRequest request, @Nullable Integer response) {
+      return "1.1";
+    }
+
+    @Override
+    public InetSocketAddress getNetworkPeerInetSocketAddress(
+        BenchmarkRequest request, @Nullable Integer response) {
+      return PEER_ADDRESS;
+    }
+  }
+
+  enum DbGetter implements DbClientAttributesGetter<BenchmarkRequest> {
+    INSTANCE;
+
+    @Override
+    public String getDbSystem(BenchmarkRequest request) {
+      return "postgresql";
+    }
+
+    @Deprecated
+    @Override
+    @Nullable
+    public String getUser(BenchmarkRequest request) {
+      return "app";
+    }
+
+    @Override
+    public String getDbNamespace(BenchmarkRequest request) {
+      return "inventory";
+    }
+
+    @Deprecated
+    @Override
+    @Nullable
+    public String getConnectionString(BenchmarkRequest request) {
+      return null;
+    }
+
+    @Override
+    public String getDbQueryText(BenchmarkRequest request) {
+      return "SELECT id, name FROM users WHERE id = ?";
+    }
+
+    @Override
+    public String getDbOperationName(BenchmarkRequest request) {
+      return "SELECT";
+    }
+  }
+
+  enum MessagingGetter implements MessagingAttributesGetter<BenchmarkRequest, Void> {
+    INSTANCE;
+
+    @Override
+    public String getSystem(BenchmarkRequest request) {
+      return "kafka";
+    }
+
+    @Override
+    public String getDestination(BenchmarkRequest request) {
+      return "orders";
+    }
+
+    @Override
+    @Nullable
+    public String getDestinationTemplate(BenchmarkRequest request) {
+      return null;
+    }
+
+    @Override
+    public boolean isTemporaryDestination(BenchmarkRequest request) {
+      return false;
+    }
+
+    @Override
+    public boolean isAnonymousDestination(BenchmarkRequest request) {
+      return false;
+    }
+
+    @Override
+    @Nullable
+    public String getConversationId(BenchmarkRequest request) {
+      return null;
+    }
+
+    @Override
+    public Long getMessageBodySize(BenchmarkRequest request) {
+      return 1024L;
+    }
+
+    @Override
+    @Nullable
+    public Long getMessageEnvelopeSize(BenchmarkRequest request) {
+      return null;
+    }
+
+    @Override
+    public String getMessageId(BenchmarkRequest request, @Nullable Void response) {
+      return "42";
+    }
+
+    @Override
+    public String getClientId(BenchmarkRequest request) {
+      return "producer-1";
+    }
+
+    @Override
+    @Nullable
+    public Long getBatchMessageCount(BenchmarkRequest request, @Nullable Void response) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientSpanNameExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingProducerMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingSpanNameExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.DbGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.HttpClientGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.HttpServerGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.BenchmarkRequest.MessagingGetter;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientMetrics;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerMetrics;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerRoute;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanNameExtractor;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpSpanStatusExtractor;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures complete {@link Instrumenter}s composed like the typical HTTP, database and messaging
+ * instrumentations, with the SDK recording spans and metrics. Spans are exported to an exporter
+ * that discards them, so that only the cost of the instrumentation and the SDK is measured.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class InstrumenterPipelineBenchmark {
+
+  private static final BenchmarkRequest REQUEST = BenchmarkRequest.INSTANCE;
+  private static final Integer RESPONSE = 200;
+
+  private OpenTelemetrySdk openTelemetry;
+  private Instrumenter<BenchmarkRequest, Integer> httpServer;
+  private Instrumenter<BenchmarkRequest, Integer> httpClient;
+  private Instrumenter<BenchmarkRequest, Void> dbClient;
+  private Instrumenter<BenchmarkRequest, Void> messagingProducer;
+  private Context serverContext;
+  private Context clientContext;
+
+  @Setup
+  public void setup() {
+    openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(
+                SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(SpanExporter.composite()))
+                    .build())
+            .setMeterProvider(
+                SdkMeterProvider.builder()
+                    .registerMetricReader(InMemoryMetricReader.create())
+                    .build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+
+    httpServer = httpServerInstrumenter(openTelemetry);
+    httpClient = httpClientInstrumenter(openTelemetry);
+    dbClient =
+        Instrumenter.<BenchmarkRequest, Void>builder(
+                openTelemetry, "benchmark", DbClientSpanNameExtractor.create(DbGetter.INSTANCE))
+            .addAttributesExtractor(DbClientAttributesExtractor.create(DbGetter.INSTANCE))
+            .buildInstrumenter(SpanKindExtractor.alwaysClient());
+    messagingProducer =
+        Instrumenter.<BenchmarkRequest, Void>builder(
+                openTelemetry,
+                "benchmark",
+                MessagingSpanNameExtractor.create(
+                    MessagingGetter.INSTANCE, MessageOperation.PUBLISH))
+            .addAttributesExtractor(
+                MessagingAttributesExtractor.create(
+                    MessagingGetter.INSTANCE, MessageOperation.PUBLISH))
+            .addOperationMetrics(MessagingProducerMetrics.get())
+            .buildProducerInstrumenter((carrier, key, value) -> {});
+
+    serverContext = httpServer.start(Context.root(), REQUEST);
+    clientContext = httpClient.start(serverContext, REQUEST);
+  }
+
+  @TearDown
+  public void tearDown() {
+    httpClient.end(clientContext, REQUEST, RESPONSE, null);
+    httpServer.end(serverContext, REQUEST, RESPONSE, null);
+    openTelemetry.close();
+  }
+
+  private static Instrumenter<BenchmarkRequest, Integer> httpServerInstrumenter(
+      OpenTelemetry openTelemetry) {
+    return Instrumenter.<BenchmarkRequest, Integer>builder(
+            openTelemetry, "benchmark", HttpSpanNameExtractor.create(HttpServerGetter.INSTANCE))
+        .setSpanStatusExtractor(HttpSpanStatusExtractor.create(HttpServerGetter.INSTANCE))
+        .addAttributesExtractor(HttpServerAttributesExtractor.create(HttpServerGetter.INSTANCE))
+        .addContextCustomizer(HttpServerRoute.create(HttpServerGetter.INSTANCE))
+        .addOperationMetrics(HttpServerMetrics.get())
+        .buildServerInstrumenter(HeadersGetter.INSTANCE);
+  }
+
+  private static Instrumenter<BenchmarkRequest, Integer> httpClientInstrumenter(
+      OpenTelemetry openTelemetry) {
+    return Instrumenter.<BenchmarkRequest, Integer>builder(
+            openTelemetry, "benchmark", HttpSpanNameExtractor.create(HttpClientGetter.INSTANCE))
+        .setSpanStatusExtractor(HttpSpanStatusExtractor.create(HttpClientGetter.INSTANCE))
+        .addAttributesExtractor(HttpClientAttributesExtractor.create(HttpClientGetter.INSTANCE))
+        .addOperationMetrics(HttpClientMetrics.get())
+        .buildClientInstrumenter((carrier, key, value) -> {});
+  }
+
+  @Benchmark
+  public Context httpServer() {
+    return run(httpServer, Context.root(), RESPONSE);
+  }
+
+  @Benchmark
+  public Context httpClient() {
+    return run(httpClient, serverContext, RESPONSE);
+  }
+
+  /** A client call nested in another client call, which is suppressed. */
+  @Benchmark
+  public boolean httpClientSuppressed() {
+    return httpClient.shouldStart(clientContext, REQUEST);
+  }
+
+  @Benchmark
+  public Context dbClient() {
+    return run(dbClient, serverContext, null);
+  }
+
+  @Benchmark
+  public Context messagingProducer() {
+    return run(messagingProducer, serverContext, null);
+  }
+
+  private static <RESPONSE> Context run(
+      Instrumenter<BenchmarkRequest, RESPONSE> instrumenter,
+      Context parentContext,
+      RESPONSE response) {
+    if (!instrumenter.shouldStart(parentContext, REQUEST)) {
+      return parentContext;
+    }
+    Context context = instrumenter.start(parentContext, REQUEST);
+    instrumenter.end(context, REQUEST, response, null);
+    return context;
+  }
+
+  enum HeadersGetter implements TextMapGetter<BenchmarkRequest> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(BenchmarkRequest carrier) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    @Nullable
+    public String get(@Nullable BenchmarkRequest carrier, String key) {
+      if (carrier == null) {
+        return null;
+      }
+      List<String> values = carrier.getHeader(key);
+      return values.isEmpty() ? null : values.get(0);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingConsumerMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.messaging.MessagingProducerMetrics;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpClientMetrics;
+import io.opentelemetry.instrumentation.api.semconv.http.HttpServerMetrics;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.semconv.HttpAttributes;
+import io.opentelemetry.semconv.NetworkAttributes;
+import io.opentelemetry.semconv.ServerAttributes;
+import io.opentelemetry.semconv.UrlAttributes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of recording the duration metrics of an operation with the {@link
+ * OperationListener}s of the HTTP and messaging semantic conventions, using the SDK.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class OperationListenerBenchmark {
+
+  private static final Attributes HTTP_SERVER_START_ATTRIBUTES =
+      Attributes.builder()
+          .put(HttpAttributes.HTTP_REQUEST_METHOD, "GET")
+          .put(UrlAttributes.URL_SCHEME, "https")
+          .put(UrlAttributes.URL_PATH, "/api/v1/users/42")
+          .put(HttpAttributes.HTTP_ROUTE, "/api/v1/users/{id}")
+          .put(ServerAttributes.SERVER_ADDRESS, "opentelemetry.io")
+          .put(ServerAttributes.SERVER_PORT, 8080L)
+          .build();
+  private static final Attributes HTTP_CLIENT_START_ATTRIBUTES =
+      Attributes.builder()
+          .put(HttpAttributes.HTTP_REQUEST_METHOD, "GET")
+          .put(UrlAttributes.URL_FULL, "https://opentelemetry.io:8080/api/v1/users/42")
+          .put(ServerAttributes.SERVER_ADDRESS, "opentelemetry.io")
+          .put(ServerAttributes.SERVER_PORT, 8080L)
+          .build();
+  private static final Attributes HTTP_END_ATTRIBUTES =
+      Attributes.builder()
+          .put(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L)
+          .put(NetworkAttributes.NETWORK_PROTOCOL_VERSION, "1.1")
+          .build();
+  private static final Attributes MESSAGING_START_ATTRIBUTES =
+      Attributes.builder()
+          .put("messaging.system", "kafka")
+          .put("messaging.destination.name", "orders")
+          .put("messaging.operation.name", "publish")
+          .build();
+  private static final Attributes MESSAGING_CONSUMER_START_ATTRIBUTES =
+      Attributes.builder()
+          .put("messaging.system", "kafka")
+          .put("messaging.destination.name", "orders")
+          .put("messaging.destination.partition.id", "3")
+          .put("messaging.operation", "receive")
+          .put("messaging.client_id", "consumer-orders-1")
+          .build();
+  private static final Attributes MESSAGING_CONSUMER_END_ATTRIBUTES =
+      Attributes.builder()
+          .put("messaging.message.id", "3-1024")
+          .put("messaging.batch.message_count", 10L)
+          .build();
+
+  @Param({"false", "true"})
+  public boolean metricAttributesCache;
+
+  private SdkMeterProvider meterProvider;
+  private OperationListener httpServerMetrics;
+  private OperationListener httpClientMetrics;
+  private OperationListener messagingProducerMetrics;
+  private OperationListener messagingConsumerMetrics;
+
+  @Setup
+  public void setup() {
+    System.setProperty(
+        "otel.instrumentation.common.experimental.metric-attributes-cache.enabled",
+        String.valueOf(metricAttributesCache));
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    Meter meter = meterProvider.get("benchmark");
+    httpServerMetrics = HttpServerMetrics.get().create(meter);
+    httpClientMetrics = HttpClientMetrics.get().create(meter);
+    messagingProducerMetrics = MessagingProducerMetrics.get().create(meter);
+    messagingConsumerMetrics = MessagingConsumerMetrics.get().create(meter);
+  }
+
+  @TearDown
+  public void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  public Context httpServerMetrics() {
+    return record(httpServerMetrics, HTTP_SERVER_START_ATTRIBUTES, HTTP_END_ATTRIBUTES);
+  }
+
+  @Benchmark
+  public Context httpClientMetrics() {
+    return record(httpClientMetrics, HTTP_CLIENT_START_ATTRIBUTES, HTTP_END_ATTRIBUTES);
+  }
+
+  @Benchmark
+  public Context messagingProducerMetrics() {
+    return record(messagingProducerMetrics, MESSAGING_START_ATTRIBUTES, Attributes.empty());
+  }
+
+  @Benchmark
+  public Context messagingConsumerMetrics() {
+    return record(
+        messagingConsumerMetrics,
+        MESSAGING_CONSUMER_START_ATTRIBUTES,
+        MESSAGING_CONSUMER_END_ATTRIBUTES);
+  }
+
+  private static Context record(
+      OperationListener listener, Attributes startAttributes, Attributes endAttributes) {
+    long startNanos = System.nanoTime();
+    Context context = listener.onStart(Context.root(), startAttributes, startNanos);
+    listener.onEnd(context, endAttributes, startNanos + 1_000_000);
+    return context;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.internal.BulkTextMapGetter;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A carrier holding the values of all propagator fields, fetched from the request with a single
+ * {@link BulkTextMapGetter#getAll(Object, String[], String[])} call.
+ */
+final class PrefetchedHeaders<REQUEST> {
+
+  @Nullable
+  static String[] normalizeFields(Collection<String> fields) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (String field : fields) {
+      keys.add(field.toLowerCase(Locale.ROOT));
+    }
+    return keys.isEmpty() ? null : keys.toArray(new String[0]);
+  }
+
+  @Nullable private final REQUEST request;
+  private final String[] values;
+
+  PrefetchedHeaders(BulkTextMapGetter<REQUEST> getter, @Nullable REQUEST request, String[] keys) {
+    this.request = request;
+    this.values = new String[keys.length];
+    getter.getAll(request, keys, values);
+  }
+
+  static final class Getter<REQUEST> implements TextMapGetter<PrefetchedHeaders<REQUEST>> {
+
+    private final TextMapGetter<REQUEST> delegate;
+    private final String[] keys;
+
+    Getter(TextMapGetter<REQUEST> delegate, String[] keys) {
+      this.delegate = delegate;
+      this.keys = keys;
+    }
+
+    @Override
+    public Iterable<String> keys(PrefetchedHeaders<REQUEST> carrier) {
+      return delegate.keys(carrier.request);
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable PrefetchedHeaders<REQUEST> carrier, String key) {
+      if (carrier == null) {
+        return null;
+      }
+      for (int i = 0; i < keys.length; i++) {
+        // propagators pass their field constants, so usually the identity check already matches
+        if (keys[i] == key || keys[i].equalsIgnoreCase(key)) {
+          return carrier.values[i];
+        }
+      }
+      // not one of the propagator fields, e.g. a prefixed baggage key found through keys()
+      return delegate.get(carrier.request, key);
+    }
+  }
+}
@@ -8,26 +8,47 @@ package io.opentelemetry.instrumentation.api.instrumenter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.internal.BulkTextMapGetter;
 import io.opentelemetry.instrumentation.api.internal.ContextPropagationDebug;
+import javax.annotation.Nullable;
 
 final class PropagatingFromUpstreamInstrumenter<REQUEST, RESPONSE>
     extends Instrumenter<REQUEST, RESPONSE> {
 
   private final ContextPropagators propagators;
   private final TextMapGetter<REQUEST> getter;
+  // non-null only when the getter supports fetching all propagator fields at once
+  @Nullable private final String[] prefetchedKeys;
+  @Nullable private final PrefetchedHeaders.Getter<REQUEST> prefetchedHeadersGetter;
 
   PropagatingFromUpstreamInstrumenter(
       InstrumenterBuilder<REQUEST, RESPONSE> builder, TextMapGetter<REQUEST> getter) {
     super(builder);
     this.propagators = builder.openTelemetry.getPropagators();
     this.getter = getter;
+    this.prefetchedKeys =
+        getter instanceof BulkTextMapGetter
+            ? PrefetchedHeaders.normalizeFields(propagators.getTextMapPropagator().fields())
+            : null;
+    this.prefetchedHeadersGetter =
+        prefetchedKeys != null ? new PrefetchedHeaders.Getter<>(getter, prefetchedKeys) : null;
   }
 
   @Override
   public Context start(Context parentContext, REQUEST request) {
     ContextPropagationDebug.debugContextLeakIfEnabled();
 
-    Context extracted = propagators.getTextMapPropagator().extract(parentContext, request, getter);
+    Context extracted;
+    if (prefetchedKeys != null && prefetchedHeadersGetter != null) {
+      PrefetchedHeaders<REQUEST> headers =
+          new PrefetchedHeaders<>((BulkTextMapGetter<REQUEST>) getter, request, prefetchedKeys);
+      extracted =
+          propagators
+              .getTextMapPropagator()
+              .extract(parentContext, headers, prefetchedHeadersGetter);
+    } else {
+      extracted = propagators.getTextMapPropagator().extract(parentContext, request, getter);
+    }
     return super.start(extracted, request);
   }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.context.propagation.TextMapGetter;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TextMapGetter} that is able to look up several keys at once, usually in a single pass
+ * over the headers of the carrier. Server instrumenters built with a getter implementing this
+ * interface look up all {@linkplain io.opentelemetry.context.propagation.TextMapPropagator#fields()
+ * propagator fields} with a single {@link #getAll(Object, String[], String[])} call before
+ * extracting the context, instead of one case-insensitive lookup per field.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface BulkTextMapGetter<C> extends TextMapGetter<C> {
+
+  /**
+   * Stores in {@code values[i]} the value that {@link #get(Object, String)} would return for {@code
+   * keys[i]}, or leaves it {@code null} if the carrier doesn't contain the key. All {@code keys}
+   * are lowercase and distinct.
+   */
+  void getAll(@Nullable C carrier, String[] keys, @Nullable String[] values);
+}
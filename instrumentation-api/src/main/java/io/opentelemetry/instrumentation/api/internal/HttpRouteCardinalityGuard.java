@@ -0,0 +1,171 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.semconv.HttpAttributes;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the number of distinct {@code http.route} values that server metrics are recorded with
+ * bounded. Frameworks and custom route getters sometimes report the raw request path instead of the
+ * route template, which would create a new time series for each path.
+ *
+ * <p>The guard is disabled unless {@code
+ * otel.instrumentation.http.server.experimental.route-cardinality-limit} is set to a positive
+ * number. The first that many distinct routes are recorded as they are. Past that limit, new routes
+ * are recorded with the path segments that look like identifiers (numbers, UUIDs and long
+ * hexadecimal strings) replaced with {@code {id}}. The templated routes are bounded by the same
+ * limit, and routes that have no such segments or that are templated past that limit are recorded
+ * as {@code _OTHER}.
+ *
+ * <p>The server metrics of an instrumenter share one guard, so that they collapse the same routes.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class HttpRouteCardinalityGuard {
+
+  private static final Logger logger = Logger.getLogger(HttpRouteCardinalityGuard.class.getName());
+
+  static final String OTHER_ROUTE = "_OTHER";
+  static final String ID_SEGMENT = "{id}";
+
+  // the meter is created once per instrumenter and passed to all of its operation listeners
+  private static final Cache<Meter, HttpRouteCardinalityGuard> guards = Cache.weak();
+
+  private final int limit;
+  private final Set<String> routes = ConcurrentHashMap.newKeySet();
+  private final Set<String> templatedRoutes = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean limitReachedLogged = new AtomicBoolean();
+
+  /**
+   * Returns the guard shared by the server metrics that are recorded with the passed meter, or null
+   * if the guard is disabled.
+   */
+  @Nullable
+  public static HttpRouteCardinalityGuard get(Meter meter) {
+    int limit =
+        ConfigPropertiesUtil.getInt(
+            "otel.instrumentation.http.server.experimental.route-cardinality-limit", 0);
+    if (limit <= 0) {
+      return null;
+    }
+    return guards.computeIfAbsent(meter, unused -> new HttpRouteCardinalityGuard(limit));
+  }
+
+  // visible for tests
+  HttpRouteCardinalityGuard(int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * Returns the passed attributes with their {@code http.route} {@linkplain #limit(String)
+   * limited}, or the passed attributes themselves if the route didn't have to be changed.
+   */
+  @SuppressWarnings("ReferenceEquality") // limit() returns the same instance if nothing changed
+  public Attributes limitRoute(Attributes attributes) {
+    String route = attributes.get(HttpAttributes.HTTP_ROUTE);
+    if (route == null) {
+      return attributes;
+    }
+    String limitedRoute = limit(route);
+    return limitedRoute == route
+        ? attributes
+        : attributes.toBuilder().put(HttpAttributes.HTTP_ROUTE, limitedRoute).build();
+  }
+
+  /**
+   * Returns the route that the metrics should be recorded with; the passed instance itself unless
+   * the route was collapsed because the limit of distinct routes was reached.
+   */
+  public String limit(String route) {
+    if (add(routes, route)) {
+      return route;
+    }
+
+    if (limitReachedLogged.compareAndSet(false, true)) {
+      logger.log(
+          WARNING,
+          "More than {0} distinct http.route values were seen, the routes that are seen from now on"
+              + " are collapsed. The route getter of the server instrumentation may be returning"
+              + " raw paths instead of route templates, e.g. {1}",
+          new Object[] {limit, route});
+    }
+    String templated = template(route);
+    return templated != null && add(templatedRoutes, templated) ? templated : OTHER_ROUTE;
+  }
+
+  // returns whether the route was seen before or was added because the limit wasn't reached yet
+  private boolean add(Set<String> seen, String route) {
+    if (seen.contains(route)) {
+      return true;
+    }
+    if (seen.size() < limit) {
+      // a few more routes than the limit may be added by concurrent calls, which is fine
+      seen.add(route);
+      return true;
+    }
+    return false;
+  }
+
+  // returns null if the route doesn't have segments that look like identifiers
+  @Nullable
+  static String template(String route) {
+    StringBuilder templated = null;
+    int segmentStart = 0;
+    int length = route.length();
+    for (int i = 0; i <= length; i++) {
+      if (i < length && route.charAt(i) != '/') {
+        continue;
+      }
+      if (isIdentifier(route, segmentStart, i)) {
+        if (templated == null) {
+          templated = new StringBuilder(length).append(route, 0, segmentStart);
+        }
+        templated.append(ID_SEGMENT);
+      } else if (templated != null) {
+        templated.append(route, segmentStart, i);
+      }
+      if (templated != null && i < length) {
+        templated.append('/');
+      }
+      segmentStart = i + 1;
+    }
+    return templated == null ? null : templated.toString();
+  }
+
+  private static boolean isIdentifier(String route, int start, int end) {
+    int length = end - start;
+    if (length == 0) {
+      return false;
+    }
+    boolean allDigits = true;
+    boolean allHex = true;
+    int digits = 0;
+    for (int i = start; i < end; i++) {
+      char c = route.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits++;
+      } else {
+        allDigits = false;
+        if (!(c >= 'a' && c <= 'f') && !(c >= 'A' && c <= 'F') && !(c == '-' && length == 36)) {
+          allHex = false;
+        }
+      }
+    }
+    // numbers, UUIDs, and hexadecimal ids like object ids and hashes
+    return allDigits || (allHex && digits > 0 && length >= 16);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Returns the attributes that an operation metric is recorded with, i.e. the values of a fixed set
+ * of keys taken from the end attributes of an operation or, if missing there, from its start
+ * attributes. The attributes of the last 1024 combinations of values are kept in a cache shared by
+ * all threads, so that operations that share the values of the metric keys, e.g. requests for the
+ * same route that ended with the same status, are recorded with the same {@link Attributes}
+ * instance instead of merging the start and end attributes every time.
+ *
+ * <p>The cache is deliberately smaller than the number of combinations that e.g. HTTP server
+ * metrics can have, up to the route cardinality limit times the number of methods and status codes.
+ * Past 1024 combinations the least recently used ones are evicted and rebuilt when they're seen
+ * again, which costs the same as not caching them; the frequent combinations, which make up most of
+ * the operations, stay cached without holding on to the attributes of every rare one.
+ *
+ * <p>The returned attributes only contain the passed keys, which are the keys that the metric is
+ * advised to keep. A view that keeps other keys of the operation won't see them, which is why the
+ * cache is only used when {@code
+ * otel.instrumentation.common.experimental.metric-attributes-cache.enabled} is set.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MetricAttributesCache {
+
+  private static final int MAX_SIZE = 1024;
+
+  private final AttributeKey<?>[] keys;
+  private final Cache<Values, Attributes> cache = Cache.bounded(MAX_SIZE);
+  // the key that the cache is looked up with, which is only copied when a new entry is added
+  private final ThreadLocal<Values> lookupKey;
+
+  /** Returns a cache for the passed metric keys, or null if the cache is not enabled. */
+  @Nullable
+  public static MetricAttributesCache create(List<AttributeKey<?>> keys) {
+    if (!ConfigPropertiesUtil.getBoolean(
+        "otel.instrumentation.common.experimental.metric-attributes-cache.enabled", false)) {
+      return null;
+    }
+    return new MetricAttributesCache(keys);
+  }
+
+  // visible for tests
+  MetricAttributesCache(List<AttributeKey<?>> keys) {
+    this.keys = keys.toArray(new AttributeKey<?>[0]);
+    int size = this.keys.length;
+    lookupKey = ThreadLocal.withInitial(() -> new Values(new Object[size]));
+  }
+
+  /**
+   * Returns the attributes of the metric keys, preferring the value of the end attributes when a
+   * key is present in both.
+   */
+  public Attributes get(Attributes startAttributes, Attributes endAttributes) {
+    return get(startAttributes, endAttributes, null, null);
+  }
+
+  /**
+   * Returns the attributes of the metric keys like {@link #get(Attributes, Attributes)}, except
+   * that the passed key has the passed value, e.g. a value that was already limited by the caller.
+   */
+  public <T> Attributes get(
+      Attributes startAttributes,
+      Attributes endAttributes,
+      @Nullable AttributeKey<T> replacedKey,
+      @Nullable T replacedValue) {
+    Values lookup = lookupKey.get();
+    Object[] values = lookup.values;
+    for (int i = 0; i < keys.length; i++) {
+      AttributeKey<?> key = keys[i];
+      Object value;
+      if (key.equals(replacedKey)) {
+        value = replacedValue;
+      } else {
+        value = endAttributes.get(key);
+        if (value == null) {
+          value = startAttributes.get(key);
+        }
+      }
+      values[i] = value;
+    }
+    lookup.updateHashCode();
+
+    Attributes attributes = cache.get(lookup);
+    if (attributes == null) {
+      Values copy = new Values(values.clone());
+      attributes = build(copy);
+      cache.put(copy, attributes);
+    }
+    // don't keep the values of the last operation reachable from the thread
+    Arrays.fill(values, null);
+    return attributes;
+  }
+
+  private Attributes build(Values values) {
+    AttributesBuilder builder = Attributes.builder();
+    for (int i = 0; i < keys.length; i++) {
+      Object value = values.values[i];
+      if (value != null) {
+        put(builder, keys[i], value);
+      }
+    }
+    return builder.build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> void put(AttributesBuilder builder, AttributeKey<T> key, Object value) {
+    builder.put(key, (T) value);
+  }
+
+  private static final class Values {
+
+    private final Object[] values;
+    private int hashCode;
+
+    Values(Object[] values) {
+      this.values = values;
+      updateHashCode();
+    }
+
+    void updateHashCode() {
+      hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Values)) {
+        return false;
+      }
+      Values other = (Values) obj;
+      return hashCode == other.hashCode && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
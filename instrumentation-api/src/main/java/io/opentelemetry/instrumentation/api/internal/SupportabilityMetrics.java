@@ -61,6 +61,14 @@ public final class SupportabilityMetrics {
     counters.computeIfAbsent(counterName, k -> new AtomicLong()).incrementAndGet();
   }
 
+  public void incrementCounter(String counterName, long increment) {
+    if (!agentDebugEnabled || increment <= 0) {
+      return;
+    }
+
+    counters.computeIfAbsent(counterName, k -> new AtomicLong()).addAndGet(increment);
+  }
+
   // visible for testing
   void report() {
     suppressionCounters.forEach(
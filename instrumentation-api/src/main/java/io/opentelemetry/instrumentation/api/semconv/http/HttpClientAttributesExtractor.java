@@ -15,6 +15,8 @@ import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalNetworkAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalServerAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.url.internal.ParsedUrl;
+import io.opentelemetry.instrumentation.api.semconv.url.internal.UrlQueryRedactor;
 import io.opentelemetry.semconv.HttpAttributes;
 import io.opentelemetry.semconv.UrlAttributes;
 import java.util.function.ToIntFunction;
@@ -54,6 +56,7 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
   private final InternalNetworkAttributesExtractor<REQUEST, RESPONSE> internalNetworkExtractor;
   private final InternalServerAttributesExtractor<REQUEST> internalServerExtractor;
   private final ToIntFunction<Context> resendCountIncrementer;
+  @Nullable private final UrlQueryRedactor queryRedactor;
 
   HttpClientAttributesExtractor(HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> builder) {
     super(
@@ -65,6 +68,7 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
     internalNetworkExtractor = builder.buildNetworkExtractor();
     internalServerExtractor = builder.buildServerExtractor();
     resendCountIncrementer = builder.resendCountIncrementer;
+    queryRedactor = builder.queryRedactor;
   }
 
   @Override
@@ -104,45 +108,10 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
   }
 
   @Nullable
-  private static String stripSensitiveData(@Nullable String url) {
+  private String stripSensitiveData(@Nullable String url) {
     if (url == null || url.isEmpty()) {
       return url;
     }
-
-    int schemeEndIndex = url.indexOf(':');
-
-    if (schemeEndIndex == -1) {
-      // not a valid url
-      return url;
-    }
-
-    int len = url.length();
-    if (len <= schemeEndIndex + 2
-        || url.charAt(schemeEndIndex + 1) != '/'
-        || url.charAt(schemeEndIndex + 2) != '/') {
-      // has no authority component
-      return url;
-    }
-
-    // look for the end of the authority component:
-    //   '/', '?', '#' ==> start of path
-    int index;
-    int atIndex = -1;
-    for (index = schemeEndIndex + 3; index < len; index++) {
-      char c = url.charAt(index);
-
-      if (c == '@') {
-        atIndex = index;
-      }
-
-      if (c == '/' || c == '?' || c == '#') {
-        break;
-      }
-    }
-
-    if (atIndex == -1 || atIndex == len - 1) {
-      return url;
-    }
-    return url.substring(0, schemeEndIndex + 3) + "REDACTED:REDACTED" + url.substring(atIndex);
+    return ParsedUrl.parse(url).getRedactedUrl(queryRedactor);
   }
 }
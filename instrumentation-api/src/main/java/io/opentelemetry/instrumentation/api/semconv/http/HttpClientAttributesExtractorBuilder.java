@@ -16,11 +16,14 @@ import io.opentelemetry.instrumentation.api.semconv.network.internal.AddressAndP
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalNetworkAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalServerAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.network.internal.ServerAddressAndPortExtractor;
+import io.opentelemetry.instrumentation.api.semconv.url.internal.UrlQueryRedactor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
 
 /**
  * A builder of {@link HttpClientAttributesExtractor}.
@@ -35,6 +38,7 @@ public final class HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> {
   List<String> capturedRequestHeaders = emptyList();
   List<String> capturedResponseHeaders = emptyList();
   Set<String> knownMethods = HttpConstants.KNOWN_METHODS;
+  @Nullable UrlQueryRedactor queryRedactor;
   ToIntFunction<Context> resendCountIncrementer = HttpClientRequestResendCount::getAndIncrement;
 
   HttpClientAttributesExtractorBuilder(
@@ -103,6 +107,21 @@ public final class HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the query parameters whose values will be replaced with {@code REDACTED} in the
+   * {@code url.full} attribute, e.g. API keys and signatures of pre-signed URLs. Parameter names
+   * are matched case-insensitively. By default, no query parameters are redacted.
+   *
+   * @param sensitiveQueryParameters A collection of query parameter names.
+   * @since 2.11.0
+   */
+  @CanIgnoreReturnValue
+  public HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> setSensitiveQueryParameters(
+      Collection<String> sensitiveQueryParameters) {
+    this.queryRedactor = UrlQueryRedactor.create(sensitiveQueryParameters);
+    return this;
+  }
+
   // visible for tests
   @CanIgnoreReturnValue
   HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> setResendCountIncrementer(
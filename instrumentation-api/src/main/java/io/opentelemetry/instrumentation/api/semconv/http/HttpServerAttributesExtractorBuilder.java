@@ -18,11 +18,14 @@ import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalCli
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalNetworkAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.network.internal.InternalServerAttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.url.internal.InternalUrlAttributesExtractor;
+import io.opentelemetry.instrumentation.api.semconv.url.internal.UrlQueryRedactor;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 /**
  * A builder of {@link HttpServerAttributesExtractor}.
@@ -38,6 +41,7 @@ public final class HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> {
   List<String> capturedRequestHeaders = emptyList();
   List<String> capturedResponseHeaders = emptyList();
   Set<String> knownMethods = HttpConstants.KNOWN_METHODS;
+  @Nullable UrlQueryRedactor queryRedactor;
   Function<Context, String> httpRouteGetter = HttpServerRoute::get;
 
   HttpServerAttributesExtractorBuilder(
@@ -109,6 +113,21 @@ public final class HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the query parameters whose values will be replaced with {@code REDACTED} in the
+   * {@code url.query} attribute, e.g. API keys and signatures of pre-signed URLs. Parameter names
+   * are matched case-insensitively. By default, no query parameters are redacted.
+   *
+   * @param sensitiveQueryParameters A collection of query parameter names.
+   * @since 2.11.0
+   */
+  @CanIgnoreReturnValue
+  public HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> setSensitiveQueryParameters(
+      Collection<String> sensitiveQueryParameters) {
+    this.queryRedactor = UrlQueryRedactor.create(sensitiveQueryParameters);
+    return this;
+  }
+
   // visible for tests
   @CanIgnoreReturnValue
   HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> setHttpRouteGetter(
@@ -129,7 +148,9 @@ public final class HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> {
 
   InternalUrlAttributesExtractor<REQUEST> buildUrlExtractor() {
     return new InternalUrlAttributesExtractor<>(
-        httpAttributesGetter, new ForwardedUrlSchemeProvider<>(httpAttributesGetter));
+        httpAttributesGetter,
+        new ForwardedUrlSchemeProvider<>(httpAttributesGetter),
+        queryRedactor);
   }
 
   InternalNetworkAttributesExtractor<REQUEST, RESPONSE> buildNetworkExtractor() {
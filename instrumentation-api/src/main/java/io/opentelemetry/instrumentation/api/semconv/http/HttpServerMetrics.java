@@ -9,17 +9,23 @@ import static java.util.logging.Level.FINE;
 
 import com.google.auto.value.AutoValue;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteCardinalityGuard;
+import io.opentelemetry.instrumentation.api.internal.MetricAttributesCache;
 import io.opentelemetry.instrumentation.api.internal.OperationMetricsUtil;
+import io.opentelemetry.semconv.HttpAttributes;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link OperationListener} which keeps track of <a
@@ -48,6 +54,9 @@ public final class HttpServerMetrics implements OperationListener {
   }
 
   private final DoubleHistogram duration;
+  @Nullable private final MetricAttributesCache attributesCache;
+  @Nullable private final HttpRouteCardinalityGuard routeGuard;
+  @Nullable private final LongCounter collapsedRoutes;
 
   private HttpServerMetrics(Meter meter) {
     DoubleHistogramBuilder stableDurationBuilder =
@@ -58,6 +67,18 @@ public final class HttpServerMetrics implements OperationListener {
             .setExplicitBucketBoundariesAdvice(HttpMetricsAdvice.DURATION_SECONDS_BUCKETS);
     HttpMetricsAdvice.applyServerDurationAdvice(stableDurationBuilder);
     duration = stableDurationBuilder.build();
+    attributesCache = MetricAttributesCache.create(HttpMetricsAdvice.SERVER_DURATION_ATTRIBUTES);
+    routeGuard = HttpRouteCardinalityGuard.get(meter);
+    collapsedRoutes =
+        routeGuard == null
+            ? null
+            : meter
+                .counterBuilder("http.server.route.collapsed")
+                .setUnit("{request}")
+                .setDescription(
+                    "Number of HTTP server requests whose route was recorded as a collapsed value"
+                        + " because the limit of distinct routes was reached.")
+                .build();
   }
 
   @Override
@@ -78,11 +99,49 @@ public final class HttpServerMetrics implements OperationListener {
       return;
     }
 
-    Attributes attributes = state.startAttributes().toBuilder().putAll(endAttributes).build();
+    // the route is limited before the cache lookup, so that collapsed routes are cached too
+    String collapsedRoute = collapseRoute(context, state.startAttributes(), endAttributes);
+    Attributes attributes;
+    if (attributesCache != null) {
+      attributes =
+          collapsedRoute != null
+              ? attributesCache.get(
+                  state.startAttributes(), endAttributes, HttpAttributes.HTTP_ROUTE, collapsedRoute)
+              : attributesCache.get(state.startAttributes(), endAttributes);
+    } else {
+      AttributesBuilder builder = state.startAttributes().toBuilder().putAll(endAttributes);
+      if (collapsedRoute != null) {
+        builder.put(HttpAttributes.HTTP_ROUTE, collapsedRoute);
+      }
+      attributes = builder.build();
+    }
 
     duration.record((endNanos - state.startTimeNanos()) / NANOS_PER_S, attributes, context);
   }
 
+  // returns the route to record instead of the route of the request, or null if it's kept
+  @Nullable
+  @SuppressWarnings("ReferenceEquality") // limit() returns the same instance if nothing changed
+  private String collapseRoute(
+      Context context, Attributes startAttributes, Attributes endAttributes) {
+    if (routeGuard == null || collapsedRoutes == null) {
+      return null;
+    }
+    String route = endAttributes.get(HttpAttributes.HTTP_ROUTE);
+    if (route == null) {
+      route = startAttributes.get(HttpAttributes.HTTP_ROUTE);
+      if (route == null) {
+        return null;
+      }
+    }
+    String limitedRoute = routeGuard.limit(route);
+    if (limitedRoute == route) {
+      return null;
+    }
+    collapsedRoutes.add(1, Attributes.empty(), context);
+    return limitedRoute;
+  }
+
   @AutoValue
   abstract static class State {
 
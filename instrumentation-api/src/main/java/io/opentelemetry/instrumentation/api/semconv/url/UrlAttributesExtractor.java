@@ -38,7 +38,7 @@ public final class UrlAttributesExtractor<REQUEST, RESPONSE>
     // the UrlAttributesExtractor will always emit new semconv
     internalExtractor =
         new InternalUrlAttributesExtractor<>(
-            getter, /* alternateSchemeProvider= */ request -> null);
+            getter, /* alternateSchemeProvider= */ request -> null, /* queryRedactor= */ null);
   }
 
   @Override
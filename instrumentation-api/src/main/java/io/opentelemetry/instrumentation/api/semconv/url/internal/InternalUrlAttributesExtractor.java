@@ -11,6 +11,7 @@ import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.instrumentation.api.semconv.url.UrlAttributesGetter;
 import io.opentelemetry.semconv.UrlAttributes;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -20,17 +21,24 @@ public final class InternalUrlAttributesExtractor<REQUEST> {
 
   private final UrlAttributesGetter<REQUEST> getter;
   private final Function<REQUEST, String> alternateSchemeProvider;
+  @Nullable private final UrlQueryRedactor queryRedactor;
 
   public InternalUrlAttributesExtractor(
-      UrlAttributesGetter<REQUEST> getter, Function<REQUEST, String> alternateSchemeProvider) {
+      UrlAttributesGetter<REQUEST> getter,
+      Function<REQUEST, String> alternateSchemeProvider,
+      @Nullable UrlQueryRedactor queryRedactor) {
     this.getter = getter;
     this.alternateSchemeProvider = alternateSchemeProvider;
+    this.queryRedactor = queryRedactor;
   }
 
   public void onStart(AttributesBuilder attributes, REQUEST request) {
     String urlScheme = getUrlScheme(request);
     String urlPath = getter.getUrlPath(request);
     String urlQuery = getter.getUrlQuery(request);
+    if (urlQuery != null && queryRedactor != null) {
+      urlQuery = queryRedactor.redact(urlQuery);
+    }
 
     internalSet(attributes, UrlAttributes.URL_SCHEME, urlScheme);
     internalSet(attributes, UrlAttributes.URL_PATH, urlPath);
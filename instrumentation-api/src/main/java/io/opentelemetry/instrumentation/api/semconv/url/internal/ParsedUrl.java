@@ -0,0 +1,207 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.url.internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * A view of the components of a URL, stored as offsets into the original string. The URL is scanned
+ * once, and component strings are only created when they're requested.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ParsedUrl {
+
+  private static final String REDACTED_USER_INFO = "REDACTED:REDACTED";
+
+  private final String url;
+  // all offsets are -1 when the URL has no authority component
+  private final int authorityStart;
+  private final int userInfoEnd;
+  private final int hostStart;
+  private final int hostEnd;
+  private final int portStart;
+  private final int authorityEnd;
+  // the path, query and fragment are parsed even if there's no authority
+  private final int queryStart;
+  private final int fragmentStart;
+
+  /** Returns the view of the passed URL. */
+  public static ParsedUrl parse(String url) {
+    return new ParsedUrl(url);
+  }
+
+  private ParsedUrl(String url) {
+    this.url = url;
+    int len = url.length();
+
+    int schemeEnd = url.indexOf(':');
+    if (schemeEnd != -1
+        && len > schemeEnd + 2
+        && url.charAt(schemeEnd + 1) == '/'
+        && url.charAt(schemeEnd + 2) == '/') {
+      authorityStart = schemeEnd + 3;
+      // look for the end of the authority component:
+      //   '/', '?', '#' ==> start of path
+      // and remember the last '@' ==> end of user info
+      int atIndex = -1;
+      int index;
+      for (index = authorityStart; index < len; index++) {
+        char c = url.charAt(index);
+        if (c == '@') {
+          atIndex = index;
+        } else if (c == '/' || c == '?' || c == '#') {
+          break;
+        }
+      }
+      authorityEnd = index;
+      userInfoEnd = atIndex;
+      hostStart = atIndex == -1 ? authorityStart : atIndex + 1;
+      hostEnd = findHostEnd(url, hostStart, authorityEnd);
+      portStart = hostEnd < authorityEnd && url.charAt(hostEnd) == ':' ? hostEnd + 1 : -1;
+    } else {
+      authorityStart = -1;
+      authorityEnd = -1;
+      userInfoEnd = -1;
+      hostStart = -1;
+      hostEnd = -1;
+      portStart = -1;
+    }
+
+    int query = -1;
+    int fragment = -1;
+    for (int index = Math.max(authorityEnd, schemeEnd + 1); index < len; index++) {
+      char c = url.charAt(index);
+      if (c == '?' && query == -1) {
+        query = index + 1;
+      } else if (c == '#') {
+        fragment = index + 1;
+        break;
+      }
+    }
+    queryStart = query;
+    fragmentStart = fragment;
+  }
+
+  private static int findHostEnd(String url, int hostStart, int authorityEnd) {
+    // IPv6 literals contain colons, so they end at the closing bracket
+    if (hostStart < authorityEnd && url.charAt(hostStart) == '[') {
+      int bracket = url.indexOf(']', hostStart);
+      if (bracket != -1 && bracket < authorityEnd) {
+        return bracket + 1;
+      }
+    }
+    for (int index = hostStart; index < authorityEnd; index++) {
+      if (url.charAt(index) == ':') {
+        return index;
+      }
+    }
+    return authorityEnd;
+  }
+
+  /** Returns the original URL. */
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * Returns the URL with the user info credentials replaced with {@code REDACTED:REDACTED} and the
+   * values of the query parameters that are sensitive according to the passed redactor replaced
+   * with {@code REDACTED}, or the original URL when there's nothing to redact.
+   */
+  public String getRedactedUrl(@Nullable UrlQueryRedactor queryRedactor) {
+    int len = url.length();
+    boolean redactUserInfo = userInfoEnd != -1 && userInfoEnd != len - 1;
+    int queryEnd = getQueryEnd();
+    boolean redactQuery =
+        queryRedactor != null
+            && queryStart != -1
+            && queryRedactor.hasSensitiveParameter(url, queryStart, queryEnd);
+    if (!redactUserInfo && !redactQuery) {
+      return url;
+    }
+
+    StringBuilder redacted = new StringBuilder(len + REDACTED_USER_INFO.length());
+    int copied = 0;
+    if (redactUserInfo) {
+      redacted.append(url, 0, authorityStart).append(REDACTED_USER_INFO);
+      copied = userInfoEnd;
+    }
+    if (redactQuery) {
+      redacted.append(url, copied, queryStart);
+      queryRedactor.appendRedacted(redacted, url, queryStart, queryEnd);
+      copied = queryEnd;
+    }
+    return redacted.append(url, copied, len).toString();
+  }
+
+  /** Returns the host, without the brackets of IPv6 literals, or null if there is none. */
+  @Nullable
+  public String getHost() {
+    if (hostStart == hostEnd) {
+      return null;
+    }
+    if (url.charAt(hostStart) == '[' && url.charAt(hostEnd - 1) == ']') {
+      return hostEnd - hostStart == 2 ? null : url.substring(hostStart + 1, hostEnd - 1);
+    }
+    return url.substring(hostStart, hostEnd);
+  }
+
+  /** Returns the port, or null if there is none or it is not a valid number. */
+  @Nullable
+  public Integer getPort() {
+    if (portStart == -1 || portStart == authorityEnd || hostStart == hostEnd) {
+      return null;
+    }
+    // longer numbers would overflow, and aren't valid ports anyway
+    if (authorityEnd - portStart > 9) {
+      return null;
+    }
+    int port = 0;
+    for (int index = portStart; index < authorityEnd; index++) {
+      char c = url.charAt(index);
+      if (c < '0' || c > '9') {
+        return null;
+      }
+      port = port * 10 + (c - '0');
+    }
+    return port;
+  }
+
+  /** Returns the path, or null if the URL has no host or no path. */
+  @Nullable
+  public String getPath() {
+    if (hostStart == hostEnd || authorityEnd == url.length() || url.charAt(authorityEnd) != '/') {
+      return null;
+    }
+    int pathEnd = queryStart != -1 ? queryStart - 1 : fragmentEndOr(url.length());
+    return url.substring(authorityEnd, pathEnd);
+  }
+
+  /** Returns the query, without the leading {@code ?}, or null if there is none. */
+  @Nullable
+  public String getQuery() {
+    if (queryStart == -1) {
+      return null;
+    }
+    return url.substring(queryStart, fragmentEndOr(url.length()));
+  }
+
+  /** Returns the index of the first character of the query, or -1 if there is none. */
+  public int getQueryStart() {
+    return queryStart;
+  }
+
+  /** Returns the index after the last character of the query, or -1 if there is none. */
+  public int getQueryEnd() {
+    return queryStart == -1 ? -1 : fragmentEndOr(url.length());
+  }
+
+  private int fragmentEndOr(int end) {
+    return fragmentStart == -1 ? end : fragmentStart - 1;
+  }
+}
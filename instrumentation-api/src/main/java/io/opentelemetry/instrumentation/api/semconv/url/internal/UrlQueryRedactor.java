@@ -0,0 +1,145 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.semconv.url.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import javax.annotation.Nullable;
+
+/**
+ * Replaces the values of sensitive query parameters with {@code REDACTED}. Parameter names are
+ * matched case-insensitively and without decoding them.
+ *
+ * <p>The parameter names are grouped by length, so that most parameters of a query are rejected
+ * without comparing any characters, and a query is scanned once to find out whether it has to be
+ * rewritten at all.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class UrlQueryRedactor {
+
+  private static final String REDACTED = "REDACTED";
+  private static final String[] NO_NAMES = new String[0];
+
+  // names, lower-cased, indexed by their length
+  private final String[][] namesByLength;
+
+  /** Returns a redactor for the passed parameter names, or null if there are none. */
+  @Nullable
+  public static UrlQueryRedactor create(Collection<String> sensitiveParameters) {
+    // lower-casing can change the length of a name, e.g. of a dotted capital I
+    List<String> lowerCaseNames = new ArrayList<>(sensitiveParameters.size());
+    int maxLength = 0;
+    for (String name : sensitiveParameters) {
+      String lowerCase = name.toLowerCase(Locale.ROOT);
+      lowerCaseNames.add(lowerCase);
+      maxLength = Math.max(maxLength, lowerCase.length());
+    }
+    if (maxLength == 0) {
+      return null;
+    }
+    List<List<String>> names = new ArrayList<>(maxLength + 1);
+    for (int i = 0; i <= maxLength; i++) {
+      names.add(new ArrayList<>());
+    }
+    for (String lowerCase : lowerCaseNames) {
+      List<String> sameLength = names.get(lowerCase.length());
+      if (!lowerCase.isEmpty() && !sameLength.contains(lowerCase)) {
+        sameLength.add(lowerCase);
+      }
+    }
+    String[][] namesByLength = new String[maxLength + 1][];
+    for (int i = 0; i <= maxLength; i++) {
+      namesByLength[i] = names.get(i).toArray(NO_NAMES);
+    }
+    return new UrlQueryRedactor(namesByLength);
+  }
+
+  private UrlQueryRedactor(String[][] namesByLength) {
+    this.namesByLength = namesByLength;
+  }
+
+  /**
+   * Returns the query with the values of sensitive parameters redacted, or the passed query itself
+   * when it has no sensitive parameters.
+   */
+  public String redact(String query) {
+    if (!hasSensitiveParameter(query, 0, query.length())) {
+      return query;
+    }
+    StringBuilder redacted = new StringBuilder(query.length());
+    appendRedacted(redacted, query, 0, query.length());
+    return redacted.toString();
+  }
+
+  /** Returns whether the query between the passed indexes has a sensitive parameter value. */
+  boolean hasSensitiveParameter(String url, int start, int end) {
+    int nameStart = start;
+    while (nameStart < end) {
+      int nameEnd = findNameEnd(url, nameStart, end);
+      if (nameEnd < end && url.charAt(nameEnd) == '=' && isSensitive(url, nameStart, nameEnd)) {
+        return true;
+      }
+      nameStart = findParameterEnd(url, nameEnd, end) + 1;
+    }
+    return false;
+  }
+
+  /**
+   * Appends the query between the passed indexes with the values of sensitive parameters replaced.
+   */
+  void appendRedacted(StringBuilder redacted, String url, int start, int end) {
+    int nameStart = start;
+    while (nameStart < end) {
+      int nameEnd = findNameEnd(url, nameStart, end);
+      int parameterEnd = findParameterEnd(url, nameEnd, end);
+      if (nameEnd < end && url.charAt(nameEnd) == '=' && isSensitive(url, nameStart, nameEnd)) {
+        redacted.append(url, nameStart, nameEnd + 1).append(REDACTED);
+      } else {
+        redacted.append(url, nameStart, parameterEnd);
+      }
+      if (parameterEnd < end) {
+        redacted.append('&');
+      }
+      nameStart = parameterEnd + 1;
+    }
+  }
+
+  private boolean isSensitive(String url, int nameStart, int nameEnd) {
+    int length = nameEnd - nameStart;
+    if (length >= namesByLength.length) {
+      return false;
+    }
+    for (String name : namesByLength[length]) {
+      if (url.regionMatches(/* ignoreCase= */ true, nameStart, name, 0, length)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int findNameEnd(String url, int start, int end) {
+    for (int index = start; index < end; index++) {
+      char c = url.charAt(index);
+      if (c == '=' || c == '&') {
+        return index;
+      }
+    }
+    return end;
+  }
+
+  private static int findParameterEnd(String url, int start, int end) {
+    for (int index = start; index < end; index++) {
+      if (url.charAt(index) == '&') {
+        return index;
+      }
+    }
+    return end;
+  }
+}
@@ -25,6 +25,7 @@ import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.internal.BulkTextMapGetter;
 import io.opentelemetry.instrumentation.api.internal.SchemaUrlProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
@@ -165,6 +166,25 @@ class InstrumenterTest {
     }
   }
 
+  static class BulkMapGetter extends MapGetter implements BulkTextMapGetter<Map<String, String>> {
+    int getCalls;
+    int getAllCalls;
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      getCalls++;
+      return super.get(carrier, key);
+    }
+
+    @Override
+    public void getAll(Map<String, String> carrier, String[] keys, String[] values) {
+      getAllCalls++;
+      for (int i = 0; i < keys.length; i++) {
+        values[i] = carrier.get(keys[i]);
+      }
+    }
+  }
+
   @RegisterExtension
   static final OpenTelemetryExtension otelTesting = OpenTelemetryExtension.create();
 
@@ -278,6 +298,33 @@ class InstrumenterTest {
                             .hasParentSpanId("090a0b0c0d0e0f00")));
   }
 
+  @Test
+  void server_parent_bulkGetter() {
+    BulkMapGetter getter = new BulkMapGetter();
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .buildServerInstrumenter(getter);
+
+    Map<String, String> request = new HashMap<>(REQUEST);
+    request.put("traceparent", "00-ff01020304050600ff0a0b0c0d0e0f00-090a0b0c0d0e0f00-01");
+
+    Context context = instrumenter.start(Context.root(), request);
+    instrumenter.end(context, request, RESPONSE, null);
+
+    assertThat(getter.getAllCalls).isEqualTo(1);
+    assertThat(getter.getCalls).isEqualTo(0);
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasTraceId("ff01020304050600ff0a0b0c0d0e0f00")
+                            .hasParentSpanId("090a0b0c0d0e0f00")));
+  }
+
   @Test
   void client() {
     Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
@@ -0,0 +1,115 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.semconv.HttpAttributes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+class HttpRouteCardinalityGuardTest {
+
+  @Test
+  void keepsRoutesBelowLimit() {
+    HttpRouteCardinalityGuard guard = new HttpRouteCardinalityGuard(2);
+
+    assertThat(guard.limit("/users/{id}")).isEqualTo("/users/{id}");
+    assertThat(guard.limit("/users/12345")).isEqualTo("/users/12345");
+    // routes that were seen before are kept after the limit is reached
+    assertThat(guard.limit("/users/{id}")).isEqualTo("/users/{id}");
+  }
+
+  @Test
+  void collapsesRoutesPastLimit() {
+    HttpRouteCardinalityGuard guard = new HttpRouteCardinalityGuard(1);
+    guard.limit("/users/1");
+
+    assertThat(guard.limit("/users/2")).isEqualTo("/users/{id}");
+    assertThat(guard.limit("/users/alice")).isEqualTo("_OTHER");
+    assertThat(guard.limit("/users/1")).isEqualTo("/users/1");
+  }
+
+  @Test
+  void collapsesTemplatedRoutesPastLimit() {
+    HttpRouteCardinalityGuard guard = new HttpRouteCardinalityGuard(1);
+    guard.limit("/users/1");
+
+    assertThat(guard.limit("/users/2")).isEqualTo("/users/{id}");
+    assertThat(guard.limit("/orders/3")).isEqualTo("_OTHER");
+    // templated routes that were seen before are kept after the limit is reached
+    assertThat(guard.limit("/users/4")).isEqualTo("/users/{id}");
+  }
+
+  @Test
+  void disabledByDefault() {
+    assertThat(HttpRouteCardinalityGuard.get(meter())).isNull();
+  }
+
+  @Test
+  @SetSystemProperty(
+      key = "otel.instrumentation.http.server.experimental.route-cardinality-limit",
+      value = "1000")
+  void sharesGuardPerMeter() {
+    Meter meter = meter();
+
+    assertThat(HttpRouteCardinalityGuard.get(meter))
+        .isNotNull()
+        .isSameAs(HttpRouteCardinalityGuard.get(meter))
+        .isNotSameAs(HttpRouteCardinalityGuard.get(meter()));
+  }
+
+  @Test
+  void limitsRouteAttribute() {
+    HttpRouteCardinalityGuard guard = new HttpRouteCardinalityGuard(1);
+    Attributes known = Attributes.of(HttpAttributes.HTTP_ROUTE, "/orders");
+    Attributes withoutRoute = Attributes.of(HttpAttributes.HTTP_REQUEST_METHOD, "GET");
+
+    assertThat(guard.limitRoute(known)).isSameAs(known);
+    assertThat(guard.limitRoute(withoutRoute)).isSameAs(withoutRoute);
+    assertThat(
+            guard.limitRoute(
+                Attributes.of(
+                    HttpAttributes.HTTP_REQUEST_METHOD,
+                    "GET",
+                    HttpAttributes.HTTP_ROUTE,
+                    "/orders/42/items")))
+        .isEqualTo(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD,
+                "GET",
+                HttpAttributes.HTTP_ROUTE,
+                "/orders/{id}/items"));
+  }
+
+  private static Meter meter() {
+    return SdkMeterProvider.builder()
+        .registerMetricReader(InMemoryMetricReader.create())
+        .build()
+        .get("test");
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "/users/12345, /users/{id}",
+    "/users/12345/, /users/{id}/",
+    "/12/34, /{id}/{id}",
+    "/files/123e4567-e89b-12d3-a456-426614174000, /files/{id}",
+    "/objects/5f1d7a3b9c2e4d6f8a0b1c2d/history, /objects/{id}/history",
+    "/api/v1/users, ",
+    "/deadbeefdeadbeef, ",
+    "/, ",
+  })
+  void templatesIdentifierSegments(String route, String expected) {
+    assertThat(HttpRouteCardinalityGuard.template(route)).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.semconv.HttpAttributes;
+import io.opentelemetry.semconv.UrlAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class MetricAttributesCacheTest {
+
+  private final MetricAttributesCache cache =
+      new MetricAttributesCache(
+          asList(
+              HttpAttributes.HTTP_REQUEST_METHOD,
+              HttpAttributes.HTTP_ROUTE,
+              HttpAttributes.HTTP_RESPONSE_STATUS_CODE));
+
+  @Test
+  void keepsOnlyMetricKeys() {
+    Attributes attributes =
+        cache.get(
+            Attributes.builder()
+                .put(HttpAttributes.HTTP_REQUEST_METHOD, "GET")
+                .put(UrlAttributes.URL_PATH, "/users/1")
+                .build(),
+            Attributes.builder()
+                .put(HttpAttributes.HTTP_ROUTE, "/users/{id}")
+                .put(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L)
+                .build());
+
+    assertThat(attributes)
+        .isEqualTo(
+            Attributes.builder()
+                .put(HttpAttributes.HTTP_REQUEST_METHOD, "GET")
+                .put(HttpAttributes.HTTP_ROUTE, "/users/{id}")
+                .put(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L)
+                .build());
+  }
+
+  @Test
+  void endAttributesTakePrecedence() {
+    Attributes attributes =
+        cache.get(
+            Attributes.of(HttpAttributes.HTTP_ROUTE, "/users/*"),
+            Attributes.of(HttpAttributes.HTTP_ROUTE, "/users/{id}"));
+
+    assertThat(attributes).isEqualTo(Attributes.of(HttpAttributes.HTTP_ROUTE, "/users/{id}"));
+  }
+
+  @Test
+  void reusesAttributesForSameValues() {
+    Attributes first =
+        cache.get(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD, "GET", UrlAttributes.URL_PATH, "/users/1"),
+            Attributes.of(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L));
+    Attributes second =
+        cache.get(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD, "GET", UrlAttributes.URL_PATH, "/users/2"),
+            Attributes.of(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L));
+    Attributes other =
+        cache.get(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD, "GET", UrlAttributes.URL_PATH, "/users/2"),
+            Attributes.of(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 404L));
+    // the cached entries aren't changed by the lookups that follow them
+    Attributes again =
+        cache.get(
+            Attributes.of(HttpAttributes.HTTP_REQUEST_METHOD, "GET"),
+            Attributes.of(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L));
+
+    assertThat(second).isSameAs(first);
+    assertThat(again).isSameAs(first);
+    assertThat(other)
+        .isNotSameAs(first)
+        .isEqualTo(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD,
+                "GET",
+                HttpAttributes.HTTP_RESPONSE_STATUS_CODE,
+                404L));
+  }
+
+  @Test
+  void reusesAttributesAcrossThreads() throws Exception {
+    Attributes start = Attributes.of(HttpAttributes.HTTP_REQUEST_METHOD, "GET");
+    Attributes end = Attributes.of(HttpAttributes.HTTP_RESPONSE_STATUS_CODE, 200L);
+    Attributes first = cache.get(start, end);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Attributes fromOtherThread = executor.submit(() -> cache.get(start, end)).get();
+      assertThat(fromOtherThread).isSameAs(first);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void replacesValue() {
+    Attributes first =
+        cache.get(
+            Attributes.of(HttpAttributes.HTTP_REQUEST_METHOD, "GET"),
+            Attributes.of(HttpAttributes.HTTP_ROUTE, "/users/1"),
+            HttpAttributes.HTTP_ROUTE,
+            "/users/{id}");
+    Attributes second =
+        cache.get(
+            Attributes.of(HttpAttributes.HTTP_REQUEST_METHOD, "GET"),
+            Attributes.of(HttpAttributes.HTTP_ROUTE, "/users/2"),
+            HttpAttributes.HTTP_ROUTE,
+            "/users/{id}");
+
+    assertThat(first)
+        .isEqualTo(
+            Attributes.of(
+                HttpAttributes.HTTP_REQUEST_METHOD,
+                "GET",
+                HttpAttributes.HTTP_ROUTE,
+                "/users/{id}"));
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void emptyWhenNoMetricKeys() {
+    Attributes attributes =
+        cache.get(Attributes.of(AttributeKey.stringKey("unrelated"), "value"), Attributes.empty());
+
+    assertThat(attributes).isEqualTo(Attributes.empty());
+  }
+}
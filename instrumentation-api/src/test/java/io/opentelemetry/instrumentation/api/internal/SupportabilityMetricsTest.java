@@ -43,6 +43,8 @@ class SupportabilityMetricsTest {
     metrics.incrementCounter("some counter");
     metrics.incrementCounter("another counter");
     metrics.incrementCounter("some counter");
+    metrics.incrementCounter("bytes counter", 100);
+    metrics.incrementCounter("bytes counter", 23);
 
     metrics.report();
 
@@ -52,7 +54,8 @@ class SupportabilityMetricsTest {
             "Suppressed Spans by 'favoriteInstrumentation' (SERVER) : 1",
             "Suppressed Spans by 'otherInstrumentation' (INTERNAL) : 1",
             "Counter 'some counter' : 2",
-            "Counter 'another counter' : 1");
+            "Counter 'another counter' : 1",
+            "Counter 'bytes counter' : 123");
   }
 
   @Test
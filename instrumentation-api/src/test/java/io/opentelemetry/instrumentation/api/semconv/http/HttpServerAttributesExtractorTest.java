@@ -556,4 +556,20 @@ class HttpServerAttributesExtractorTest {
             entry(NetworkAttributes.NETWORK_PROTOCOL_NAME, "spdy"),
             entry(NetworkAttributes.NETWORK_PROTOCOL_VERSION, "3.1"));
   }
+
+  @Test
+  void shouldRedactSensitiveQueryParameters() {
+    Map<String, String> request = new HashMap<>();
+    request.put("urlQuery", "details=true&Token=abc");
+
+    AttributesExtractor<Map<String, String>, Map<String, String>> extractor =
+        HttpServerAttributesExtractor.builder(new TestHttpServerAttributesGetter())
+            .setSensitiveQueryParameters(singletonList("token"))
+            .build();
+
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onStart(attributes, Context.root(), request);
+    assertThat(attributes.build())
+        .containsEntry(UrlAttributes.URL_QUERY, "details=true&Token=REDACTED");
+  }
 }
@@ -25,6 +25,7 @@ import io.opentelemetry.semconv.UrlAttributes;
 import io.opentelemetry.semconv.incubating.HttpIncubatingAttributes;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.SetSystemProperty;
 
 class HttpServerMetricsTest {
 
@@ -177,6 +178,47 @@ class HttpServerMetricsTest {
                                             equalTo(HttpAttributes.HTTP_ROUTE, "/test/{id}")))));
   }
 
+  @Test
+  @SetSystemProperty(
+      key = "otel.instrumentation.http.server.experimental.route-cardinality-limit",
+      value = "1")
+  void collapsesRoutesPastLimit() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+
+    OperationListener listener = HttpServerMetrics.get().create(meterProvider.get("test"));
+
+    for (String route : new String[] {"/users/1", "/users/2", "/users/3"}) {
+      Context context = listener.onStart(Context.root(), Attributes.empty(), nanos(100));
+      listener.onEnd(context, Attributes.of(HttpAttributes.HTTP_ROUTE, route), nanos(200));
+    }
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.server.request.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributesSatisfying(
+                                            equalTo(HttpAttributes.HTTP_ROUTE, "/users/1")),
+                                point ->
+                                    point
+                                        .hasCount(2)
+                                        .hasAttributesSatisfying(
+                                            equalTo(HttpAttributes.HTTP_ROUTE, "/users/{id}")))),
+            metric ->
+                assertThat(metric)
+                    .hasName("http.server.route.collapsed")
+                    .hasLongSumSatisfying(
+                        sum -> sum.isMonotonic().hasPointsSatisfying(point -> point.hasValue(2))));
+  }
+
   private static long nanos(int millis) {
     return TimeUnit.MILLISECONDS.toNanos(millis);
   }
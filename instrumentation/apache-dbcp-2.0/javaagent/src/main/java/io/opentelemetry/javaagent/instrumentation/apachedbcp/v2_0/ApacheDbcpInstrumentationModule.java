@@ -5,7 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
@@ -20,6 +20,7 @@ public class ApacheDbcpInstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return singletonList(new BasicDataSourceInstrumentation());
+    return asList(
+        new BasicDataSourceInstrumentation(), new PoolGuardConnectionWrapperInstrumentation());
   }
 }
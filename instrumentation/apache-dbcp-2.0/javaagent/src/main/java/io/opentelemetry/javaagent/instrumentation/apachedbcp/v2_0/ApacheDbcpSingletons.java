@@ -7,14 +7,74 @@ package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.apachedbcp.v2_0.ApacheDbcpTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import java.sql.Connection;
+import java.time.Duration;
+import javax.annotation.Nullable;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.dbcp2.DelegatingConnection;
 
 public final class ApacheDbcpSingletons {
 
   private static final ApacheDbcpTelemetry apacheDbcpTelemetry =
-      ApacheDbcpTelemetry.create(GlobalOpenTelemetry.get());
+      ApacheDbcpTelemetry.builder(GlobalOpenTelemetry.get())
+          .setLeakDetectionThreshold(
+              AgentInstrumentationConfig.get()
+                  .getDuration(
+                      "otel.instrumentation.db-connection-pool.experimental.leak-detection-threshold",
+                      Duration.ZERO))
+          .build();
 
-  public static ApacheDbcpTelemetry telemetry() {
-    return apacheDbcpTelemetry;
+  private static final VirtualField<BasicDataSource, DbConnectionPoolTracker> dataSourceTracker =
+      VirtualField.find(BasicDataSource.class, DbConnectionPoolTracker.class);
+  private static final VirtualField<Connection, DbConnectionPoolTracker> connectionTracker =
+      VirtualField.find(Connection.class, DbConnectionPoolTracker.class);
+
+  public static void registerMetrics(BasicDataSource dataSource, String dataSourceName) {
+    apacheDbcpTelemetry.registerMetrics(dataSource, dataSourceName);
+    dataSourceTracker.set(dataSource, DbConnectionPoolTrackers.get(dataSource));
+  }
+
+  public static void unregisterMetrics(BasicDataSource dataSource) {
+    apacheDbcpTelemetry.unregisterMetrics(dataSource);
+    dataSourceTracker.set(dataSource, null);
+  }
+
+  public static void connectionAcquired(
+      BasicDataSource dataSource, Connection connection, long startNanos) {
+    DbConnectionPoolTracker tracker = dataSourceTracker.get(dataSource);
+    Connection pooledConnection = pooledConnection(connection);
+    if (tracker != null && pooledConnection != null) {
+      tracker.onAcquired(pooledConnection, System.nanoTime() - startNanos);
+      if (connectionTracker.get(pooledConnection) != tracker) {
+        connectionTracker.set(pooledConnection, tracker);
+      }
+    }
+  }
+
+  public static void connectionReleased(Connection connection) {
+    Connection pooledConnection = pooledConnection(connection);
+    if (pooledConnection == null) {
+      return;
+    }
+    DbConnectionPoolTracker tracker = connectionTracker.get(pooledConnection);
+    if (tracker != null) {
+      tracker.onReleased(pooledConnection);
+    }
+  }
+
+  // the pool wraps the connection it keeps in a new PoolGuardConnectionWrapper for every borrow,
+  // the physical connection is tracked instead so that its record is reused
+  @Nullable
+  private static Connection pooledConnection(Connection connection) {
+    if (connection instanceof DelegatingConnection) {
+      // null when the wrapper was already closed
+      return ((DelegatingConnection<?>) connection).getInnermostDelegateInternal();
+    }
+    return connection;
   }
 
   private ApacheDbcpSingletons() {}
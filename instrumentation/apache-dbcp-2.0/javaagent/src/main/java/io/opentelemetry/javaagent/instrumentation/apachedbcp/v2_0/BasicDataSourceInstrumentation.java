@@ -5,13 +5,14 @@
 
 package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
-import static io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0.ApacheDbcpSingletons.telemetry;
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.sql.Connection;
 import javax.management.ObjectName;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
@@ -33,6 +34,9 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
     typeTransformer.applyAdviceToMethod(
         isPublic().and(named("postDeregister")),
         this.getClass().getName() + "$PostDeregisterAdvice");
+    typeTransformer.applyAdviceToMethod(
+        isMethod().and(isPublic()).and(named("getConnection")).and(takesArguments(0)),
+        this.getClass().getName() + "$GetConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -50,7 +54,7 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
         // fallback just in case it is somehow registered without a name
         dataSourceName = "dbcp2-" + System.identityHashCode(dataSource);
       }
-      telemetry().registerMetrics(dataSource, dataSourceName);
+      ApacheDbcpSingletons.registerMetrics(dataSource, dataSourceName);
     }
   }
 
@@ -58,7 +62,26 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
   public static class PostDeregisterAdvice {
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void onExit(@Advice.This BasicDataSource dataSource) {
-      telemetry().unregisterMetrics(dataSource);
+      ApacheDbcpSingletons.unregisterMetrics(dataSource);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter() {
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
+    public static void onExit(
+        @Advice.This BasicDataSource dataSource,
+        @Advice.Enter long startNanos,
+        @Advice.Return Connection connection) {
+      if (connection != null) {
+        ApacheDbcpSingletons.connectionAcquired(dataSource, connection, startNanos);
+      }
     }
   }
 }
@@ -34,4 +34,9 @@ class ApacheDbcpInstrumentationTest extends AbstractApacheDbcpInstrumentationTes
   protected void shutdown(BasicDataSource dataSource) {
     dataSource.postDeregister();
   }
+
+  @Override
+  protected boolean recordsWaitAndUseTime() {
+    return true;
+  }
 }
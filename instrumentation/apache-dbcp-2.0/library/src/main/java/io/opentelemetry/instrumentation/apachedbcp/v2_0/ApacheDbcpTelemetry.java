@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.apachedbcp.v2_0;
 
 import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
 import org.apache.commons.dbcp2.BasicDataSourceMXBean;
 
 /** Entrypoint for instrumenting Apache DBCP database connection pools. */
@@ -13,18 +14,29 @@ public final class ApacheDbcpTelemetry {
 
   /** Returns a new {@link ApacheDbcpTelemetry} configured with the given {@link OpenTelemetry}. */
   public static ApacheDbcpTelemetry create(OpenTelemetry openTelemetry) {
-    return new ApacheDbcpTelemetry(openTelemetry);
+    return builder(openTelemetry).build();
+  }
+
+  /**
+   * Returns a new {@link ApacheDbcpTelemetryBuilder} configured with the given {@link
+   * OpenTelemetry}.
+   */
+  public static ApacheDbcpTelemetryBuilder builder(OpenTelemetry openTelemetry) {
+    return new ApacheDbcpTelemetryBuilder(openTelemetry);
   }
 
   private final OpenTelemetry openTelemetry;
+  private final Duration leakDetectionThreshold;
 
-  private ApacheDbcpTelemetry(OpenTelemetry openTelemetry) {
+  ApacheDbcpTelemetry(OpenTelemetry openTelemetry, Duration leakDetectionThreshold) {
     this.openTelemetry = openTelemetry;
+    this.leakDetectionThreshold = leakDetectionThreshold;
   }
 
   /** Start collecting metrics for given connection pool. */
   public void registerMetrics(BasicDataSourceMXBean dataSource, String dataSourceName) {
-    DataSourceMetrics.registerMetrics(openTelemetry, dataSource, dataSourceName);
+    DataSourceMetrics.registerMetrics(
+        openTelemetry, dataSource, dataSourceName, leakDetectionThreshold);
   }
 
   /** Stop collecting metrics for given connection pool. */
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.apachedbcp.v2_0;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
+
+/** A builder of {@link ApacheDbcpTelemetry}. */
+public final class ApacheDbcpTelemetryBuilder {
+
+  private final OpenTelemetry openTelemetry;
+  private Duration leakDetectionThreshold = Duration.ZERO;
+
+  ApacheDbcpTelemetryBuilder(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+  }
+
+  /**
+   * Sets how long a connection can be held before it is counted as leaked. Leak detection is
+   * disabled by default, and when the passed threshold is zero.
+   */
+  @CanIgnoreReturnValue
+  public ApacheDbcpTelemetryBuilder setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+    this.leakDetectionThreshold = leakDetectionThreshold;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link ApacheDbcpTelemetry} with the settings of this {@link
+   * ApacheDbcpTelemetryBuilder}.
+   */
+  public ApacheDbcpTelemetry build() {
+    return new ApacheDbcpTelemetry(openTelemetry, leakDetectionThreshold);
+  }
+}
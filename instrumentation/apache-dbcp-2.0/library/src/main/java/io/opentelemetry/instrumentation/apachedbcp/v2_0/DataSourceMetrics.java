@@ -10,6 +10,9 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.dbcp2.BasicDataSourceMXBean;
@@ -24,7 +27,10 @@ final class DataSourceMetrics {
       new ConcurrentHashMap<>();
 
   public static void registerMetrics(
-      OpenTelemetry openTelemetry, BasicDataSourceMXBean dataSource, String dataSourceName) {
+      OpenTelemetry openTelemetry,
+      BasicDataSourceMXBean dataSource,
+      String dataSourceName,
+      Duration leakDetectionThreshold) {
     DbConnectionPoolMetrics metrics =
         DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSourceName);
 
@@ -52,9 +58,13 @@ final class DataSourceMetrics {
             maxConnections);
 
     dataSourceMetrics.put(dataSource, callback);
+    // dbcp doesn't notify about borrowed connections, they are fed by the javaagent instrumentation
+    DbConnectionPoolTrackers.register(
+        dataSource, DbConnectionPoolTracker.create(metrics, leakDetectionThreshold));
   }
 
   public static void unregisterMetrics(BasicDataSourceMXBean dataSource) {
+    DbConnectionPoolTrackers.unregister(dataSource);
     BatchCallback callback = dataSourceMetrics.remove(dataSource);
     if (callback != null) {
       callback.close();
@@ -1,5 +1,6 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -22,6 +23,12 @@ dependencies {
   testLibrary("software.amazon.awssdk:rds:2.2.0")
   testLibrary("software.amazon.awssdk:s3:2.2.0")
   testLibrary("software.amazon.awssdk:ses:2.2.0")
+
+  jmhImplementation("software.amazon.awssdk:aws-core:2.2.0")
+  jmhImplementation("software.amazon.awssdk:aws-json-protocol:2.2.0")
+  jmhImplementation("software.amazon.awssdk:dynamodb:2.2.0")
+  jmhImplementation("software.amazon.awssdk:s3:2.2.0")
+  jmhImplementation("software.amazon.awssdk:sqs:2.2.0")
 }
 
 testing {
@@ -0,0 +1,121 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.awssdk.v2_2.internal;
+
+import io.opentelemetry.api.trace.Span;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+
+/** Maps the attributes of representative DynamoDB, SQS and S3 requests and responses. */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class FieldMapperBenchmark {
+
+  private static final Span SPAN = Span.getInvalid();
+
+  private final FieldMapper fieldMapper = new FieldMapper();
+
+  private final GetItemRequest getItemRequest =
+      GetItemRequest.builder()
+          .tableName("users")
+          .key(Collections.singletonMap("id", AttributeValue.builder().s("1234").build()))
+          .projectionExpression("id, name")
+          .consistentRead(true)
+          .build();
+  private final GetItemResponse getItemResponse =
+      GetItemResponse.builder()
+          .consumedCapacity(
+              ConsumedCapacity.builder().tableName("users").capacityUnits(1.0).build())
+          .build();
+  private final QueryRequest queryRequest =
+      QueryRequest.builder()
+          .tableName("users")
+          .indexName("by-name")
+          .select(Select.ALL_ATTRIBUTES)
+          .limit(10)
+          .scanIndexForward(true)
+          .build();
+  private final BatchGetItemRequest batchGetItemRequest =
+      BatchGetItemRequest.builder()
+          .requestItems(
+              Collections.singletonMap(
+                  "users",
+                  KeysAndAttributes.builder()
+                      .keys(
+                          Collections.singletonMap(
+                              "id", AttributeValue.builder().s("1234").build()))
+                      .build()))
+          .build();
+  private final UpdateTableRequest updateTableRequest =
+      UpdateTableRequest.builder()
+          .tableName("users")
+          .provisionedThroughput(
+              ProvisionedThroughput.builder().readCapacityUnits(5L).writeCapacityUnits(10L).build())
+          .build();
+  private final SendMessageRequest sendMessageRequest =
+      SendMessageRequest.builder()
+          .queueUrl("https://sqs.us-east-1.amazonaws.com/123456789012/orders")
+          .messageBody("{}")
+          .build();
+  private final GetObjectRequest getObjectRequest =
+      GetObjectRequest.builder().bucket("bucket").key("path/to/object").build();
+
+  @Benchmark
+  public void dynamoDbGetItem() {
+    fieldMapper.mapToAttributes(getItemRequest, AwsSdkRequest.GetItem, SPAN);
+    fieldMapper.mapToAttributes(getItemResponse, AwsSdkRequest.GetItem, SPAN);
+  }
+
+  @Benchmark
+  public void dynamoDbQuery() {
+    fieldMapper.mapToAttributes(queryRequest, AwsSdkRequest.Query, SPAN);
+  }
+
+  @Benchmark
+  public void dynamoDbBatchGetItem() {
+    fieldMapper.mapToAttributes(batchGetItemRequest, AwsSdkRequest.BatchGetItem, SPAN);
+  }
+
+  @Benchmark
+  public void dynamoDbUpdateTable() {
+    fieldMapper.mapToAttributes(updateTableRequest, AwsSdkRequest.UpdateTable, SPAN);
+  }
+
+  @Benchmark
+  public void sqsSendMessage() {
+    fieldMapper.mapToAttributes(sendMessageRequest, AwsSdkRequest.SqsRequest, SPAN);
+  }
+
+  @Benchmark
+  public void s3GetObject() {
+    fieldMapper.mapToAttributes(getObjectRequest, AwsSdkRequest.S3Request, SPAN);
+  }
+}
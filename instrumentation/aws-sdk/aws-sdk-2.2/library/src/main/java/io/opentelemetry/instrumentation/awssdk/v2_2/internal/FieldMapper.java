@@ -5,9 +5,19 @@
 
 package io.opentelemetry.instrumentation.awssdk.v2_2.internal;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
@@ -15,8 +25,16 @@ import software.amazon.awssdk.utils.StringUtils;
 
 class FieldMapper {
 
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
   private final Serializer serializer;
   private final MethodHandleFactory methodHandleFactory;
+  // the field mappings of each (request or response class, AwsSdkRequest) pair are compiled into
+  // extractors with pre-bound getters once, instead of looking up the getters on every call
+  private final ClassValue<Map<AwsSdkRequest, FieldExtractor[]>> requestExtractors =
+      new ExtractorsClassValue();
+  private final ClassValue<Map<AwsSdkRequest, FieldExtractor[]>> responseExtractors =
+      new ExtractorsClassValue();
 
   FieldMapper() {
     serializer = new Serializer();
@@ -30,56 +48,152 @@ class FieldMapper {
 
   void mapToAttributes(SdkRequest sdkRequest, AwsSdkRequest request, Span span) {
     mapToAttributes(
-        field -> sdkRequest.getValueForField(field, Object.class).orElse(null),
-        FieldMapping.Type.REQUEST,
-        request,
+        sdkRequest,
+        extractors(requestExtractors, sdkRequest.getClass(), FieldMapping.Type.REQUEST, request),
         span);
   }
 
   void mapToAttributes(SdkResponse sdkResponse, AwsSdkRequest request, Span span) {
     mapToAttributes(
-        field -> sdkResponse.getValueForField(field, Object.class).orElse(null),
-        FieldMapping.Type.RESPONSE,
-        request,
+        sdkResponse,
+        extractors(responseExtractors, sdkResponse.getClass(), FieldMapping.Type.RESPONSE, request),
         span);
   }
 
-  private void mapToAttributes(
-      Function<String, Object> fieldValueProvider,
+  private void mapToAttributes(Object sdkPojo, FieldExtractor[] extractors, Span span) {
+    for (FieldExtractor extractor : extractors) {
+      Object target = extractor.extract(sdkPojo, methodHandleFactory);
+      if (target != null) {
+        String value = serializer.serialize(target);
+        if (!StringUtils.isEmpty(value)) {
+          span.setAttribute(extractor.attribute, value);
+        }
+      }
+    }
+  }
+
+  private static FieldExtractor[] extractors(
+      ClassValue<Map<AwsSdkRequest, FieldExtractor[]>> classValue,
+      Class<?> sdkPojoClass,
       FieldMapping.Type type,
-      AwsSdkRequest request,
-      Span span) {
+      AwsSdkRequest request) {
+    Map<AwsSdkRequest, FieldExtractor[]> extractorsByRequest = classValue.get(sdkPojoClass);
+    FieldExtractor[] extractors = extractorsByRequest.get(request);
+    if (extractors == null) {
+      extractors =
+          extractorsByRequest.computeIfAbsent(
+              request, unused -> compile(sdkPojoClass, type, request));
+    }
+    return extractors;
+  }
+
+  private static FieldExtractor[] compile(
+      Class<?> sdkPojoClass, FieldMapping.Type type, AwsSdkRequest request) {
+    List<FieldExtractor> extractors = new ArrayList<>();
     for (FieldMapping fieldMapping : request.fields(type)) {
-      mapToAttributes(fieldValueProvider, fieldMapping, span);
+      extractors.add(FieldExtractor.compile(sdkPojoClass, fieldMapping));
     }
     for (FieldMapping fieldMapping : request.type().fields(type)) {
-      mapToAttributes(fieldValueProvider, fieldMapping, span);
+      extractors.add(FieldExtractor.compile(sdkPojoClass, fieldMapping));
+    }
+    return extractors.toArray(new FieldExtractor[0]);
+  }
+
+  private static final class ExtractorsClassValue
+      extends ClassValue<Map<AwsSdkRequest, FieldExtractor[]>> {
+    @Override
+    protected Map<AwsSdkRequest, FieldExtractor[]> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
     }
   }
 
-  private void mapToAttributes(
-      Function<String, Object> fieldValueProvider, FieldMapping fieldMapping, Span span) {
-    // traverse path
-    List<String> path = fieldMapping.getFields();
-    Object target = fieldValueProvider.apply(path.get(0));
-    for (int i = 1; i < path.size() && target != null; i++) {
-      target = next(target, path.get(i));
+  private static final class FieldExtractor {
+
+    private final AttributeKey<String> attribute;
+    private final List<String> path;
+    // getters of the fields on the path, null where the getter couldn't be resolved from the
+    // declared types and has to be looked up on the actual value instead
+    private final MethodHandle[] getters;
+
+    private FieldExtractor(AttributeKey<String> attribute, List<String> path) {
+      this.attribute = attribute;
+      this.path = path;
+      this.getters = new MethodHandle[path.size()];
     }
-    if (target != null) {
-      String value = serializer.serialize(target);
-      if (!StringUtils.isEmpty(value)) {
-        span.setAttribute(fieldMapping.getAttribute(), value);
+
+    static FieldExtractor compile(Class<?> sdkPojoClass, FieldMapping fieldMapping) {
+      List<String> path = fieldMapping.getFields();
+      FieldExtractor extractor = new FieldExtractor(stringKey(fieldMapping.getAttribute()), path);
+      Class<?> type = sdkPojoClass;
+      for (int i = 0; i < path.size() && type != null; i++) {
+        Method getter = findGetter(type, path.get(i), /* isRoot= */ i == 0);
+        if (getter == null) {
+          break;
+        }
+        try {
+          extractor.getters[i] = MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+          break;
+        }
+        type = getter.getReturnType();
       }
+      return extractor;
     }
-  }
 
-  @Nullable
-  private Object next(Object current, String fieldName) {
-    try {
-      return methodHandleFactory.forField(current.getClass(), fieldName).invoke(current);
-    } catch (Throwable t) {
-      // ignore
+    @Nullable
+    private static Method findGetter(Class<?> type, String fieldName, boolean isRoot) {
+      // getter in AWS SDK is lowercased field name
+      String getterName =
+          fieldName.substring(0, 1).toLowerCase(Locale.ROOT) + fieldName.substring(1);
+      if (isRoot) {
+        // getValueForField() returns the string value of enum fields, use the same getter
+        Method getter = findMethod(type, getterName + "AsString");
+        if (getter == null) {
+          getter = findMethod(type, getterName + "AsStrings");
+        }
+        if (getter != null) {
+          return getter;
+        }
+      }
+      return findMethod(type, getterName);
+    }
+
+    @Nullable
+    private static Method findMethod(Class<?> type, String name) {
+      try {
+        return type.getMethod(name);
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    @Nullable
+    Object extract(Object sdkPojo, MethodHandleFactory methodHandleFactory) {
+      Object target = sdkPojo;
+      try {
+        for (int i = 0; i < getters.length && target != null; i++) {
+          MethodHandle getter = getters[i];
+          if (getter != null) {
+            target = getter.invokeExact(target);
+          } else if (i == 0) {
+            target = getValueForField(sdkPojo, path.get(0));
+          } else {
+            target = methodHandleFactory.forField(target.getClass(), path.get(i)).invoke(target);
+          }
+        }
+      } catch (Throwable t) {
+        // ignore
+        return null;
+      }
+      return target;
+    }
+
+    @Nullable
+    private static Object getValueForField(Object sdkPojo, String field) {
+      if (sdkPojo instanceof SdkRequest) {
+        return ((SdkRequest) sdkPojo).getValueForField(field, Object.class).orElse(null);
+      }
+      return ((SdkResponse) sdkPojo).getValueForField(field, Object.class).orElse(null);
     }
-    return null;
   }
 }
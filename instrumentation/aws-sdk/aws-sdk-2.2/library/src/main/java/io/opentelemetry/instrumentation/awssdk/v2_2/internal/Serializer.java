@@ -10,14 +10,12 @@ import java.io.InputStream;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.utils.IoUtils;
-import software.amazon.awssdk.utils.StringUtils;
 
 class Serializer {
 
@@ -28,6 +26,13 @@ class Serializer {
       return null;
     }
 
+    // fast paths for the most common values, which don't need the marshaller
+    if (target instanceof String) {
+      return (String) target;
+    }
+    if (target instanceof Number || target instanceof Boolean) {
+      return target.toString();
+    }
     if (target instanceof SdkPojo) {
       return serialize((SdkPojo) target);
     }
@@ -61,8 +66,21 @@ class Serializer {
         .orElse(null);
   }
 
+  @Nullable
   private String serialize(Collection<?> collection) {
-    String serialized = collection.stream().map(this::serialize).collect(Collectors.joining(","));
-    return (StringUtils.isEmpty(serialized) ? null : "[" + serialized + "]");
+    StringBuilder serialized = new StringBuilder().append('[');
+    boolean first = true;
+    for (Object element : collection) {
+      if (!first) {
+        serialized.append(',');
+      }
+      first = false;
+      // same as Collectors.joining(), which appends null elements as "null"
+      serialized.append(serialize(element));
+    }
+    if (serialized.length() == 1) {
+      return null;
+    }
+    return serialized.append(']').toString();
   }
 }
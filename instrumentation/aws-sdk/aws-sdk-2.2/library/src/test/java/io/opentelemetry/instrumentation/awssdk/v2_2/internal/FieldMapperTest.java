@@ -5,9 +5,12 @@
 
 package io.opentelemetry.instrumentation.awssdk.v2_2.internal;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.instrumentation.awssdk.v2_2.internal.AwsSdkRequest.BatchWriteItem;
+import static io.opentelemetry.instrumentation.awssdk.v2_2.internal.AwsSdkRequest.Query;
 import static io.opentelemetry.instrumentation.awssdk.v2_2.internal.AwsSdkRequest.UpdateTable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -22,6 +25,8 @@ import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.ItemCollectionMetrics;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
@@ -49,8 +54,10 @@ class FieldMapperTest {
     // when
     underTest.mapToAttributes(sdkRequest, awsSdkRequest, span);
     // then
-    verify(span).setAttribute("aws.dynamodb.provisioned_throughput.read_capacity_units", "55");
-    verify(span).setAttribute("aws.dynamodb.provisioned_throughput.write_capacity_units", "77");
+    verify(span)
+        .setAttribute(stringKey("aws.dynamodb.provisioned_throughput.read_capacity_units"), "55");
+    verify(span)
+        .setAttribute(stringKey("aws.dynamodb.provisioned_throughput.write_capacity_units"), "77");
     verifyNoMoreInteractions(span);
   }
 
@@ -69,7 +76,7 @@ class FieldMapperTest {
     // when
     underTest.mapToAttributes(sdkRequest, awsSdkRequest, span);
     // then
-    verify(span).setAttribute("aws.dynamodb.table_names", "firstTable,secondTable");
+    verify(span).setAttribute(stringKey("aws.dynamodb.table_names"), "firstTable,secondTable");
     verifyNoMoreInteractions(span);
   }
 
@@ -93,8 +100,27 @@ class FieldMapperTest {
     // when
     underTest.mapToAttributes(sdkResponse, awsSdkRequest, span);
     // then
-    verify(span).setAttribute("aws.dynamodb.consumed_capacity", "consumedCapacity");
-    verify(span).setAttribute("aws.dynamodb.item_collection_metrics", "itemCollectionMetrics");
+    verify(span).setAttribute(stringKey("aws.dynamodb.consumed_capacity"), "consumedCapacity");
+    verify(span)
+        .setAttribute(stringKey("aws.dynamodb.item_collection_metrics"), "itemCollectionMetrics");
+    verifyNoMoreInteractions(span);
+  }
+
+  @Test
+  void shouldMapEnumFieldsAsString() {
+    // given
+    FieldMapper underTest = new FieldMapper();
+    QueryRequest sdkRequest =
+        QueryRequest.builder().tableName("table").select(Select.COUNT).limit(10).build();
+
+    Span span = mock(Span.class);
+    // when
+    underTest.mapToAttributes(sdkRequest, Query, span);
+    underTest.mapToAttributes(sdkRequest, Query, span);
+    // then
+    verify(span, times(2)).setAttribute(stringKey("aws.dynamodb.select"), "COUNT");
+    verify(span, times(2)).setAttribute(stringKey("aws.dynamodb.limit"), "10");
+    verify(span, times(2)).setAttribute(stringKey("aws.table.name"), "table");
     verifyNoMoreInteractions(span);
   }
 }
@@ -71,4 +71,23 @@ class SerializerTest {
     // then
     assertThat(serialized).isEqualTo("[uno,dos,tres]");
   }
+
+  @Test
+  void shouldSerializeNumber() {
+    // given
+    // when
+    String serialized = new Serializer().serialize(42L);
+    // then
+    assertThat(serialized).isEqualTo("42");
+  }
+
+  @Test
+  void shouldSerializeNestedCollection() {
+    // given
+    List<Object> collection = Arrays.asList("one", Arrays.asList(2, 3), null);
+    // when
+    String serialized = new Serializer().serialize(collection);
+    // then
+    assertThat(serialized).isEqualTo("[one,[2,3],null]");
+  }
 }
@@ -5,12 +5,14 @@
 
 package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 
-import static io.opentelemetry.javaagent.instrumentation.c3p0.v0_9.C3p0Singletons.telemetry;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.sql.Connection;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -27,6 +29,9 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
     transformer.applyAdviceToMethod(
         named("resetPoolManager"), this.getClass().getName() + "$ResetPoolManagerAdvice");
     transformer.applyAdviceToMethod(named("close"), this.getClass().getName() + "$CloseAdvice");
+    transformer.applyAdviceToMethod(
+        isPublic().and(named("getConnection")).and(takesArguments(0)),
+        this.getClass().getName() + "$GetConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -34,7 +39,7 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
 
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void onExit(@Advice.This AbstractPoolBackedDataSource dataSource) {
-      telemetry().registerMetrics(dataSource);
+      C3p0Singletons.registerMetrics(dataSource);
     }
   }
 
@@ -43,7 +48,26 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
 
     @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
     public static void onExit(@Advice.This AbstractPoolBackedDataSource dataSource) {
-      telemetry().unregisterMetrics(dataSource);
+      C3p0Singletons.unregisterMetrics(dataSource);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter() {
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
+    public static void onExit(
+        @Advice.This AbstractPoolBackedDataSource dataSource,
+        @Advice.Enter long startNanos,
+        @Advice.Return Connection connection) {
+      if (connection != null) {
+        C3p0Singletons.connectionAcquired(dataSource, connection, startNanos);
+      }
     }
   }
 }
@@ -8,7 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 @AutoService(InstrumentationModule.class)
@@ -20,6 +20,7 @@ public class C3p0InstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return Collections.singletonList(new AbstractPoolBackedDataSourceInstrumentation());
+    return Arrays.asList(
+        new AbstractPoolBackedDataSourceInstrumentation(), new NewProxyConnectionInstrumentation());
   }
 }
@@ -5,16 +5,59 @@
 
 package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 
+import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.c3p0.v0_9.C3p0Telemetry;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import java.sql.Connection;
+import java.time.Duration;
 
 public final class C3p0Singletons {
 
   private static final C3p0Telemetry c3p0Telemetry =
-      C3p0Telemetry.create(GlobalOpenTelemetry.get());
+      C3p0Telemetry.builder(GlobalOpenTelemetry.get())
+          .setLeakDetectionThreshold(
+              AgentInstrumentationConfig.get()
+                  .getDuration(
+                      "otel.instrumentation.db-connection-pool.experimental.leak-detection-threshold",
+                      Duration.ZERO))
+          .build();
 
-  public static C3p0Telemetry telemetry() {
-    return c3p0Telemetry;
+  private static final VirtualField<AbstractPoolBackedDataSource, DbConnectionPoolTracker>
+      dataSourceTracker =
+          VirtualField.find(AbstractPoolBackedDataSource.class, DbConnectionPoolTracker.class);
+  private static final VirtualField<Connection, DbConnectionPoolTracker> connectionTracker =
+      VirtualField.find(Connection.class, DbConnectionPoolTracker.class);
+
+  public static void registerMetrics(AbstractPoolBackedDataSource dataSource) {
+    c3p0Telemetry.registerMetrics(dataSource);
+    dataSourceTracker.set(dataSource, DbConnectionPoolTrackers.get(dataSource));
+  }
+
+  public static void unregisterMetrics(AbstractPoolBackedDataSource dataSource) {
+    c3p0Telemetry.unregisterMetrics(dataSource);
+    dataSourceTracker.set(dataSource, null);
+  }
+
+  // c3p0 hands out a new NewProxyConnection for every checkout and doesn't expose the physical
+  // connection behind it, so the tracker allocates a record for every checkout
+  public static void connectionAcquired(
+      AbstractPoolBackedDataSource dataSource, Connection connection, long startNanos) {
+    DbConnectionPoolTracker tracker = dataSourceTracker.get(dataSource);
+    if (tracker != null) {
+      tracker.onAcquired(connection, System.nanoTime() - startNanos);
+      connectionTracker.set(connection, tracker);
+    }
+  }
+
+  public static void connectionReleased(Connection connection) {
+    DbConnectionPoolTracker tracker = connectionTracker.get(connection);
+    if (tracker != null) {
+      tracker.onReleased(connection);
+    }
   }
 
   private C3p0Singletons() {}
@@ -26,4 +26,9 @@ class C3p0InstrumentationTest extends AbstractC3p0InstrumentationTest {
 
   @Override
   protected void shutdown(PooledDataSource dataSource) {}
+
+  @Override
+  protected boolean recordsWaitAndUseTime() {
+    return true;
+  }
 }
@@ -7,22 +7,30 @@ package io.opentelemetry.instrumentation.c3p0.v0_9;
 
 import com.mchange.v2.c3p0.PooledDataSource;
 import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
 
 public final class C3p0Telemetry {
   /** Returns a new {@link C3p0Telemetry} configured with the given {@link OpenTelemetry}. */
   public static C3p0Telemetry create(OpenTelemetry openTelemetry) {
-    return new C3p0Telemetry(openTelemetry);
+    return builder(openTelemetry).build();
+  }
+
+  /** Returns a new {@link C3p0TelemetryBuilder} configured with the given {@link OpenTelemetry}. */
+  public static C3p0TelemetryBuilder builder(OpenTelemetry openTelemetry) {
+    return new C3p0TelemetryBuilder(openTelemetry);
   }
 
   private final OpenTelemetry openTelemetry;
+  private final Duration leakDetectionThreshold;
 
-  private C3p0Telemetry(OpenTelemetry openTelemetry) {
+  C3p0Telemetry(OpenTelemetry openTelemetry, Duration leakDetectionThreshold) {
     this.openTelemetry = openTelemetry;
+    this.leakDetectionThreshold = leakDetectionThreshold;
   }
 
   /** Start collecting metrics for given connection pool. */
   public void registerMetrics(PooledDataSource dataSource) {
-    ConnectionPoolMetrics.registerMetrics(openTelemetry, dataSource);
+    ConnectionPoolMetrics.registerMetrics(openTelemetry, dataSource, leakDetectionThreshold);
   }
 
   /** Stop collecting metrics for given connection pool. */
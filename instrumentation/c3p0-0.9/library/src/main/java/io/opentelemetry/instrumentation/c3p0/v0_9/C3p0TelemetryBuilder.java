@@ -0,0 +1,36 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.c3p0.v0_9;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
+
+/** A builder of {@link C3p0Telemetry}. */
+public final class C3p0TelemetryBuilder {
+
+  private final OpenTelemetry openTelemetry;
+  private Duration leakDetectionThreshold = Duration.ZERO;
+
+  C3p0TelemetryBuilder(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+  }
+
+  /**
+   * Sets how long a connection can be held before it is counted as leaked. Leak detection is
+   * disabled by default, and when the passed threshold is zero.
+   */
+  @CanIgnoreReturnValue
+  public C3p0TelemetryBuilder setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+    this.leakDetectionThreshold = leakDetectionThreshold;
+    return this;
+  }
+
+  /** Returns a new {@link C3p0Telemetry} with the settings of this {@link C3p0TelemetryBuilder}. */
+  public C3p0Telemetry build() {
+    return new C3p0Telemetry(openTelemetry, leakDetectionThreshold);
+  }
+}
@@ -11,7 +11,10 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -30,17 +33,20 @@ final class ConnectionPoolMetrics {
   private static final Map<IdentityDataSourceKey, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
 
-  public static void registerMetrics(OpenTelemetry openTelemetry, PooledDataSource dataSource) {
+  public static void registerMetrics(
+      OpenTelemetry openTelemetry, PooledDataSource dataSource, Duration leakDetectionThreshold) {
     dataSourceMetrics.compute(
         new IdentityDataSourceKey(dataSource),
         (key, existingCallback) ->
-            ConnectionPoolMetrics.createMeters(openTelemetry, key, existingCallback));
+            ConnectionPoolMetrics.createMeters(
+                openTelemetry, key, existingCallback, leakDetectionThreshold));
   }
 
   private static BatchCallback createMeters(
       OpenTelemetry openTelemetry,
       IdentityDataSourceKey key,
-      @Nullable BatchCallback existingCallback) {
+      @Nullable BatchCallback existingCallback,
+      Duration leakDetectionThreshold) {
     // remove old counters from the registry in case they were already there
     removeMetersFromRegistry(existingCallback);
 
@@ -53,6 +59,11 @@ final class ConnectionPoolMetrics {
     ObservableLongMeasurement connections = metrics.connections();
     ObservableLongMeasurement pendingRequestsForConnection = metrics.pendingRequestsForConnection();
 
+    // c3p0 doesn't notify about checked out connections, they are fed by the javaagent
+    // instrumentation
+    DbConnectionPoolTrackers.register(
+        dataSource, DbConnectionPoolTracker.create(metrics, leakDetectionThreshold));
+
     Attributes attributes = metrics.getAttributes();
     Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
     Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
@@ -75,6 +86,7 @@ final class ConnectionPoolMetrics {
   }
 
   public static void unregisterMetrics(PooledDataSource dataSource) {
+    DbConnectionPoolTrackers.unregister(dataSource);
     BatchCallback callback = dataSourceMetrics.remove(new IdentityDataSourceKey(dataSource));
     removeMetersFromRegistry(callback);
   }
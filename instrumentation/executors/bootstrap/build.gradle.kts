@@ -1,3 +1,10 @@
 plugins {
   id("otel.javaagent-bootstrap")
+  id("otel.jmh-conventions")
+}
+
+dependencies {
+  jmhImplementation("io.opentelemetry:opentelemetry-api")
+  jmhImplementation(project(":instrumentation-api"))
+  jmhImplementation(project(":javaagent-bootstrap"))
 }
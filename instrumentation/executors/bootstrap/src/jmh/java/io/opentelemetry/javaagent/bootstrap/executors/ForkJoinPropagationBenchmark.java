@@ -0,0 +1,138 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.executors;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares propagating the context to lambda tasks through a {@link PropagatedContext} attached
+ * with a {@link VirtualField}, which is what the executor instrumentation does by default, with
+ * wrapping the tasks in {@link ContextPropagatingRunnable} and {@link ContextPropagatingCallable},
+ * which is what it does in the lightweight propagation mode.
+ *
+ * <p>Lambda classes can't be transformed by the agent, so their virtual fields are always backed by
+ * the weak map fallback; this benchmark uses the same fallback, since it runs without the agent.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class ForkJoinPropagationBenchmark {
+
+  private static final ContextKey<String> KEY = ContextKey.named("benchmark");
+  private static final VirtualField<Runnable, PropagatedContext> RUNNABLE_FIELD =
+      VirtualField.find(Runnable.class, PropagatedContext.class);
+  private static final VirtualField<Callable<?>, PropagatedContext> CALLABLE_FIELD =
+      VirtualField.find(Callable.class, PropagatedContext.class);
+
+  @Param({"1", "64"})
+  public int tasks;
+
+  private ForkJoinPool pool;
+  private Context context;
+  private int runs;
+
+  @Setup
+  public void setUp() {
+    pool = new ForkJoinPool(4);
+    context = Context.root().with(KEY, "value");
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Object inline_attachedContext() {
+    Object result = null;
+    for (int i = 0; i < tasks; i++) {
+      int index = i;
+      Runnable task = () -> runs += index;
+      ExecutorAdviceHelper.attachContextToTask(context, RUNNABLE_FIELD, task);
+      try (io.opentelemetry.context.Scope ignored =
+          TaskAdviceHelper.makePropagatedContextCurrent(RUNNABLE_FIELD, task)) {
+        task.run();
+      }
+      result = task;
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Object inline_wrappedContext() {
+    Object result = null;
+    for (int i = 0; i < tasks; i++) {
+      int index = i;
+      Runnable task = ContextPropagatingRunnable.propagateContext(() -> runs += index, context);
+      task.run();
+      result = task;
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Object forkJoin_attachedContext() throws Exception {
+    List<Future<String>> futures = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      int index = i;
+      // capture the index, so that each task is a distinct lambda instance
+      Callable<String> task = () -> Context.current().get(KEY) + index;
+      ExecutorAdviceHelper.attachContextToTask(context, CALLABLE_FIELD, task);
+      // stands in for the advice that the agent adds to the instrumented task classes
+      futures.add(
+          pool.submit(
+              () -> {
+                try (io.opentelemetry.context.Scope ignored =
+                    TaskAdviceHelper.makePropagatedContextCurrent(CALLABLE_FIELD, task)) {
+                  return task.call();
+                }
+              }));
+    }
+    return join(futures);
+  }
+
+  @Benchmark
+  public Object forkJoin_wrappedContext() throws Exception {
+    List<Future<String>> futures = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      int index = i;
+      Callable<String> task = () -> Context.current().get(KEY) + index;
+      futures.add(pool.submit(ContextPropagatingCallable.propagateContext(task, context)));
+    }
+    return join(futures);
+  }
+
+  private static Object join(List<Future<String>> futures) throws Exception {
+    Object result = null;
+    for (Future<String> future : futures) {
+      result = future.get();
+    }
+    return result;
+  }
+}
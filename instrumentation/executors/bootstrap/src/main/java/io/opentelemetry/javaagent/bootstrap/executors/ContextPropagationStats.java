@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.executors;
+
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Counts, per executor class, how many tasks had a context attached, how many of them were executed
+ * with that context, and how many attached contexts were dropped because the task already carried a
+ * different one. Tasks that get a context attached by an instrumentation that doesn't pass the
+ * executor are counted with a {@code null} executor class name.
+ *
+ * <p>The counters are only maintained when {@code
+ * otel.instrumentation.executors.experimental.propagation-metrics.enabled} is set.
+ */
+public final class ContextPropagationStats {
+
+  private static final boolean ENABLED =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.executors.experimental.propagation-metrics.enabled", false);
+
+  // keyed by name, so that the counters don't keep executor classes from being unloaded
+  private static final ConcurrentMap<String, ContextPropagationStats> statsByName =
+      new ConcurrentHashMap<>();
+  private static final ClassValue<ContextPropagationStats> statsByClass =
+      new ClassValue<ContextPropagationStats>() {
+        @Override
+        protected ContextPropagationStats computeValue(Class<?> type) {
+          return statsByName.computeIfAbsent(type.getName(), ContextPropagationStats::new);
+        }
+      };
+  private static final ContextPropagationStats UNKNOWN_EXECUTOR = new ContextPropagationStats(null);
+
+  @Nullable private final String executorClassName;
+  private final LongAdder attached = new LongAdder();
+  private final LongAdder executed = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  private ContextPropagationStats(@Nullable String executorClassName) {
+    this.executorClassName = executorClassName;
+  }
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /** Returns the counters of the passed executor's class, or null if they aren't maintained. */
+  @Nullable
+  static ContextPropagationStats forExecutor(@Nullable Object executor) {
+    if (!ENABLED) {
+      return null;
+    }
+    return executor == null ? UNKNOWN_EXECUTOR : statsByClass.get(executor.getClass());
+  }
+
+  /** Returns the counters of all executor classes that had a context attached to their tasks. */
+  public static Collection<ContextPropagationStats> getAll() {
+    if (!ENABLED) {
+      return Collections.emptyList();
+    }
+    Collection<ContextPropagationStats> all = new ArrayList<>(statsByName.values());
+    all.add(UNKNOWN_EXECUTOR);
+    return all;
+  }
+
+  @Nullable
+  public String getExecutorClassName() {
+    return executorClassName;
+  }
+
+  public long getAttachedCount() {
+    return attached.sum();
+  }
+
+  public long getExecutedCount() {
+    return executed.sum();
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  void recordAttached() {
+    attached.increment();
+  }
+
+  void recordExecuted() {
+    executed.increment();
+  }
+
+  void recordDropped() {
+    dropped.increment();
+  }
+}
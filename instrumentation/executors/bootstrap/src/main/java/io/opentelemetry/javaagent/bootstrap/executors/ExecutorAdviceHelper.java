@@ -66,6 +66,18 @@ public final class ExecutorAdviceHelper {
    */
   public static <T> PropagatedContext attachContextToTask(
       Context context, VirtualField<T, PropagatedContext> virtualField, T task) {
+    return attachContextToTask(context, virtualField, task, null);
+  }
+
+  /**
+   * Same as {@link #attachContextToTask(Context, VirtualField, Object)}, but also counts the
+   * propagation in the {@link ContextPropagationStats} of the {@code executor}'s class.
+   */
+  public static <T> PropagatedContext attachContextToTask(
+      Context context,
+      VirtualField<T, PropagatedContext> virtualField,
+      T task,
+      @Nullable Object executor) {
 
     // note that this is not an atomic operation and one PropagatedContext may overwrite another if
     // the task is submitted to >1 executors at roughly the same time; but we're perfectly fine with
@@ -86,7 +98,7 @@ public final class ExecutorAdviceHelper {
     }
 
     context = ContextPropagationDebug.addDebugInfo(context, task);
-    propagatedContext.setContext(context);
+    propagatedContext.setContext(context, ContextPropagationStats.forExecutor(executor));
     return propagatedContext;
   }
 
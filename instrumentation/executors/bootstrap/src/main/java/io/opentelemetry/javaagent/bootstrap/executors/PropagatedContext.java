@@ -10,6 +10,7 @@ import static java.util.logging.Level.FINE;
 import io.opentelemetry.context.Context;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /** Represents a {@link Context} attached to a concurrent task instance. */
 public final class PropagatedContext {
@@ -23,13 +24,29 @@ public final class PropagatedContext {
   @SuppressWarnings("UnusedVariable")
   private volatile Context context;
 
+  // counters of the executor that attached the context, published by the write to the volatile
+  // context field
+  @Nullable private ContextPropagationStats stats;
+
   PropagatedContext() {}
 
-  void setContext(Context context) {
+  void setContext(Context context, @Nullable ContextPropagationStats stats) {
+    if (stats != null && contextUpdater.get(this) == null) {
+      this.stats = stats;
+    }
     boolean result = contextUpdater.compareAndSet(this, null, context);
-    if (!result) {
-      Context currentPropagatedContext = contextUpdater.get(this);
-      if (currentPropagatedContext != context && logger.isLoggable(FINE)) {
+    if (result) {
+      if (stats != null) {
+        stats.recordAttached();
+      }
+      return;
+    }
+    Context currentPropagatedContext = contextUpdater.get(this);
+    if (currentPropagatedContext != context) {
+      if (stats != null) {
+        stats.recordDropped();
+      }
+      if (logger.isLoggable(FINE)) {
         logger.log(
             FINE,
             "Failed to propagate context because previous propagated context is already set; new: {0}, old: {1}",
@@ -46,6 +63,13 @@ public final class PropagatedContext {
     return contextUpdater.getAndSet(this, null);
   }
 
+  void recordExecuted() {
+    ContextPropagationStats stats = this.stats;
+    if (stats != null) {
+      stats.recordExecuted();
+    }
+  }
+
   Context get() {
     return contextUpdater.get(this);
   }
@@ -26,6 +26,7 @@ public final class TaskAdviceHelper {
       virtualField.set(task, null);
       Context context = propagatedContext.getAndClear();
       if (context != null) {
+        propagatedContext.recordExecuted();
         return context.makeCurrent();
       }
     }
@@ -12,6 +12,8 @@ muzzle {
 dependencies {
   bootstrap(project(":instrumentation:executors:bootstrap"))
 
+  compileOnly("io.opentelemetry:opentelemetry-sdk-extension-autoconfigure")
+
   testImplementation(project(":instrumentation:executors:testing"))
   testImplementation("org.scala-lang:scala-library:2.11.12")
   testCompileOnly(project(":instrumentation:executors:bootstrap"))
@@ -37,11 +39,64 @@ testing {
       targets {
         all {
           testTask.configure {
+            filter {
+              excludeTestsMatching("ContextPropagationStatsTest")
+            }
             systemProperty("java.util.concurrent.ForkJoinPool.common.parallelism", 1)
           }
         }
       }
     }
+
+    val testLightweightPropagation by registering(JvmTestSuite::class) {
+      sources {
+        java {
+          setSrcDirs(listOf("src/test/java"))
+        }
+      }
+
+      dependencies {
+        implementation(project(":instrumentation:executors:testing"))
+        compileOnly(project(":instrumentation:executors:bootstrap"))
+        compileOnly(project(":javaagent-bootstrap"))
+      }
+
+      targets {
+        all {
+          testTask.configure {
+            filter {
+              excludeTestsMatching("ContextPropagationStatsTest")
+            }
+            jvmArgs("-Dotel.instrumentation.executors.experimental.lightweight-propagation=true")
+          }
+        }
+      }
+    }
+
+    val testPropagationMetrics by registering(JvmTestSuite::class) {
+      sources {
+        java {
+          setSrcDirs(listOf("src/test/java"))
+        }
+      }
+
+      dependencies {
+        implementation(project(":instrumentation:executors:testing"))
+        compileOnly(project(":instrumentation:executors:bootstrap"))
+        compileOnly(project(":javaagent-bootstrap"))
+      }
+
+      targets {
+        all {
+          testTask.configure {
+            filter {
+              includeTestsMatching("ContextPropagationStatsTest")
+            }
+            jvmArgs("-Dotel.instrumentation.executors.experimental.propagation-metrics.enabled=true")
+          }
+        }
+      }
+    }
   }
 }
 
@@ -58,6 +113,12 @@ tasks {
     jvmArgs("-Dotel.instrumentation.common.experimental.controller-telemetry.enabled=true")
   }
 
+  test {
+    filter {
+      excludeTestsMatching("ContextPropagationStatsTest")
+    }
+  }
+
   check {
     dependsOn(testing.suites)
   }
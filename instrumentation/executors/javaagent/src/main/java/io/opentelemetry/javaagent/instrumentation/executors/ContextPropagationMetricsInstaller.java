@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.executors;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagationStats;
+import io.opentelemetry.javaagent.extension.AgentListener;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+
+/**
+ * An {@link AgentListener} that exports the context propagation counters of the executors as
+ * metrics, when they are enabled.
+ */
+@AutoService(AgentListener.class)
+public class ContextPropagationMetricsInstaller implements AgentListener {
+
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.executors";
+  private static final AttributeKey<String> EXECUTOR_CLASS =
+      AttributeKey.stringKey("executor.class");
+
+  @Override
+  public void afterAgent(AutoConfiguredOpenTelemetrySdk autoConfiguredSdk) {
+    if (!ContextPropagationStats.isEnabled()) {
+      return;
+    }
+
+    Meter meter = GlobalOpenTelemetry.getMeter(INSTRUMENTATION_NAME);
+    ObservableLongMeasurement attached =
+        meter
+            .counterBuilder("executor.context.attached")
+            .setUnit("{task}")
+            .setDescription(
+                "Number of tasks that had the context attached when they were submitted")
+            .buildObserver();
+    ObservableLongMeasurement executed =
+        meter
+            .counterBuilder("executor.context.executed")
+            .setUnit("{task}")
+            .setDescription("Number of tasks that were executed with the attached context")
+            .buildObserver();
+    ObservableLongMeasurement dropped =
+        meter
+            .counterBuilder("executor.context.dropped")
+            .setUnit("{task}")
+            .setDescription(
+                "Number of contexts that were not attached because the task already had a different one")
+            .buildObserver();
+    meter.batchCallback(
+        () -> {
+          for (ContextPropagationStats stats : ContextPropagationStats.getAll()) {
+            String executorClassName = stats.getExecutorClassName();
+            Attributes attributes =
+                executorClassName == null
+                    ? Attributes.empty()
+                    : Attributes.of(EXECUTOR_CLASS, executorClassName);
+            attached.record(stats.getAttachedCount(), attributes);
+            executed.record(stats.getExecutedCount(), attributes);
+            dropped.record(stats.getDroppedCount(), attributes);
+          }
+        },
+        attached,
+        executed,
+        dropped);
+  }
+}
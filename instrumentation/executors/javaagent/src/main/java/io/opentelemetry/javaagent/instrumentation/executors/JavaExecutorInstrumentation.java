@@ -18,9 +18,11 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge;
+import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagatingCallable;
 import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagatingRunnable;
 import io.opentelemetry.javaagent.bootstrap.executors.ExecutorAdviceHelper;
 import io.opentelemetry.javaagent.bootstrap.executors.PropagatedContext;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import java.util.Collection;
@@ -41,6 +43,22 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
 
   @Override
   public void transform(TypeTransformer transformer) {
+    // in the lightweight mode, lambdas passed to submit() and schedule() are wrapped like the ones
+    // passed to execute(), instead of getting a PropagatedContext attached, which for lambdas is
+    // stored in the weak map fallback of the virtual field. ForkJoinTasks, including the tasks that
+    // CompletableFuture runs its async stages in, are never lambdas and aren't wrapped, since
+    // submit() and invoke() return the very task that was passed to them
+    boolean lightweightPropagation =
+        AgentInstrumentationConfig.get()
+            .getBoolean(
+                "otel.instrumentation.executors.experimental.lightweight-propagation", false);
+    String submitRunnableAdvice =
+        lightweightPropagation
+            ? "$SetSubmitRunnableLightweightStateAdvice"
+            : "$SetSubmitRunnableStateAdvice";
+    String callableAdvice =
+        lightweightPropagation ? "$SetCallableLightweightStateAdvice" : "$SetCallableStateAdvice";
+
     transformer.applyAdviceToMethod(
         named("execute").and(takesArgument(0, Runnable.class)).and(takesArguments(1)),
         JavaExecutorInstrumentation.class.getName() + "$SetExecuteRunnableStateAdvice");
@@ -56,12 +74,12 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
         named("submit")
             .and(takesArgument(0, Runnable.class))
             .and(returns(hasSuperType(is(Future.class)))),
-        JavaExecutorInstrumentation.class.getName() + "$SetSubmitRunnableStateAdvice");
+        JavaExecutorInstrumentation.class.getName() + submitRunnableAdvice);
     transformer.applyAdviceToMethod(
         named("submit")
             .and(takesArgument(0, Callable.class))
             .and(returns(hasSuperType(is(Future.class)))),
-        JavaExecutorInstrumentation.class.getName() + "$SetCallableStateAdvice");
+        JavaExecutorInstrumentation.class.getName() + callableAdvice);
     transformer.applyAdviceToMethod(
         named("submit").and(takesArgument(0, ForkJoinTask.class)),
         JavaExecutorInstrumentation.class.getName() + "$SetJavaForkJoinStateAdvice");
@@ -76,12 +94,12 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
         named("schedule")
             .and(takesArgument(0, Runnable.class))
             .and(returns(hasSuperType(is(Future.class)))),
-        JavaExecutorInstrumentation.class.getName() + "$SetSubmitRunnableStateAdvice");
+        JavaExecutorInstrumentation.class.getName() + submitRunnableAdvice);
     transformer.applyAdviceToMethod(
         named("schedule")
             .and(takesArgument(0, Callable.class))
             .and(returns(hasSuperType(is(Future.class)))),
-        JavaExecutorInstrumentation.class.getName() + "$SetCallableStateAdvice");
+        JavaExecutorInstrumentation.class.getName() + callableAdvice);
   }
 
   @SuppressWarnings("unused")
@@ -89,7 +107,7 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
-        @Advice.Argument(value = 0, readOnly = false) Runnable task) {
+        @Advice.This Object executor, @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (!ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         return null;
@@ -100,7 +118,7 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
       }
       VirtualField<Runnable, PropagatedContext> virtualField =
           VirtualField.find(Runnable.class, PropagatedContext.class);
-      return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+      return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -118,12 +136,13 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
   public static class SetJavaForkJoinStateAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
-    public static PropagatedContext enterJobSubmit(@Advice.Argument(0) ForkJoinTask<?> task) {
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor, @Advice.Argument(0) ForkJoinTask<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         VirtualField<ForkJoinTask<?>, PropagatedContext> virtualField =
             VirtualField.find(ForkJoinTask.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
       }
       return null;
     }
@@ -144,12 +163,12 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
-        @Advice.Argument(value = 0, readOnly = false) Runnable task) {
+        @Advice.This Object executor, @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         VirtualField<Runnable, PropagatedContext> virtualField =
             VirtualField.find(Runnable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
       }
       return null;
     }
@@ -175,12 +194,13 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
   public static class SetCallableStateAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
-    public static PropagatedContext enterJobSubmit(@Advice.Argument(0) Callable<?> task) {
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor, @Advice.Argument(0) Callable<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         VirtualField<Callable<?>, PropagatedContext> virtualField =
             VirtualField.find(Callable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
       }
       return null;
     }
@@ -202,12 +222,85 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
     }
   }
 
+  @SuppressWarnings("unused")
+  public static class SetSubmitRunnableLightweightStateAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor, @Advice.Argument(value = 0, readOnly = false) Runnable task) {
+      Context context = Java8BytecodeBridge.currentContext();
+      if (!ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
+        return null;
+      }
+      if (ContextPropagatingRunnable.shouldDecorateRunnable(task)) {
+        task = ContextPropagatingRunnable.propagateContext(task, context);
+        return null;
+      }
+      VirtualField<Runnable, PropagatedContext> virtualField =
+          VirtualField.find(Runnable.class, PropagatedContext.class);
+      return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exitJobSubmit(
+        @Advice.Argument(0) Runnable task,
+        @Advice.Enter PropagatedContext propagatedContext,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Return Future<?> future) {
+      if (propagatedContext != null && future != null) {
+        VirtualField<Future<?>, PropagatedContext> virtualField =
+            VirtualField.find(Future.class, PropagatedContext.class);
+        virtualField.set(future, propagatedContext);
+      }
+      VirtualField<Runnable, PropagatedContext> virtualField =
+          VirtualField.find(Runnable.class, PropagatedContext.class);
+      ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable, virtualField, task);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class SetCallableLightweightStateAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
+        @Advice.Argument(value = 0, readOnly = false) Callable<?> task) {
+      Context context = Java8BytecodeBridge.currentContext();
+      if (!ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
+        return null;
+      }
+      if (ContextPropagatingCallable.shouldDecorateCallable(task)) {
+        task = ContextPropagatingCallable.propagateContext(task, context);
+        return null;
+      }
+      VirtualField<Callable<?>, PropagatedContext> virtualField =
+          VirtualField.find(Callable.class, PropagatedContext.class);
+      return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exitJobSubmit(
+        @Advice.Argument(0) Callable<?> task,
+        @Advice.Enter PropagatedContext propagatedContext,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Return Future<?> future) {
+      if (propagatedContext != null && future != null) {
+        VirtualField<Future<?>, PropagatedContext> virtualField =
+            VirtualField.find(Future.class, PropagatedContext.class);
+        virtualField.set(future, propagatedContext);
+      }
+      VirtualField<Callable<?>, PropagatedContext> virtualField =
+          VirtualField.find(Callable.class, PropagatedContext.class);
+      ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable, virtualField, task);
+    }
+  }
+
   @SuppressWarnings("unused")
   public static class SetCallableStateForCallableCollectionAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static Collection<?> submitEnter(
-        @Advice.Argument(0) Collection<? extends Callable<?>> tasks) {
+        @Advice.This Object executor, @Advice.Argument(0) Collection<? extends Callable<?>> tasks) {
       if (tasks == null) {
         return Collections.emptyList();
       }
@@ -217,7 +310,7 @@ public class JavaExecutorInstrumentation implements TypeInstrumentation {
         if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
           VirtualField<Callable<?>, PropagatedContext> virtualField =
               VirtualField.find(Callable.class, PropagatedContext.class);
-          ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+          ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, executor);
         }
       }
 
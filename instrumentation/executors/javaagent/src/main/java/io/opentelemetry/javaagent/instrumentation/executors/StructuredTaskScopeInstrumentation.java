@@ -38,12 +38,13 @@ public class StructuredTaskScopeInstrumentation implements TypeInstrumentation {
   public static class ForkCallableAdvice {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
-    public static PropagatedContext enterCallableFork(@Advice.Argument(0) Callable<?> task) {
+    public static PropagatedContext enterCallableFork(
+        @Advice.This Object taskScope, @Advice.Argument(0) Callable<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
       if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
         VirtualField<Callable<?>, PropagatedContext> virtualField =
             VirtualField.find(Callable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task);
+        return ExecutorAdviceHelper.attachContextToTask(context, virtualField, task, taskScope);
       }
       return null;
     }
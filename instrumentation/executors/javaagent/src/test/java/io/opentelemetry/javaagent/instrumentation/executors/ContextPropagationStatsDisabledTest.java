@@ -0,0 +1,35 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagationStats;
+import io.opentelemetry.javaagent.instrumentation.executors.ContextPropagationStatsTest.BaggageCallable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ContextPropagationStatsDisabledTest {
+
+  @Test
+  void shouldNotCountTasksByDefault() throws Exception {
+    assertThat(ContextPropagationStats.isEnabled()).isFalse();
+
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    Baggage baggage = Baggage.builder().put("test", "test").build();
+    try (Scope ignored = baggage.makeCurrent()) {
+      assertThat(executor.submit(new BaggageCallable()).get(10, TimeUnit.SECONDS))
+          .isEqualTo("test");
+    }
+    executor.shutdown();
+
+    assertThat(ContextPropagationStats.getAll()).isEmpty();
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.javaagent.bootstrap.executors.ContextPropagationStats;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+class ContextPropagationStatsTest {
+
+  @Test
+  void shouldCountAttachedAndExecutedTasks() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+
+    ContextPropagationStats statsBefore = stats(ThreadPoolExecutor.class);
+    long attachedBefore = statsBefore == null ? 0 : statsBefore.getAttachedCount();
+    long executedBefore = statsBefore == null ? 0 : statsBefore.getExecutedCount();
+
+    Baggage baggage = Baggage.builder().put("test", "test").build();
+    try (Scope ignored = baggage.makeCurrent()) {
+      for (int i = 0; i < 3; i++) {
+        assertThat(executor.submit(new BaggageCallable()).get(10, TimeUnit.SECONDS))
+            .isEqualTo("test");
+      }
+    }
+    executor.shutdown();
+
+    ContextPropagationStats stats = stats(ThreadPoolExecutor.class);
+    assertThat(stats).isNotNull();
+    assertThat(stats.getAttachedCount() - attachedBefore).isGreaterThanOrEqualTo(3);
+    assertThat(stats.getExecutedCount() - executedBefore).isGreaterThanOrEqualTo(3);
+  }
+
+  @Nullable
+  private static ContextPropagationStats stats(Class<?> executorClass) {
+    return ContextPropagationStats.getAll().stream()
+        .filter(stats -> executorClass.getName().equals(stats.getExecutorClassName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  // not a lambda, so that the context is always attached to the task
+  static class BaggageCallable implements Callable<String> {
+    @Override
+    public String call() {
+      return Baggage.current().getEntryValue("test");
+    }
+  }
+}
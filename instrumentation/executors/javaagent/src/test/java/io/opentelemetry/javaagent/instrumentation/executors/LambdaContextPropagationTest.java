@@ -9,8 +9,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.context.Scope;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +40,33 @@ class LambdaContextPropagationTest {
     assertThat(failureCounter).hasValue(0);
   }
 
+  @Test
+  void shouldCorrectlyPropagateContextToSubmittedLambdas() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    List<Future<?>> futures = new ArrayList<>();
+    Baggage baggage = Baggage.builder().put("test", "test").build();
+    try (Scope ignored = baggage.makeCurrent()) {
+      for (int i = 0; i < 20; i++) {
+        futures.add(executor.submit(LambdaContextPropagationTest::assertBaggage));
+        futures.add(executor.submit(LambdaContextPropagationTest::getBaggage));
+      }
+    }
+
+    List<Object> results = new ArrayList<>();
+    for (Future<?> future : futures) {
+      results.add(future.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+
+    assertThat(results).filteredOn("test"::equals).hasSize(20);
+    assertThat(failureCounter).hasValue(0);
+  }
+
+  private static String getBaggage() {
+    return Baggage.current().getEntryValue("test");
+  }
+
   private static void assertBaggage() {
     if (Baggage.current().getEntryValue("test") == null) {
       failureCounter.incrementAndGet();
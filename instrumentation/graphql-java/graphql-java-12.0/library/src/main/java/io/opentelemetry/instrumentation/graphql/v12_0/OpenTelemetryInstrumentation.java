@@ -32,7 +32,7 @@ final class OpenTelemetryInstrumentation extends SimpleInstrumentation {
   public InstrumentationContext<ExecutionResult> beginExecution(
       InstrumentationExecutionParameters parameters) {
     OpenTelemetryInstrumentationState state = parameters.getInstrumentationState();
-    return helper.beginExecution(state);
+    return helper.beginExecution(parameters, state);
   }
 
   @Override
@@ -48,7 +48,7 @@ final class OpenTelemetryInstrumentation extends SimplePerformantInstrumentation
   public InstrumentationContext<ExecutionResult> beginExecution(
       InstrumentationExecutionParameters parameters, InstrumentationState rawState) {
     OpenTelemetryInstrumentationState state = ofState(rawState);
-    return helper.beginExecution(state);
+    return helper.beginExecution(parameters, state);
   }
 
   @Override
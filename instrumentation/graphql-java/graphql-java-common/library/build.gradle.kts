@@ -1,7 +1,10 @@
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
   library("com.graphql-java:graphql-java:12.0")
+
+  jmhImplementation("com.graphql-java:graphql-java:12.0")
 }
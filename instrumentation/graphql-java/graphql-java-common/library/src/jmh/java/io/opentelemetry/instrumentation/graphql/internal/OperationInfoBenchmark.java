@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.graphql.internal;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares printing the (sanitized) query of every execution with looking it up in the caches of
+ * {@link OpenTelemetryInstrumentationHelper}, both by the query text, which is what happens when
+ * every execution parses the query, and by the operation, which is what happens for persisted
+ * queries that are resolved by a {@code PreparsedDocumentProvider}.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class OperationInfoBenchmark {
+
+  private static final String QUERY =
+      "query BookDetails($id: ID!) {"
+          + "  bookById(id: $id) {"
+          + "    id name pageCount"
+          + "    author(country: \"US\", limit: 10) { id firstName lastName }"
+          + "    reviews(first: 20, after: \"cursor\", minRating: 3.5) { rating text }"
+          + "  }"
+          + "}";
+
+  @Param({"true", "false"})
+  public boolean sanitizeQuery;
+
+  private OpenTelemetryInstrumentationHelper helper;
+  private OperationDefinition operationDefinition;
+  // the copy of the query text that a request with the same query would have
+  private String queryText;
+
+  @Setup
+  public void setUp() {
+    helper =
+        OpenTelemetryInstrumentationHelper.create(OpenTelemetry.noop(), "benchmark", sanitizeQuery);
+    Document document = new Parser().parseDocument(QUERY);
+    operationDefinition = (OperationDefinition) document.getDefinitions().get(0);
+    queryText = new String(QUERY.toCharArray());
+  }
+
+  @Benchmark
+  public String uncached() {
+    return OpenTelemetryInstrumentationHelper.createOperationInfo(
+            operationDefinition, sanitizeQuery)
+        .query;
+  }
+
+  @Benchmark
+  public String cachedByQueryText() {
+    return helper.getOperationInfo(operationDefinition, queryText).query;
+  }
+
+  @Benchmark
+  public String cachedByOperation() {
+    return helper.getOperationInfo(operationDefinition, null).query;
+  }
+}
@@ -10,6 +10,7 @@ import graphql.GraphQLError;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.SimpleInstrumentationContext;
 import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.language.AstPrinter;
 import graphql.language.AstTransformer;
 import graphql.language.BooleanValue;
@@ -35,8 +36,11 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanStatusExtractor;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.semconv.ExceptionAttributes;
 import java.util.Locale;
+import java.util.Objects;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -45,9 +49,21 @@ import java.util.Locale;
 public final class OpenTelemetryInstrumentationHelper {
   private static final NodeVisitor sanitizingVisitor = new SanitizingVisitor();
   private static final AstTransformer astTransformer = new AstTransformer();
+  // the query text that graphql-java's automatic persisted queries support uses for all the
+  // queries that are resolved by their hash
+  private static final String PERSISTED_QUERY_MARKER = "PersistedQueryMarker";
+  private static final int OPERATION_CACHE_SIZE = 1000;
 
   private final Instrumenter<OpenTelemetryInstrumentationState, ExecutionResult> instrumenter;
   private final boolean sanitizeQuery;
+  // printing the (sanitized) query is the most expensive part of the instrumentation, so the result
+  // is cached by the query text and the operation name, or by the identity of the operation when
+  // the query text doesn't identify the document, which is then expected to come from a
+  // PreparsedDocumentProvider
+  private final Cache<QueryKey, OperationInfo> operationsByQuery =
+      Cache.bounded(OPERATION_CACHE_SIZE);
+  private final Cache<OperationDefinition, OperationInfo> operationsByDefinition =
+      Cache.bounded(OPERATION_CACHE_SIZE);
 
   private OpenTelemetryInstrumentationHelper(
       Instrumenter<OpenTelemetryInstrumentationState, ExecutionResult> instrumenter,
@@ -80,7 +96,8 @@ public final class OpenTelemetryInstrumentationHelper {
   }
 
   public InstrumentationContext<ExecutionResult> beginExecution(
-      OpenTelemetryInstrumentationState state) {
+      InstrumentationExecutionParameters parameters, OpenTelemetryInstrumentationState state) {
+    state.setQueryText(parameters.getQuery());
 
     Context parentContext = Context.current();
     if (!instrumenter.shouldStart(parentContext, state)) {
@@ -113,26 +130,40 @@ public final class OpenTelemetryInstrumentationHelper {
 
     OperationDefinition operationDefinition =
         parameters.getExecutionContext().getOperationDefinition();
-    OperationDefinition.Operation operation = operationDefinition.getOperation();
-    String operationType = operation.name().toLowerCase(Locale.ROOT);
-    String operationName = operationDefinition.getName();
+    OperationInfo operationInfo = getOperationInfo(operationDefinition, state.getQueryText());
+    span.updateName(operationInfo.spanName);
+
+    state.setOperation(operationDefinition.getOperation());
+    state.setOperationName(operationDefinition.getName());
+    state.setQuery(operationInfo.query);
+
+    return SimpleInstrumentationContext.noOp();
+  }
+
+  OperationInfo getOperationInfo(
+      OperationDefinition operationDefinition, @Nullable String queryText) {
+    if (queryText == null || queryText.equals(PERSISTED_QUERY_MARKER)) {
+      return operationsByDefinition.computeIfAbsent(
+          operationDefinition, unused -> createOperationInfo(operationDefinition, sanitizeQuery));
+    }
+    return operationsByQuery.computeIfAbsent(
+        new QueryKey(queryText, operationDefinition.getName()),
+        unused -> createOperationInfo(operationDefinition, sanitizeQuery));
+  }
 
-    String spanName = operationType;
+  static OperationInfo createOperationInfo(
+      OperationDefinition operationDefinition, boolean sanitizeQuery) {
+    String spanName = operationDefinition.getOperation().name().toLowerCase(Locale.ROOT);
+    String operationName = operationDefinition.getName();
     if (operationName != null && !operationName.isEmpty()) {
       spanName += " " + operationName;
     }
-    span.updateName(spanName);
-
-    state.setOperation(operation);
-    state.setOperationName(operationName);
 
     Node<?> node = operationDefinition;
     if (sanitizeQuery) {
       node = sanitize(node);
     }
-    state.setQuery(AstPrinter.printAst(node));
-
-    return SimpleInstrumentationContext.noOp();
+    return new OperationInfo(spanName, AstPrinter.printAst(node));
   }
 
   public DataFetcher<?> instrumentDataFetcher(
@@ -151,6 +182,44 @@ public final class OpenTelemetryInstrumentationHelper {
     return astTransformer.transform(node, sanitizingVisitor);
   }
 
+  static final class OperationInfo {
+    final String spanName;
+    final String query;
+
+    OperationInfo(String spanName, String query) {
+      this.spanName = spanName;
+      this.query = query;
+    }
+  }
+
+  private static final class QueryKey {
+    private final String queryText;
+    @Nullable private final String operationName;
+
+    QueryKey(String queryText, @Nullable String operationName) {
+      this.queryText = queryText;
+      this.operationName = operationName;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof QueryKey)) {
+        return false;
+      }
+      QueryKey other = (QueryKey) obj;
+      return queryText.equals(other.queryText)
+          && Objects.equals(operationName, other.operationName);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * queryText.hashCode() + Objects.hashCode(operationName);
+    }
+  }
+
   @SuppressWarnings("rawtypes")
   private static class SanitizingVisitor extends NodeVisitorStub {
 
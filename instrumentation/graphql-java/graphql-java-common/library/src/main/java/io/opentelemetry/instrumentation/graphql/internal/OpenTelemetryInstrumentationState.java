@@ -18,6 +18,7 @@ public class OpenTelemetryInstrumentationState implements InstrumentationState {
   private Operation operation;
   private String operationName;
   private String query;
+  private String queryText;
 
   public Context getContext() {
     return context;
@@ -50,4 +51,12 @@ public class OpenTelemetryInstrumentationState implements InstrumentationState {
   public void setQuery(String query) {
     this.query = query;
   }
+
+  public String getQueryText() {
+    return queryText;
+  }
+
+  public void setQueryText(String queryText) {
+    this.queryText = queryText;
+  }
 }
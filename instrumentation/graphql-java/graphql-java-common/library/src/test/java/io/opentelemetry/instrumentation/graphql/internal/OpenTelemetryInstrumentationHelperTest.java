@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.graphql.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.graphql.internal.OpenTelemetryInstrumentationHelper.OperationInfo;
+import org.junit.jupiter.api.Test;
+
+class OpenTelemetryInstrumentationHelperTest {
+
+  private static final String QUERY =
+      "query findBook { book(id: \"1\") { name } } query findAuthor { author(id: 2) { name } }";
+
+  private final OpenTelemetryInstrumentationHelper helper =
+      OpenTelemetryInstrumentationHelper.create(OpenTelemetry.noop(), "test", true);
+
+  @Test
+  void cachesOperationByQueryText() {
+    OperationInfo first = helper.getOperationInfo(operation(QUERY, "findBook"), QUERY);
+    // the same query parsed again yields a different operation definition
+    OperationInfo second = helper.getOperationInfo(operation(QUERY, "findBook"), QUERY);
+    OperationInfo other = helper.getOperationInfo(operation(QUERY, "findAuthor"), QUERY);
+
+    assertThat(first.spanName).isEqualTo("query findBook");
+    assertThat(first.query).contains("book(id: ?)").doesNotContain("\"1\"");
+    assertThat(second).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+    assertThat(other.spanName).isEqualTo("query findAuthor");
+    assertThat(other.query).contains("author(id: ?)");
+  }
+
+  @Test
+  void cachesOperationByIdentityWithoutQueryText() {
+    OperationDefinition operation = operation(QUERY, "findBook");
+
+    OperationInfo first = helper.getOperationInfo(operation, "PersistedQueryMarker");
+    OperationInfo second = helper.getOperationInfo(operation, "PersistedQueryMarker");
+    OperationInfo withoutQueryText = helper.getOperationInfo(operation, null);
+    // the marker doesn't identify the document, so another document isn't served from the cache
+    OperationInfo other =
+        helper.getOperationInfo(operation(QUERY, "findBook"), "PersistedQueryMarker");
+
+    assertThat(first.spanName).isEqualTo("query findBook");
+    assertThat(second).isSameAs(first);
+    assertThat(withoutQueryText).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+  }
+
+  @Test
+  void comparesQueryText() {
+    String copy = new String(QUERY.toCharArray());
+    String otherText = QUERY + " ";
+
+    OperationInfo first = helper.getOperationInfo(operation(QUERY, "findBook"), QUERY);
+    OperationInfo second = helper.getOperationInfo(operation(copy, "findBook"), copy);
+    OperationInfo other = helper.getOperationInfo(operation(otherText, "findBook"), otherText);
+
+    assertThat(second).isSameAs(first);
+    assertThat(other).isNotSameAs(first);
+  }
+
+  private static OperationDefinition operation(String query, String operationName) {
+    Document document = new Parser().parseDocument(query);
+    return document.getDefinitions().stream()
+        .filter(OperationDefinition.class::isInstance)
+        .map(OperationDefinition.class::cast)
+        .filter(operation -> operationName.equals(operation.getName()))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+}
@@ -10,19 +10,17 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
 import java.util.concurrent.TimeUnit;
 
 final class OpenTelemetryMetricsTracker implements IMetricsTracker {
 
-  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
-
   private final IMetricsTracker userMetricsTracker;
 
   private final BatchCallback callback;
   private final LongCounter timeouts;
   private final DoubleHistogram createTime;
-  private final DoubleHistogram waitTime;
-  private final DoubleHistogram useTime;
+  private final DbConnectionPoolTracker connectionTracker;
   private final Attributes attributes;
 
   OpenTelemetryMetricsTracker(
@@ -30,15 +28,13 @@ final class OpenTelemetryMetricsTracker implements IMetricsTracker {
       BatchCallback callback,
       LongCounter timeouts,
       DoubleHistogram createTime,
-      DoubleHistogram waitTime,
-      DoubleHistogram useTime,
+      DbConnectionPoolTracker connectionTracker,
       Attributes attributes) {
     this.userMetricsTracker = userMetricsTracker;
     this.callback = callback;
     this.timeouts = timeouts;
     this.createTime = createTime;
-    this.waitTime = waitTime;
-    this.useTime = useTime;
+    this.connectionTracker = connectionTracker;
     this.attributes = attributes;
   }
 
@@ -50,14 +46,13 @@ final class OpenTelemetryMetricsTracker implements IMetricsTracker {
 
   @Override
   public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
-    double millis = elapsedAcquiredNanos / NANOS_PER_MS;
-    waitTime.record(millis, attributes);
+    connectionTracker.recordWaitTime(elapsedAcquiredNanos);
     userMetricsTracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
   }
 
   @Override
   public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
-    useTime.record((double) elapsedBorrowedMillis, attributes);
+    connectionTracker.recordUseTime(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
     userMetricsTracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
   }
 
@@ -13,6 +13,8 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import java.time.Duration;
 import javax.annotation.Nullable;
 
 final class OpenTelemetryMetricsTrackerFactory implements MetricsTrackerFactory {
@@ -66,8 +68,8 @@ final class OpenTelemetryMetricsTrackerFactory implements MetricsTrackerFactory
         callback,
         metrics.connectionTimeouts(),
         metrics.connectionCreateTime(),
-        metrics.connectionWaitTime(),
-        metrics.connectionUseTime(),
+        // HikariCP detects leaks itself, see its leakDetectionThreshold setting
+        DbConnectionPoolTracker.create(metrics, Duration.ZERO),
         metrics.getAttributes());
   }
 
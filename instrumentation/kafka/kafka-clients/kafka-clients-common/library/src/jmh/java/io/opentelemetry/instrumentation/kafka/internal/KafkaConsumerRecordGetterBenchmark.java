@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class KafkaConsumerRecordGetterBenchmark {
+
+  private static final TextMapPropagator PROPAGATOR =
+      TextMapPropagator.composite(
+          W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance());
+
+  @Param({"10", "20"})
+  int headerCount;
+
+  @Param({"true", "false"})
+  boolean traced;
+
+  private ConsumerRecord<String, String> record;
+
+  @Setup
+  public void setup() {
+    RecordHeaders headers = new RecordHeaders();
+    // typical application and framework headers, the propagation headers are added last just
+    // like the producer side instrumentation does
+    for (int i = 0; i < headerCount - 3; i++) {
+      headers.add("x-application-header-" + i, bytes("value-" + i));
+    }
+    if (traced) {
+      headers.add("traceparent", bytes("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01"));
+      headers.add("tracestate", bytes("congo=t61rcWkgMzE,rojo=00f067aa0ba902b7"));
+      headers.add("baggage", bytes("userId=alice,serverNode=DF%2028,isProduction=false"));
+    }
+    record =
+        new ConsumerRecord<>(
+            "topic", 0, 0, 0, TimestampType.CREATE_TIME, 0L, 0, 0, "key", "value", headers);
+  }
+
+  @Benchmark
+  public Context extract() {
+    return PROPAGATOR.extract(
+        Context.root(),
+        KafkaProcessRequest.create(record, "group", "client"),
+        KafkaConsumerRecordGetter.INSTANCE);
+  }
+
+  @Benchmark
+  public Context extractLastHeader() {
+    return PROPAGATOR.extract(
+        Context.root(),
+        KafkaProcessRequest.create(record, "group", "client"),
+        LastHeaderGetter.INSTANCE);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  // the previous getter implementation, kept here as a baseline
+  enum LastHeaderGetter implements TextMapGetter<KafkaProcessRequest> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(KafkaProcessRequest carrier) {
+      return Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable KafkaProcessRequest carrier, String key) {
+      Header header = carrier.getRecord().headers().lastHeader(key);
+      if (header == null || header.value() == null) {
+        return null;
+      }
+      return new String(header.value(), StandardCharsets.UTF_8);
+    }
+  }
+}
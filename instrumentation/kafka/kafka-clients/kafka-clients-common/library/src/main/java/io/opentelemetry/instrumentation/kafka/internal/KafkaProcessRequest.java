@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.kafka.internal;
 
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
@@ -15,6 +16,7 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 public class KafkaProcessRequest extends AbstractKafkaConsumerRequest {
 
   private final ConsumerRecord<?, ?> record;
+  @Nullable private KafkaPropagationHeaders propagationHeaders;
 
   public static KafkaProcessRequest create(ConsumerRecord<?, ?> record, Consumer<?, ?> consumer) {
     return create(record, KafkaUtil.getConsumerGroup(consumer), KafkaUtil.getClientId(consumer));
@@ -40,4 +42,11 @@ public class KafkaProcessRequest extends AbstractKafkaConsumerRequest {
   public ConsumerRecord<?, ?> getRecord() {
     return record;
   }
+
+  KafkaPropagationHeaders getPropagationHeaders() {
+    if (propagationHeaders == null) {
+      propagationHeaders = KafkaPropagationHeaders.create(record.headers());
+    }
+    return propagationHeaders;
+  }
 }
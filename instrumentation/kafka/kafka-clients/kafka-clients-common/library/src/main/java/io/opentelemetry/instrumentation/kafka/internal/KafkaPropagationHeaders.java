@@ -0,0 +1,143 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Propagation headers of a single consumer record. The W3C trace context and baggage headers are
+ * located in a single pass over the record headers, and their values are only decoded when a
+ * propagator actually asks for them.
+ */
+final class KafkaPropagationHeaders {
+
+  static final String TRACEPARENT = "traceparent";
+  static final String TRACESTATE = "tracestate";
+  static final String BAGGAGE = "baggage";
+
+  // version "-" trace-id "-" parent-id "-" trace-flags
+  private static final int TRACEPARENT_LENGTH = 55;
+  private static final int TRACE_ID_OFFSET = 3;
+  private static final int SPAN_ID_OFFSET = 36;
+  private static final int TRACE_FLAGS_OFFSET = 53;
+
+  private final Headers headers;
+  @Nullable private final Header traceparent;
+  @Nullable private final Header tracestate;
+  @Nullable private final Header baggage;
+
+  static KafkaPropagationHeaders create(Headers headers) {
+    Header traceparent = null;
+    Header tracestate = null;
+    Header baggage = null;
+    // later headers win, same as Headers.lastHeader()
+    for (Header header : headers) {
+      String key = header.key();
+      if (key == null) {
+        continue;
+      }
+      switch (key.length()) {
+        case 7:
+          if (BAGGAGE.equals(key)) {
+            baggage = header;
+          }
+          break;
+        case 10:
+          if (TRACESTATE.equals(key)) {
+            tracestate = header;
+          }
+          break;
+        case 11:
+          if (TRACEPARENT.equals(key)) {
+            traceparent = header;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return new KafkaPropagationHeaders(headers, traceparent, tracestate, baggage);
+  }
+
+  private KafkaPropagationHeaders(
+      Headers headers,
+      @Nullable Header traceparent,
+      @Nullable Header tracestate,
+      @Nullable Header baggage) {
+    this.headers = headers;
+    this.traceparent = traceparent;
+    this.tracestate = tracestate;
+    this.baggage = baggage;
+  }
+
+  @Nullable
+  String get(String key) {
+    switch (key) {
+      case TRACEPARENT:
+        return traceparent(traceparent);
+      case TRACESTATE:
+        return utf8(tracestate);
+      case BAGGAGE:
+        return utf8(baggage);
+      default:
+        return utf8(headers.lastHeader(key));
+    }
+  }
+
+  @Nullable
+  private static String traceparent(@Nullable Header header) {
+    byte[] value = header != null ? header.value() : null;
+    if (value == null || !isValidTraceparent(value)) {
+      return null;
+    }
+    return new String(value, StandardCharsets.ISO_8859_1);
+  }
+
+  // mirrors the structural checks of W3CTraceContextPropagator, so that malformed headers are
+  // rejected straight from the header bytes without being turned into a String first
+  static boolean isValidTraceparent(byte[] value) {
+    if (value.length < TRACEPARENT_LENGTH) {
+      return false;
+    }
+    if (value.length > TRACEPARENT_LENGTH && value[TRACEPARENT_LENGTH] != '-') {
+      return false;
+    }
+    if (value[TRACE_ID_OFFSET - 1] != '-'
+        || value[SPAN_ID_OFFSET - 1] != '-'
+        || value[TRACE_FLAGS_OFFSET - 1] != '-') {
+      return false;
+    }
+    for (int i = 0; i < TRACEPARENT_LENGTH; i++) {
+      if (i == TRACE_ID_OFFSET - 1 || i == SPAN_ID_OFFSET - 1 || i == TRACE_FLAGS_OFFSET - 1) {
+        continue;
+      }
+      if (!isBase16(value[i])) {
+        return false;
+      }
+    }
+    // version 00 does not allow any trailing data, version ff is forbidden
+    if (value[0] == '0' && value[1] == '0') {
+      return value.length == TRACEPARENT_LENGTH;
+    }
+    return value[0] != 'f' || value[1] != 'f';
+  }
+
+  private static boolean isBase16(byte b) {
+    return (b >= '0' && b <= '9') || (b >= 'a' && b <= 'f');
+  }
+
+  @Nullable
+  private static String utf8(@Nullable Header header) {
+    byte[] value = header != null ? header.value() : null;
+    if (value == null) {
+      return null;
+    }
+    return new String(value, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+class KafkaConsumerRecordGetterTest {
+
+  private static final String TRACEPARENT =
+      "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+  private static final TextMapPropagator PROPAGATOR =
+      TextMapPropagator.composite(
+          W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance());
+
+  @Test
+  void extractsPropagationHeaders() {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add("content-type", bytes("application/json"));
+    headers.add("traceparent", bytes("00-00000000000000000000000000000001-0000000000000001-01"));
+    headers.add("traceparent", bytes(TRACEPARENT));
+    headers.add("tracestate", bytes("foo=bar"));
+    headers.add("baggage", bytes("user=alice"));
+
+    Context context =
+        PROPAGATOR.extract(Context.root(), request(headers), KafkaConsumerRecordGetter.INSTANCE);
+
+    SpanContext spanContext = Span.fromContext(context).getSpanContext();
+    assertThat(spanContext.isRemote()).isTrue();
+    assertThat(spanContext.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    assertThat(spanContext.getSpanId()).isEqualTo("b7ad6b7169203331");
+    assertThat(spanContext.getTraceState().get("foo")).isEqualTo("bar");
+    assertThat(Baggage.fromContext(context).getEntryValue("user")).isEqualTo("alice");
+  }
+
+  @Test
+  void getsOtherHeaders() {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add("traceparent", bytes(TRACEPARENT));
+    headers.add("x-custom", bytes("first"));
+    headers.add("x-custom", bytes("second"));
+    headers.add("x-null", null);
+    KafkaProcessRequest request = request(headers);
+
+    assertThat(KafkaConsumerRecordGetter.INSTANCE.get(request, "x-custom")).isEqualTo("second");
+    assertThat(KafkaConsumerRecordGetter.INSTANCE.get(request, "x-null")).isNull();
+    assertThat(KafkaConsumerRecordGetter.INSTANCE.get(request, "x-missing")).isNull();
+    assertThat(KafkaConsumerRecordGetter.INSTANCE.get(request, "baggage")).isNull();
+    assertThat(KafkaConsumerRecordGetter.INSTANCE.keys(request))
+        .containsExactly("traceparent", "x-custom", "x-custom", "x-null");
+  }
+
+  @Test
+  void rejectsInvalidTraceparent() {
+    assertThat(isValidTraceparent(TRACEPARENT)).isTrue();
+    assertThat(isValidTraceparent(TRACEPARENT.replace("00-", "01-") + "-extra")).isTrue();
+
+    assertThat(isValidTraceparent(TRACEPARENT + "-extra")).isFalse();
+    assertThat(isValidTraceparent(TRACEPARENT.substring(1))).isFalse();
+    assertThat(isValidTraceparent(TRACEPARENT.toUpperCase())).isFalse();
+    assertThat(isValidTraceparent(TRACEPARENT.replace("00-", "ff-"))).isFalse();
+    assertThat(isValidTraceparent(TRACEPARENT.replace('-', '_'))).isFalse();
+    assertThat(isValidTraceparent(TRACEPARENT.substring(0, 54) + "x")).isFalse();
+  }
+
+  private static boolean isValidTraceparent(String value) {
+    return KafkaPropagationHeaders.isValidTraceparent(bytes(value));
+  }
+
+  private static KafkaProcessRequest request(RecordHeaders headers) {
+    ConsumerRecord<String, String> record =
+        new ConsumerRecord<>(
+            "topic", 0, 0, 0, TimestampType.CREATE_TIME, 0L, 0, 0, null, "value", headers);
+    return KafkaProcessRequest.create(record, "group", "client");
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
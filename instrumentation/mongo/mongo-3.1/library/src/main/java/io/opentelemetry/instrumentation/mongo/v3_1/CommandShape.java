@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1;
+
+import java.util.Map;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Computes a fingerprint of the structure of a command: its field names, how documents and arrays
+ * are nested and where scalar values are, but not the scalar values themselves, since the sanitizer
+ * replaces them with {@code ?} anyway. The only value that is part of the fingerprint is the first
+ * field of the root document, which the sanitizer preserves when it is a string. Commands with the
+ * same fingerprint therefore produce the same sanitized statement.
+ *
+ * <p>Only the part of the command that fits into the maximum statement length is visited, so that
+ * e.g. bulk inserts of thousands of documents don't have to be traversed completely.
+ */
+final class CommandShape {
+
+  // 64-bit FNV-1a
+  private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+
+  // outside of the char range, so that they can't be confused with the characters of a string
+  private static final int START_DOCUMENT = 0x10000;
+  private static final int END_DOCUMENT = 0x10001;
+  private static final int START_ARRAY = 0x10002;
+  private static final int END_ARRAY = 0x10003;
+  private static final int SCALAR = 0x10004;
+  private static final int END_STRING = 0x10005;
+
+  private final int maxLength;
+  private long hash = OFFSET_BASIS;
+  // lower bound of the length of the statement produced for the part of the command visited so far
+  private long minLength;
+
+  static long fingerprint(BsonDocument command, int maxLength) {
+    CommandShape shape = new CommandShape(maxLength);
+    shape.visit(command, /* isRoot= */ true);
+    return shape.hash;
+  }
+
+  private CommandShape(int maxLength) {
+    this.maxLength = maxLength;
+  }
+
+  // returns true when the rest of the command would be truncated from the statement anyway
+  private boolean visit(BsonDocument document, boolean isRoot) {
+    if (add(START_DOCUMENT, 1)) {
+      return true;
+    }
+    boolean firstField = true;
+    for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+      String key = entry.getKey();
+      // quotes and colon
+      if (add(key, 3)) {
+        return true;
+      }
+      BsonValue value = entry.getValue();
+      if (isRoot && firstField && value.isString()) {
+        if (add(value.asString().getValue(), 2)) {
+          return true;
+        }
+      } else if (visit(value)) {
+        return true;
+      }
+      firstField = false;
+    }
+    return add(END_DOCUMENT, 1);
+  }
+
+  private boolean visit(BsonArray array) {
+    if (add(START_ARRAY, 1)) {
+      return true;
+    }
+    for (BsonValue value : array) {
+      if (visit(value)) {
+        return true;
+      }
+    }
+    return add(END_ARRAY, 1);
+  }
+
+  private boolean visit(BsonValue value) {
+    if (value.isDocument()) {
+      return visit(value.asDocument(), /* isRoot= */ false);
+    } else if (value.isArray()) {
+      return visit(value.asArray());
+    } else {
+      // "?"
+      return add(SCALAR, 3);
+    }
+  }
+
+  private boolean add(int marker, int length) {
+    mix(marker);
+    minLength += length;
+    return minLength >= maxLength;
+  }
+
+  private boolean add(String string, int extraLength) {
+    for (int i = 0; i < string.length(); i++) {
+      mix(string.charAt(i));
+    }
+    mix(END_STRING);
+    minLength += string.length() + extraLength;
+    return minLength >= maxLength;
+  }
+
+  private void mix(int value) {
+    hash = (hash ^ value) * PRIME;
+  }
+}
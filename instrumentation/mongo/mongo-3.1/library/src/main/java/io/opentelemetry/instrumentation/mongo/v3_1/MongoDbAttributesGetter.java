@@ -9,6 +9,7 @@ import com.mongodb.ServerAddress;
 import com.mongodb.connection.ConnectionDescription;
 import com.mongodb.event.CommandStartedEvent;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -42,6 +43,8 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   private final boolean statementSanitizationEnabled;
   private final int maxNormalizedQueryLength;
   @Nullable private final JsonWriterSettings jsonWriterSettings;
+  // sanitized statements keyed by the fingerprint of the command they were produced from
+  private final Cache<Long, String> sanitizedStatementCache = Cache.bounded(1000);
 
   MongoDbAttributesGetter(boolean statementSanitizationEnabled, int maxNormalizedQueryLength) {
     this.statementSanitizationEnabled = statementSanitizationEnabled;
@@ -98,6 +101,18 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   }
 
   String sanitizeStatement(BsonDocument command) {
+    if (!statementSanitizationEnabled) {
+      return writeStatement(command);
+    }
+    // commands with the same structure produce the same sanitized statement, which saves
+    // serializing e.g. every bulk insert or aggregation pipeline of the same shape again
+    return sanitizedStatementCache.computeIfAbsent(
+        CommandShape.fingerprint(command, maxNormalizedQueryLength),
+        unused -> writeStatement(command));
+  }
+
+  // visible for tests
+  String writeStatement(BsonDocument command) {
     StringBuilderWriter stringWriter = new StringBuilderWriter(128);
     // jsonWriterSettings is generally not null but could be due to security manager or unknown
     // API incompatibilities, which we can't detect by Muzzle because we use reflection.
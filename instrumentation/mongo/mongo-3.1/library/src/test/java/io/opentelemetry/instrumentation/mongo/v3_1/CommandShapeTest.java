@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+class CommandShapeTest {
+
+  @Test
+  void ignoresValues() {
+    assertThat(
+            fingerprint(
+                new BsonDocument("find", new BsonString("users")).append("a", new BsonInt32(1))))
+        .isEqualTo(
+            fingerprint(
+                new BsonDocument("find", new BsonString("users")).append("a", new BsonInt64(2))));
+  }
+
+  @Test
+  void includesStructure() {
+    long fingerprint = fingerprint(new BsonDocument("find", new BsonString("users")));
+
+    assertThat(fingerprint(new BsonDocument("find", new BsonString("orders"))))
+        .isNotEqualTo(fingerprint);
+    assertThat(fingerprint(new BsonDocument("count", new BsonString("users"))))
+        .isNotEqualTo(fingerprint);
+    assertThat(fingerprint(new BsonDocument("find", new BsonDocument()))).isNotEqualTo(fingerprint);
+    assertThat(fingerprint(new BsonDocument("find", new BsonArray()))).isNotEqualTo(fingerprint);
+    assertThat(
+            fingerprint(
+                new BsonDocument("find", new BsonArray(asList(new BsonArray(), new BsonArray())))))
+        .isNotEqualTo(
+            fingerprint(
+                new BsonDocument(
+                    "find", new BsonArray(asList(new BsonArray(asList(new BsonArray())))))));
+  }
+
+  @Test
+  void ignoresFieldsBeyondMaxLength() {
+    BsonArray documents = new BsonArray();
+    for (int i = 0; i < 100; i++) {
+      documents.add(new BsonDocument("value", new BsonInt32(i)));
+    }
+    BsonDocument command =
+        new BsonDocument("insert", new BsonString("users")).append("documents", documents);
+    long fingerprint = CommandShape.fingerprint(command, 100);
+
+    documents.add(new BsonDocument("other", new BsonInt32(0)));
+    assertThat(CommandShape.fingerprint(command, 100)).isEqualTo(fingerprint);
+    assertThat(CommandShape.fingerprint(command, 10_000)).isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void nestedContainersAtTruncationBoundary() {
+    List<BsonDocument> commands =
+        asList(
+            nested(new BsonInt32(1)),
+            nested(new BsonDocument()),
+            nested(new BsonArray()),
+            nested(new BsonDocument("b", new BsonInt32(1))),
+            new BsonDocument("a", new BsonArray(asList(new BsonArray(), new BsonInt32(1)))),
+            new BsonDocument("a", new BsonArray(asList(new BsonArray(), new BsonDocument()))));
+
+    for (int maxLength = 1; maxLength <= 40; maxLength++) {
+      MongoDbAttributesGetter getter = new MongoDbAttributesGetter(true, maxLength);
+      for (BsonDocument first : commands) {
+        for (BsonDocument second : commands) {
+          if (CommandShape.fingerprint(first, maxLength)
+              == CommandShape.fingerprint(second, maxLength)) {
+            assertThat(getter.writeStatement(second))
+                .describedAs("max length %d, %s and %s", maxLength, first, second)
+                .isEqualTo(getter.writeStatement(first));
+          }
+        }
+      }
+    }
+  }
+
+  // {"a": [[[[[[[value]]]]]]]}
+  private static BsonDocument nested(BsonValue value) {
+    BsonValue nested = value;
+    for (int i = 0; i < 7; i++) {
+      nested = new BsonArray(singletonList(nested));
+    }
+    return new BsonDocument("a", nested);
+  }
+
+  private static long fingerprint(BsonDocument command) {
+    return CommandShape.fingerprint(command, 10_000);
+  }
+}
@@ -92,6 +92,49 @@ class MongoDbAttributesGetterTest {
         .isIn("{\"cmd\": \"c\", \"f1\": [\"?\", \"?", "{\"cmd\": \"c\", \"f1\": [\"?\",");
   }
 
+  @Test
+  @DisplayName("should reuse sanitized statement for commands with the same shape")
+  void shouldReuseSanitizedStatementForCommandsWithTheSameShape() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    String first =
+        extractor.sanitizeStatement(
+            new BsonDocument("insert", new BsonString("users"))
+                .append("documents", new BsonArray(singletonList(new BsonInt32(1)))));
+    String second =
+        extractor.sanitizeStatement(
+            new BsonDocument("insert", new BsonString("users"))
+                .append("documents", new BsonArray(singletonList(new BsonString("other")))));
+    assertThat(second).isSameAs(first);
+
+    assertThat(
+            sanitizeStatementAcrossVersions(
+                extractor,
+                new BsonDocument("insert", new BsonString("orders"))
+                    .append("documents", new BsonArray(singletonList(new BsonInt32(1))))))
+        .isEqualTo("{\"insert\": \"orders\", \"documents\": [\"?\"]}");
+    assertThat(
+            sanitizeStatementAcrossVersions(
+                extractor,
+                new BsonDocument("insert", new BsonString("users"))
+                    .append(
+                        "documents", new BsonArray(asList(new BsonInt32(1), new BsonDocument())))))
+        .isEqualTo("{\"insert\": \"users\", \"documents\": [\"?\", {}]}");
+  }
+
+  @Test
+  @DisplayName("should not cache statements when sanitization is disabled")
+  void shouldNotCacheStatementsWhenSanitizationIsDisabled() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(false, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    extractor.sanitizeStatement(new BsonDocument("cmd", new BsonInt32(1)));
+    assertThat(
+            sanitizeStatementAcrossVersions(extractor, new BsonDocument("cmd", new BsonInt32(2))))
+        .isEqualTo("{\"cmd\": 2}");
+  }
+
   static String sanitizeStatementAcrossVersions(
       MongoDbAttributesGetter extractor, BsonDocument query) {
     return sanitizeAcrossVersions(extractor.sanitizeStatement(query));
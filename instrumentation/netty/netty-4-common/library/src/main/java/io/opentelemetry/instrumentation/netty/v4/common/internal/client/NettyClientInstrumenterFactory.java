@@ -16,6 +16,8 @@ import io.opentelemetry.instrumentation.api.semconv.network.NetworkAttributesExt
 import io.opentelemetry.instrumentation.api.semconv.network.ServerAttributesExtractor;
 import io.opentelemetry.instrumentation.netty.common.internal.NettyConnectionRequest;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import java.time.Duration;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -26,14 +28,33 @@ public final class NettyClientInstrumenterFactory {
   private final DefaultHttpClientInstrumenterBuilder<HttpRequestAndChannel, HttpResponse> builder;
   private final NettyConnectionInstrumentationFlag connectionTelemetryState;
   private final NettyConnectionInstrumentationFlag sslTelemetryState;
+  @Nullable private final NettyConnectionMetrics connectionMetrics;
+  private final long slowConnectionThresholdNanos;
 
   public NettyClientInstrumenterFactory(
       DefaultHttpClientInstrumenterBuilder<HttpRequestAndChannel, HttpResponse> builder,
       NettyConnectionInstrumentationFlag connectionTelemetryState,
       NettyConnectionInstrumentationFlag sslTelemetryState) {
+    this(builder, connectionTelemetryState, sslTelemetryState, null, Duration.ZERO);
+  }
+
+  /**
+   * Creates a factory whose {@link NettyConnectionInstrumentationFlag#COALESCED coalesced}
+   * instrumenters record into the passed metrics and create spans for attempts that took at least
+   * the passed threshold. Without metrics, the coalesced instrumenters fall back to only creating
+   * spans for failed attempts.
+   */
+  public NettyClientInstrumenterFactory(
+      DefaultHttpClientInstrumenterBuilder<HttpRequestAndChannel, HttpResponse> builder,
+      NettyConnectionInstrumentationFlag connectionTelemetryState,
+      NettyConnectionInstrumentationFlag sslTelemetryState,
+      @Nullable NettyConnectionMetrics connectionMetrics,
+      Duration slowConnectionThreshold) {
     this.builder = builder;
     this.connectionTelemetryState = connectionTelemetryState;
     this.sslTelemetryState = sslTelemetryState;
+    this.connectionMetrics = connectionMetrics;
+    this.slowConnectionThresholdNanos = slowConnectionThreshold.toNanos();
   }
 
   public Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter() {
@@ -44,9 +65,22 @@ public final class NettyClientInstrumenterFactory {
     if (connectionTelemetryState == NettyConnectionInstrumentationFlag.DISABLED) {
       return NoopConnectionInstrumenter.INSTANCE;
     }
+    if (connectionTelemetryState == NettyConnectionInstrumentationFlag.ENABLED) {
+      return new NettyConnectionInstrumenterImpl(buildConnectionInstrumenter(true));
+    }
+    if (connectionTelemetryState == NettyConnectionInstrumentationFlag.COALESCED
+        && connectionMetrics != null) {
+      return new NettyCoalescedConnectionInstrumenter(
+          buildConnectionInstrumenter(true),
+          buildConnectionInstrumenter(false),
+          connectionMetrics,
+          slowConnectionThresholdNanos);
+    }
+    return new NettyErrorOnlyConnectionInstrumenter(buildConnectionInstrumenter(false));
+  }
 
-    boolean connectionTelemetryFullyEnabled =
-        connectionTelemetryState == NettyConnectionInstrumentationFlag.ENABLED;
+  private Instrumenter<NettyConnectionRequest, Channel> buildConnectionInstrumenter(
+      boolean connectionTelemetryFullyEnabled) {
     NettyConnectHttpAttributesGetter getter = NettyConnectHttpAttributesGetter.INSTANCE;
 
     InstrumenterBuilder<NettyConnectionRequest, Channel> builder =
@@ -64,36 +98,39 @@ public final class NettyClientInstrumenterFactory {
       builder.addAttributesExtractor(HttpClientAttributesExtractor.create(getter));
     }
 
-    Instrumenter<NettyConnectionRequest, Channel> instrumenter =
-        builder.buildInstrumenter(
-            connectionTelemetryFullyEnabled
-                ? SpanKindExtractor.alwaysInternal()
-                : SpanKindExtractor.alwaysClient());
-
-    return connectionTelemetryFullyEnabled
-        ? new NettyConnectionInstrumenterImpl(instrumenter)
-        : new NettyErrorOnlyConnectionInstrumenter(instrumenter);
+    return builder.buildInstrumenter(
+        connectionTelemetryFullyEnabled
+            ? SpanKindExtractor.alwaysInternal()
+            : SpanKindExtractor.alwaysClient());
   }
 
   public NettySslInstrumenter createSslInstrumenter() {
     if (sslTelemetryState == NettyConnectionInstrumentationFlag.DISABLED) {
       return NoopSslInstrumenter.INSTANCE;
     }
+    if (sslTelemetryState == NettyConnectionInstrumentationFlag.ENABLED) {
+      return new NettySslInstrumenterImpl(buildSslInstrumenter(true));
+    }
+    if (sslTelemetryState == NettyConnectionInstrumentationFlag.COALESCED
+        && connectionMetrics != null) {
+      return new NettySslCoalescedInstrumenter(
+          buildSslInstrumenter(true),
+          buildSslInstrumenter(false),
+          connectionMetrics,
+          slowConnectionThresholdNanos);
+    }
+    return new NettySslErrorOnlyInstrumenter(buildSslInstrumenter(false));
+  }
 
-    boolean sslTelemetryFullyEnabled =
-        sslTelemetryState == NettyConnectionInstrumentationFlag.ENABLED;
+  private Instrumenter<NettySslRequest, Void> buildSslInstrumenter(
+      boolean sslTelemetryFullyEnabled) {
     NettySslNetAttributesGetter netAttributesGetter = new NettySslNetAttributesGetter();
-    Instrumenter<NettySslRequest, Void> instrumenter =
-        builder
-            .<NettySslRequest, Void>instrumenterBuilder(NettySslRequest::spanName)
-            .addAttributesExtractor(NetworkAttributesExtractor.create(netAttributesGetter))
-            .buildInstrumenter(
-                sslTelemetryFullyEnabled
-                    ? SpanKindExtractor.alwaysInternal()
-                    : SpanKindExtractor.alwaysClient());
-
-    return sslTelemetryFullyEnabled
-        ? new NettySslInstrumenterImpl(instrumenter)
-        : new NettySslErrorOnlyInstrumenter(instrumenter);
+    return builder
+        .<NettySslRequest, Void>instrumenterBuilder(NettySslRequest::spanName)
+        .addAttributesExtractor(NetworkAttributesExtractor.create(netAttributesGetter))
+        .buildInstrumenter(
+            sslTelemetryFullyEnabled
+                ? SpanKindExtractor.alwaysInternal()
+                : SpanKindExtractor.alwaysClient());
   }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4.common.internal.client;
+
+import io.netty.channel.Channel;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.netty.common.internal.NettyConnectionRequest;
+import io.opentelemetry.instrumentation.netty.common.internal.Timer;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+final class NettyCoalescedConnectionInstrumenter implements NettyConnectionInstrumenter {
+
+  private final Instrumenter<NettyConnectionRequest, Channel> slowInstrumenter;
+  private final Instrumenter<NettyConnectionRequest, Channel> errorInstrumenter;
+  private final NettyConnectionMetrics metrics;
+  private final long slowThresholdNanos;
+
+  NettyCoalescedConnectionInstrumenter(
+      Instrumenter<NettyConnectionRequest, Channel> slowInstrumenter,
+      Instrumenter<NettyConnectionRequest, Channel> errorInstrumenter,
+      NettyConnectionMetrics metrics,
+      long slowThresholdNanos) {
+    this.slowInstrumenter = slowInstrumenter;
+    this.errorInstrumenter = errorInstrumenter;
+    this.metrics = metrics;
+    this.slowThresholdNanos = slowThresholdNanos;
+  }
+
+  @Override
+  public boolean shouldStart(Context parentContext, NettyConnectionRequest request) {
+    // the "real" check is done on end() anyway
+    return true;
+  }
+
+  @Override
+  public Context start(Context parentContext, NettyConnectionRequest request) {
+    return parentContext.with(Timer.start());
+  }
+
+  @Override
+  public void end(
+      Context context, NettyConnectionRequest request, Channel channel, @Nullable Throwable error) {
+    Timer timer = Timer.get(context);
+    long durationNanos = timer.elapsedNanos();
+    // the histogram only covers connect attempts, address resolution is only traced when it fails
+    // or is slow
+    if (!request.isResolve()) {
+      metrics.recordConnect(request, durationNanos, error);
+    }
+
+    // failed attempts are stand-ins for the HTTP client span that is never created
+    Instrumenter<NettyConnectionRequest, Channel> instrumenter =
+        error != null ? errorInstrumenter : slowInstrumenter;
+    if ((error != null || durationNanos >= slowThresholdNanos)
+        && instrumenter.shouldStart(context, request)) {
+      Instant startTime = timer.startTime();
+      InstrumenterUtil.startAndEnd(
+          instrumenter,
+          context,
+          request,
+          channel,
+          error,
+          startTime,
+          startTime.plusNanos(durationNanos));
+    }
+  }
+}
@@ -12,9 +12,22 @@ package io.opentelemetry.instrumentation.netty.v4.common.internal.client;
 public enum NettyConnectionInstrumentationFlag {
   ENABLED,
   ERROR_ONLY,
+  /**
+   * Records the durations of all attempts in histograms, and creates spans only for failed attempts
+   * and attempts that took longer than a threshold.
+   */
+  COALESCED,
   DISABLED;
 
   public static NettyConnectionInstrumentationFlag enabledOrErrorOnly(boolean b) {
     return b ? ENABLED : ERROR_ONLY;
   }
+
+  public static NettyConnectionInstrumentationFlag enabledCoalescedOrErrorOnly(
+      boolean enabled, boolean coalesced) {
+    if (enabled) {
+      return ENABLED;
+    }
+    return coalesced ? COALESCED : ERROR_ONLY;
+  }
 }
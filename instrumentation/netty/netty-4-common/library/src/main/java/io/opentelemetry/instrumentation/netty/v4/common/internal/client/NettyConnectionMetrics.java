@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4.common.internal.client;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.netty.common.internal.NettyConnectionRequest;
+import io.opentelemetry.semconv.ErrorAttributes;
+import io.opentelemetry.semconv.ServerAttributes;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Records the durations of the connect attempts and SSL handshakes of the client, per server.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class NettyConnectionMetrics {
+
+  private static final double NANOS_PER_S = TimeUnit.SECONDS.toNanos(1);
+
+  private static final List<Double> DURATION_SECONDS_BUCKETS =
+      unmodifiableList(
+          asList(0.005, 0.01, 0.025, 0.05, 0.075, 0.1, 0.25, 0.5, 0.75, 1.0, 2.5, 5.0, 7.5, 10.0));
+
+  public static NettyConnectionMetrics create(
+      OpenTelemetry openTelemetry, String instrumentationName) {
+    return new NettyConnectionMetrics(openTelemetry.getMeter(instrumentationName));
+  }
+
+  private final DoubleHistogram connectDuration;
+  private final DoubleHistogram sslHandshakeDuration;
+
+  private NettyConnectionMetrics(Meter meter) {
+    connectDuration =
+        meter
+            .histogramBuilder("netty.client.connect.duration")
+            .setUnit("s")
+            .setDescription("Duration of the attempts to connect to a server.")
+            .setExplicitBucketBoundariesAdvice(DURATION_SECONDS_BUCKETS)
+            .build();
+    sslHandshakeDuration =
+        meter
+            .histogramBuilder("netty.client.ssl_handshake.duration")
+            .setUnit("s")
+            .setDescription("Duration of the SSL handshakes with a server.")
+            .setExplicitBucketBoundariesAdvice(DURATION_SECONDS_BUCKETS)
+            .build();
+  }
+
+  void recordConnect(
+      NettyConnectionRequest request, long durationNanos, @Nullable Throwable error) {
+    connectDuration.record(
+        durationNanos / NANOS_PER_S, attributes(request.remoteAddressOnStart(), error));
+  }
+
+  void recordSslHandshake(NettySslRequest request, long durationNanos, @Nullable Throwable error) {
+    sslHandshakeDuration.record(
+        durationNanos / NANOS_PER_S, attributes(request.remoteAddress(), error));
+  }
+
+  private static Attributes attributes(
+      @Nullable SocketAddress remoteAddress, @Nullable Throwable error) {
+    AttributesBuilder builder = Attributes.builder();
+    if (remoteAddress instanceof InetSocketAddress) {
+      InetSocketAddress address = (InetSocketAddress) remoteAddress;
+      builder.put(ServerAttributes.SERVER_ADDRESS, address.getHostString());
+      builder.put(ServerAttributes.SERVER_PORT, address.getPort());
+    }
+    if (error != null) {
+      builder.put(ErrorAttributes.ERROR_TYPE, error.getClass().getName());
+    }
+    return builder.build();
+  }
+}
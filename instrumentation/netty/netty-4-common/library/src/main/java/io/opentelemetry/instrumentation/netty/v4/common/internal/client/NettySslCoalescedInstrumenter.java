@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4.common.internal.client;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.netty.common.internal.Timer;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+final class NettySslCoalescedInstrumenter implements NettySslInstrumenter {
+
+  private final Instrumenter<NettySslRequest, Void> slowInstrumenter;
+  private final Instrumenter<NettySslRequest, Void> errorInstrumenter;
+  private final NettyConnectionMetrics metrics;
+  private final long slowThresholdNanos;
+
+  NettySslCoalescedInstrumenter(
+      Instrumenter<NettySslRequest, Void> slowInstrumenter,
+      Instrumenter<NettySslRequest, Void> errorInstrumenter,
+      NettyConnectionMetrics metrics,
+      long slowThresholdNanos) {
+    this.slowInstrumenter = slowInstrumenter;
+    this.errorInstrumenter = errorInstrumenter;
+    this.metrics = metrics;
+    this.slowThresholdNanos = slowThresholdNanos;
+  }
+
+  @Override
+  public boolean shouldStart(Context parentContext, NettySslRequest request) {
+    // the "real" check is done on end() anyway
+    return true;
+  }
+
+  @Override
+  public Context start(Context parentContext, NettySslRequest request) {
+    return parentContext.with(Timer.start());
+  }
+
+  @Override
+  public void end(Context context, NettySslRequest request, @Nullable Throwable error) {
+    Timer timer = Timer.get(context);
+    long durationNanos = timer.elapsedNanos();
+    metrics.recordSslHandshake(request, durationNanos, error);
+
+    Instrumenter<NettySslRequest, Void> instrumenter =
+        error != null ? errorInstrumenter : slowInstrumenter;
+    if ((error != null || durationNanos >= slowThresholdNanos)
+        && instrumenter.shouldStart(context, request)) {
+      Instant startTime = timer.startTime();
+      InstrumenterUtil.startAndEnd(
+          instrumenter,
+          context,
+          request,
+          null,
+          error,
+          startTime,
+          startTime.plusNanos(durationNanos));
+    }
+  }
+}
@@ -5,7 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.netty.v4_0.client;
 
-import static io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionInstrumentationFlag.enabledOrErrorOnly;
+import static io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionInstrumentationFlag.enabledCoalescedOrErrorOnly;
 
 import io.netty.handler.codec.http.HttpResponse;
 import io.opentelemetry.api.GlobalOpenTelemetry;
@@ -15,18 +15,32 @@ import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyClientInstrumenterBuilderFactory;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyClientInstrumenterFactory;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionInstrumenter;
+import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionMetrics;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettySslInstrumenter;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentCommonConfig;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import java.time.Duration;
 
 public final class NettyClientSingletons {
 
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.netty-4.0";
+
   private static final boolean connectionTelemetryEnabled =
       AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.netty.connection-telemetry.enabled", false);
   private static final boolean sslTelemetryEnabled =
       AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.netty.ssl-telemetry.enabled", false);
+  private static final boolean coalescedConnectionTelemetryEnabled =
+      AgentInstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.netty.experimental.coalesced-connection-telemetry.enabled",
+              false);
+  private static final Duration slowConnectionThreshold =
+      AgentInstrumentationConfig.get()
+          .getDuration(
+              "otel.instrumentation.netty.experimental.coalesced-connection-telemetry.slow-threshold",
+              Duration.ofSeconds(1));
 
   private static final Instrumenter<HttpRequestAndChannel, HttpResponse> INSTRUMENTER;
   private static final NettyConnectionInstrumenter CONNECTION_INSTRUMENTER;
@@ -35,14 +49,17 @@ public final class NettyClientSingletons {
   static {
     DefaultHttpClientInstrumenterBuilder<HttpRequestAndChannel, HttpResponse> builder =
         NettyClientInstrumenterBuilderFactory.create(
-                "io.opentelemetry.netty-4.0", GlobalOpenTelemetry.get())
+                INSTRUMENTATION_NAME, GlobalOpenTelemetry.get())
             .configure(AgentCommonConfig.get());
 
     NettyClientInstrumenterFactory factory =
         new NettyClientInstrumenterFactory(
             builder,
-            enabledOrErrorOnly(connectionTelemetryEnabled),
-            enabledOrErrorOnly(sslTelemetryEnabled));
+            enabledCoalescedOrErrorOnly(
+                connectionTelemetryEnabled, coalescedConnectionTelemetryEnabled),
+            enabledCoalescedOrErrorOnly(sslTelemetryEnabled, coalescedConnectionTelemetryEnabled),
+            NettyConnectionMetrics.create(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME),
+            slowConnectionThreshold);
     INSTRUMENTER = factory.instrumenter();
     CONNECTION_INSTRUMENTER = factory.createConnectionInstrumenter();
     SSL_INSTRUMENTER = factory.createSslInstrumenter();
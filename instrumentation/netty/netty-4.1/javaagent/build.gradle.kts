@@ -54,17 +54,39 @@ tasks {
     jvmArgs("-Dotel.instrumentation.netty.ssl-telemetry.enabled=true")
   }
 
+  val testCoalescedConnection by registering(Test::class) {
+    filter {
+      includeTestsMatching("Netty41CoalescedConnectionTest")
+    }
+    include("**/Netty41CoalescedConnectionTest.*")
+
+    jvmArgs("-Dotel.instrumentation.netty.experimental.coalesced-connection-telemetry.enabled=true")
+  }
+
+  val testCoalescedSlowConnection by registering(Test::class) {
+    filter {
+      includeTestsMatching("Netty41CoalescedSlowConnectionTest")
+    }
+    include("**/Netty41CoalescedSlowConnectionTest.*")
+
+    jvmArgs("-Dotel.instrumentation.netty.experimental.coalesced-connection-telemetry.enabled=true")
+    // every attempt is slow
+    jvmArgs("-Dotel.instrumentation.netty.experimental.coalesced-connection-telemetry.slow-threshold=0ms")
+  }
+
   test {
     systemProperty("testLatestDeps", findProperty("testLatestDeps") as Boolean)
 
     filter {
       excludeTestsMatching("Netty41ConnectionSpanTest")
       excludeTestsMatching("Netty41ClientSslTest")
+      excludeTestsMatching("Netty41CoalescedConnectionTest")
+      excludeTestsMatching("Netty41CoalescedSlowConnectionTest")
     }
   }
 
   check {
-    dependsOn(testConnectionSpan)
+    dependsOn(testConnectionSpan, testCoalescedConnection, testCoalescedSlowConnection)
   }
 }
 
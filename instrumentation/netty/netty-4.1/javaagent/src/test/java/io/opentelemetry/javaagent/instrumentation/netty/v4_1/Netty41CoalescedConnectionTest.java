@@ -0,0 +1,220 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.netty.v4_1;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.netty.v4_1.ClientHandler;
+import io.opentelemetry.instrumentation.test.utils.PortUtils;
+import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.http.HttpClientTestServer;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Runs with coalesced connection telemetry enabled and the default slow threshold of 1s, which the
+ * connect attempts and SSL handshakes of these tests don't reach.
+ */
+class Netty41CoalescedConnectionTest {
+
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.netty-4.1";
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = AgentInstrumentationExtension.create();
+
+  private HttpClientTestServer server;
+  private EventLoopGroup eventLoopGroup;
+
+  @BeforeEach
+  void setUp() {
+    eventLoopGroup = new NioEventLoopGroup();
+    server = new HttpClientTestServer(testing.getOpenTelemetry());
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventLoopGroup.shutdownGracefully();
+    server.stop();
+  }
+
+  private Bootstrap buildBootstrap(boolean ssl) {
+    Bootstrap bootstrap = new Bootstrap();
+    bootstrap
+        .group(eventLoopGroup)
+        .channel(NioSocketChannel.class)
+        .handler(
+            new ChannelInitializer<SocketChannel>() {
+              @Override
+              protected void initChannel(SocketChannel socketChannel) throws Exception {
+                ChannelPipeline pipeline = socketChannel.pipeline();
+                if (ssl) {
+                  pipeline.addLast(
+                      new SslHandler(
+                          SslContextBuilder.forClient().build().newEngine(socketChannel.alloc())));
+                }
+                pipeline.addLast(new HttpClientCodec());
+              }
+            });
+    return bootstrap;
+  }
+
+  private static int sendRequest(Bootstrap bootstrap, URI uri) throws Exception {
+    DefaultFullHttpRequest request =
+        new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1, HttpMethod.GET, uri.getPath(), Unpooled.EMPTY_BUFFER);
+    request.headers().set(HttpHeaderNames.HOST, uri.getHost() + ":" + uri.getPort());
+    Channel channel = bootstrap.connect(uri.getHost(), uri.getPort()).sync().channel();
+    try {
+      CompletableFuture<Integer> result = new CompletableFuture<>();
+      channel.pipeline().addLast(new ClientHandler(result));
+      channel.writeAndFlush(request).get(10, TimeUnit.SECONDS);
+      return result.get(10, TimeUnit.SECONDS);
+    } finally {
+      channel.close();
+    }
+  }
+
+  @Test
+  void recordsFastConnectWithoutSpans() throws Exception {
+    URI uri = URI.create("http://localhost:" + server.httpPort() + "/success");
+    int responseCode = testing.runWithSpan("parent", () -> sendRequest(buildBootstrap(false), uri));
+
+    assertThat(responseCode).isEqualTo(200);
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span -> span.hasName("parent").hasKind(SpanKind.INTERNAL).hasNoParent(),
+                span -> span.hasName("GET").hasKind(SpanKind.CLIENT).hasParent(trace.getSpan(0)),
+                span ->
+                    span.hasName("test-http-server")
+                        .hasKind(SpanKind.SERVER)
+                        .hasParent(trace.getSpan(1))));
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "netty.client.connect.duration",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasUnit("s")
+                        .satisfies(
+                            data ->
+                                assertThat(data.getHistogramData().getPoints())
+                                    .anySatisfy(
+                                        point ->
+                                            assertThat(point.getAttributes())
+                                                .containsEntry(SERVER_ADDRESS, uri.getHost())
+                                                .containsEntry(SERVER_PORT, uri.getPort())
+                                                .doesNotContainKey(ERROR_TYPE)))));
+  }
+
+  @Test
+  void recordsFailedConnectWithSpan() {
+    URI uri = URI.create("http://localhost:" + PortUtils.UNUSABLE_PORT + "/");
+    Throwable thrown =
+        catchThrowable(
+            () -> testing.runWithSpan("parent", () -> sendRequest(buildBootstrap(false), uri)));
+
+    // the failed attempt gets the same CLIENT span that stands in for the HTTP client span as
+    // without coalesced connection telemetry
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("parent")
+                        .hasKind(SpanKind.INTERNAL)
+                        .hasNoParent()
+                        .hasStatus(StatusData.error())
+                        .hasException(thrown),
+                span ->
+                    span.hasName("CONNECT")
+                        .hasKind(SpanKind.CLIENT)
+                        .hasParent(trace.getSpan(0))
+                        .hasStatus(StatusData.error())
+                        .hasException(thrown)
+                        .hasAttributesSatisfying(
+                            equalTo(SERVER_ADDRESS, uri.getHost()),
+                            equalTo(SERVER_PORT, uri.getPort()))));
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "netty.client.connect.duration",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .satisfies(
+                            data ->
+                                assertThat(data.getHistogramData().getPoints())
+                                    .anySatisfy(
+                                        point ->
+                                            assertThat(point.getAttributes())
+                                                .containsEntry(SERVER_ADDRESS, uri.getHost())
+                                                .containsEntry(SERVER_PORT, uri.getPort())
+                                                .containsKey(ERROR_TYPE)))));
+  }
+
+  @Test
+  void recordsFastSslHandshakeWithoutSpans() throws Exception {
+    URI uri = server.resolveHttpsAddress("/success");
+    int responseCode = testing.runWithSpan("parent", () -> sendRequest(buildBootstrap(true), uri));
+
+    assertThat(responseCode).isEqualTo(200);
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span -> span.hasName("parent").hasKind(SpanKind.INTERNAL).hasNoParent(),
+                span -> span.hasName("GET").hasKind(SpanKind.CLIENT).hasParent(trace.getSpan(0)),
+                span ->
+                    span.hasName("test-http-server")
+                        .hasKind(SpanKind.SERVER)
+                        .hasParent(trace.getSpan(1))));
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "netty.client.ssl_handshake.duration",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasUnit("s")
+                        .satisfies(
+                            data ->
+                                assertThat(data.getHistogramData().getPoints())
+                                    .anySatisfy(
+                                        point ->
+                                            assertThat(point.getAttributes())
+                                                .doesNotContainKey(ERROR_TYPE)))));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of tracking the server context of one request on a pipelined connection,
+ * with {@code pipelined} requests waiting for their response, compared with the {@link ArrayDeque}
+ * that was used before.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ServerContextsBenchmark {
+
+  @Param({"1", "16"})
+  int pipelined;
+
+  EmbeddedChannel channel;
+  ServerContext serverContext;
+  ServerContexts serverContexts;
+  ArrayDeque<ServerContext> arrayDeque;
+
+  @Setup
+  public void setUp() {
+    channel = new EmbeddedChannel();
+    serverContext =
+        ServerContext.create(
+            Context.root(),
+            HttpRequestAndChannel.create(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/benchmark"),
+                channel));
+    serverContexts = ServerContexts.getOrCreate(channel);
+    arrayDeque = new ArrayDeque<>();
+    for (int i = 1; i < pipelined; i++) {
+      serverContexts.addLast(serverContext);
+      arrayDeque.addLast(serverContext);
+    }
+  }
+
+  @Benchmark
+  public ServerContext ringBuffer() {
+    serverContexts.addLast(serverContext);
+    // the response handler looks up the context of the oldest request, and removes it when the
+    // response is written
+    serverContexts.peekFirst();
+    return serverContexts.pollFirst();
+  }
+
+  @Benchmark
+  public ServerContext arrayDeque() {
+    arrayDeque.addLast(serverContext);
+    arrayDeque.peekFirst();
+    return arrayDeque.pollFirst();
+  }
+}
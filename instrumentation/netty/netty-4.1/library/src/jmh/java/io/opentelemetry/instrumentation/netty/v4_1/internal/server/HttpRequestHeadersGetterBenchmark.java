@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares extracting the W3C trace context and baggage from a netty request with one {@link
+ * String} keyed lookup per propagator call against fetching all propagator fields up front with
+ * {@link HttpRequestHeadersGetter}.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class HttpRequestHeadersGetterBenchmark {
+
+  private static final OpenTelemetry OPEN_TELEMETRY =
+      OpenTelemetry.propagating(
+          ContextPropagators.create(
+              TextMapPropagator.composite(
+                  W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance())));
+
+  private static final Instrumenter<HttpRequestAndChannel, Void> PER_KEY_INSTRUMENTER =
+      Instrumenter.<HttpRequestAndChannel, Void>builder(
+              OPEN_TELEMETRY, "benchmark", unused -> "GET")
+          .buildServerInstrumenter(PerKeyGetter.INSTANCE);
+
+  private static final Instrumenter<HttpRequestAndChannel, Void> BULK_INSTRUMENTER =
+      Instrumenter.<HttpRequestAndChannel, Void>builder(
+              OPEN_TELEMETRY, "benchmark", unused -> "GET")
+          .buildServerInstrumenter(HttpRequestHeadersGetter.INSTANCE);
+
+  @Param({"5", "20"})
+  int headerCount;
+
+  @Param({"true", "false"})
+  boolean traced;
+
+  HttpRequestAndChannel request;
+
+  @Setup
+  public void setUp() {
+    HttpRequest httpRequest =
+        new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/benchmark");
+    HttpHeaders headers = httpRequest.headers();
+    headers.add("Host", "localhost:8080");
+    for (int i = 1; i < headerCount; i++) {
+      headers.add("X-Header-" + i, "value-" + i);
+    }
+    if (traced) {
+      headers.add("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+      headers.add("tracestate", "congo=t61rcWkgMzE");
+      headers.add("baggage", "userId=alice");
+    }
+    request = HttpRequestAndChannel.create(httpRequest, new EmbeddedChannel());
+  }
+
+  @Benchmark
+  public Context perKey() {
+    return PER_KEY_INSTRUMENTER.start(Context.root(), request);
+  }
+
+  @Benchmark
+  public Context bulk() {
+    return BULK_INSTRUMENTER.start(Context.root(), request);
+  }
+
+  /** The getter used before netty supported fetching all propagator fields at once. */
+  enum PerKeyGetter implements TextMapGetter<HttpRequestAndChannel> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(HttpRequestAndChannel carrier) {
+      return carrier.request().headers().names();
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable HttpRequestAndChannel carrier, String key) {
+      return carrier.request().headers().get(key);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.CombinedChannelDuplexHandler;
 import io.netty.handler.codec.http.HttpResponse;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.ProtocolEventHandler;
@@ -22,12 +23,15 @@ import io.opentelemetry.instrumentation.netty.v4_1.internal.server.HttpServerTra
 public final class NettyServerTelemetry {
 
   private final Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter;
+  private final LongCounter evictedServerContexts;
   private final ProtocolEventHandler protocolEventHandler;
 
   NettyServerTelemetry(
       Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter,
+      LongCounter evictedServerContexts,
       ProtocolEventHandler protocolEventHandler) {
     this.instrumenter = instrumenter;
+    this.evictedServerContexts = evictedServerContexts;
     this.protocolEventHandler = protocolEventHandler;
   }
 
@@ -49,7 +53,7 @@ public final class NettyServerTelemetry {
    * requests. Must be paired with {@link #createResponseHandler()}.
    */
   public ChannelInboundHandlerAdapter createRequestHandler() {
-    return new HttpServerRequestTracingHandler(instrumenter);
+    return new HttpServerRequestTracingHandler(instrumenter, evictedServerContexts);
   }
 
   /**
@@ -78,6 +82,7 @@ public final class NettyServerTelemetry {
   public CombinedChannelDuplexHandler<
           ? extends ChannelInboundHandlerAdapter, ? extends ChannelOutboundHandlerAdapter>
       createCombinedHandler(HttpServerResponseBeforeCommitHandler commitHandler) {
-    return new HttpServerTracingHandler(instrumenter, commitHandler, protocolEventHandler);
+    return new HttpServerTracingHandler(
+        instrumenter, evictedServerContexts, commitHandler, protocolEventHandler);
   }
 }
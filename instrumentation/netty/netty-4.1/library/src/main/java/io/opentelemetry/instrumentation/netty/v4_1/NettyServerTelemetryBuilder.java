@@ -11,9 +11,9 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.api.incubator.builder.internal.DefaultHttpServerInstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesExtractorBuilder;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
-import io.opentelemetry.instrumentation.netty.v4.common.internal.server.HttpRequestHeadersGetter;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.server.NettyHttpServerAttributesGetter;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.ProtocolEventHandler;
+import io.opentelemetry.instrumentation.netty.v4_1.internal.server.HttpRequestHeadersGetter;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.server.NettyServerInstrumenterBuilderUtil;
 import java.util.List;
 import java.util.Set;
@@ -21,6 +21,9 @@ import java.util.Set;
 /** A builder of {@link NettyServerTelemetry}. */
 public final class NettyServerTelemetryBuilder {
 
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.netty-4.1";
+
+  private final OpenTelemetry openTelemetry;
   private final DefaultHttpServerInstrumenterBuilder<HttpRequestAndChannel, HttpResponse> builder;
 
   private boolean emitExperimentalHttpServerEvents = false;
@@ -31,9 +34,10 @@ public final class NettyServerTelemetryBuilder {
   }
 
   NettyServerTelemetryBuilder(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
     builder =
         DefaultHttpServerInstrumenterBuilder.create(
-            "io.opentelemetry.netty-4.1",
+            INSTRUMENTATION_NAME,
             openTelemetry,
             new NettyHttpServerAttributesGetter(),
             HttpRequestHeadersGetter.INSTANCE);
@@ -111,6 +115,16 @@ public final class NettyServerTelemetryBuilder {
   public NettyServerTelemetry build() {
     return new NettyServerTelemetry(
         builder.build(),
+        // requests are evicted when a connection has more pipelined requests waiting for their
+        // response than the pipelining limit, which ends their spans without a response
+        openTelemetry
+            .getMeter(INSTRUMENTATION_NAME)
+            .counterBuilder("netty.server.context.evicted")
+            .setUnit("{request}")
+            .setDescription(
+                "Number of HTTP server requests whose span was ended early because the pipelining"
+                    + " limit of the connection was exceeded.")
+            .build(),
         emitExperimentalHttpServerEvents
             ? ProtocolEventHandler.Enabled.INSTANCE
             : ProtocolEventHandler.Noop.INSTANCE);
@@ -5,10 +5,12 @@
 
 package io.opentelemetry.instrumentation.netty.v4_1.internal;
 
+import static java.util.logging.Level.FINE;
+
 import io.netty.channel.Channel;
 import io.netty.util.Attribute;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * A helper class for keeping track of incoming requests and spans associated with them.
@@ -17,12 +19,21 @@ import java.util.Deque;
  * at any time.
  */
 public final class ServerContexts {
-  private static final int PIPELINING_LIMIT = 1000;
+  private static final Logger logger = Logger.getLogger(ServerContexts.class.getName());
+
+  private static final int INITIAL_CAPACITY = 4;
+  private static final int PIPELINING_LIMIT = 1024;
+
   // With http pipelining multiple requests can be sent on the same connection. Responses should be
-  // sent in the same order the requests came in. We use this deque to store the request context
-  // and pop elements as responses are sent.
-  private final Deque<ServerContext> serverContexts = new ArrayDeque<>();
-  private volatile boolean broken = false;
+  // sent in the same order the requests came in. We use this ring buffer to store the request
+  // context and poll elements as responses are sent. The buffer grows up to the pipelining limit;
+  // http/2 streams have a channel and hence a ring buffer of their own.
+  private ServerContext[] serverContexts = new ServerContext[INITIAL_CAPACITY];
+  private int head;
+  private int size;
+  // the number of evicted requests whose responses were not written yet; as responses are
+  // written in request order, these are the next responses written on the connection
+  private int evictedResponses;
 
   private ServerContexts() {}
 
@@ -40,40 +51,107 @@ public final class ServerContexts {
     return result;
   }
 
+  /**
+   * Returns the server context of the request whose response is written next, or null if there is
+   * none or if that request's server context was evicted.
+   */
+  @Nullable
   public static ServerContext peekFirst(Channel channel) {
     ServerContexts serverContexts = get(channel);
-    return serverContexts != null ? serverContexts.peekFirst() : null;
+    return serverContexts != null && !serverContexts.isWritingEvictedResponse()
+        ? serverContexts.peekFirst()
+        : null;
+  }
+
+  /**
+   * Returns whether the response that is written next belongs to a request whose server context was
+   * evicted. Such responses must not be matched with the server context of a later request.
+   */
+  public boolean isWritingEvictedResponse() {
+    return evictedResponses > 0;
+  }
+
+  /** Records that the response of a request whose server context was evicted was written. */
+  public void evictedResponseWritten() {
+    if (evictedResponses > 0) {
+      evictedResponses--;
+    }
   }
 
+  @Nullable
   public ServerContext peekFirst() {
-    return serverContexts.peekFirst();
+    return size == 0 ? null : serverContexts[head];
   }
 
+  @Nullable
   public ServerContext peekLast() {
-    return serverContexts.peekFirst();
+    return size == 0 ? null : serverContexts[index(size - 1)];
   }
 
+  @Nullable
   public ServerContext pollFirst() {
-    return serverContexts.pollFirst();
+    if (size == 0) {
+      return null;
+    }
+    ServerContext result = serverContexts[head];
+    serverContexts[head] = null;
+    head = index(1);
+    size--;
+    return result;
   }
 
+  @Nullable
   public ServerContext pollLast() {
-    return serverContexts.pollLast();
+    if (size == 0) {
+      return null;
+    }
+    int last = index(size - 1);
+    ServerContext result = serverContexts[last];
+    serverContexts[last] = null;
+    size--;
+    return result;
   }
 
-  public void addLast(ServerContext context) {
-    if (broken) {
-      return;
+  /**
+   * Adds the server context of a new request. If the pipelining limit, i.e. the number of requests
+   * on the connection that are waiting for their response, is exceeded, the oldest server context
+   * is evicted and returned, so that its span can be ended; otherwise returns null. Contexts are
+   * evicted by count only, regardless of how long they have been waiting. The response that is
+   * later written for an evicted request is not traced, see {@link #isWritingEvictedResponse()}.
+   */
+  @Nullable
+  public ServerContext addLast(ServerContext context) {
+    ServerContext evicted = null;
+    if (size == serverContexts.length) {
+      if (size < PIPELINING_LIMIT) {
+        grow();
+      } else {
+        // Exceeding the limit indicates that there is good chance that server contexts are not
+        // removed and there could be a memory leak. This could happen when http server decides not
+        // to send response to some requests, for example see
+        // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/11942
+        // Instead of giving up on the connection, we evict the oldest, most likely stale, context.
+        evicted = pollFirst();
+        evictedResponses++;
+        logger.log(FINE, "Pipelining limit exceeded, evicting the oldest server context");
+      }
     }
-    // If the pipelining limit is exceeded we'll stop tracing and mark the channel as broken.
-    // Exceeding the limit indicates that there is good chance that server context are not removed
-    // from the deque and there could be a memory leak. This could happen when http server decides
-    // not to send response to some requests, for example see
-    // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/11942
-    if (serverContexts.size() > PIPELINING_LIMIT) {
-      broken = true;
-      serverContexts.clear();
+    serverContexts[index(size)] = context;
+    size++;
+    return evicted;
+  }
+
+  private void grow() {
+    ServerContext[] grown = new ServerContext[serverContexts.length * 2];
+    for (int i = 0; i < size; i++) {
+      grown[i] = serverContexts[index(i)];
     }
-    serverContexts.addLast(context);
+    serverContexts = grown;
+    head = 0;
+  }
+
+  private int index(int offset) {
+    // the capacity is always a power of two
+    return (head + offset) & (serverContexts.length - 1);
   }
 }
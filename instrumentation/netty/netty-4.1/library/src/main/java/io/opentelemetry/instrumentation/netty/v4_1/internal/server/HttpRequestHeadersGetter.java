@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+import io.opentelemetry.instrumentation.api.internal.BulkTextMapGetter;
+import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import javax.annotation.Nullable;
+
+/**
+ * Netty 4.1 variant of {@link
+ * io.opentelemetry.instrumentation.netty.v4.common.internal.server.HttpRequestHeadersGetter} that
+ * looks up all propagator fields with {@link AsciiString} keys. Netty headers are hashed case
+ * insensitively on every lookup by a {@link String} key, while {@link AsciiString}s cache their
+ * hash code.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public enum HttpRequestHeadersGetter implements BulkTextMapGetter<HttpRequestAndChannel> {
+  INSTANCE;
+
+  // the instrumenter passes the same keys array on every call, so the AsciiString keys are
+  // usually created only once
+  @Nullable private static volatile AsciiStringKeys lastKeys;
+
+  @Override
+  public Iterable<String> keys(HttpRequestAndChannel carrier) {
+    return carrier.request().headers().names();
+  }
+
+  @Nullable
+  @Override
+  public String get(@Nullable HttpRequestAndChannel carrier, String key) {
+    return carrier.request().headers().get(key);
+  }
+
+  @Override
+  public void getAll(
+      @Nullable HttpRequestAndChannel carrier, String[] keys, @Nullable String[] values) {
+    if (carrier == null) {
+      return;
+    }
+    AsciiStringKeys asciiStringKeys = lastKeys;
+    if (asciiStringKeys == null || asciiStringKeys.keys != keys) {
+      asciiStringKeys = new AsciiStringKeys(keys);
+      lastKeys = asciiStringKeys;
+    }
+    HttpHeaders headers = carrier.request().headers();
+    for (int i = 0; i < keys.length; i++) {
+      values[i] = headers.get(asciiStringKeys.asciiStrings[i]);
+    }
+  }
+
+  private static final class AsciiStringKeys {
+    private final String[] keys;
+    private final AsciiString[] asciiStrings;
+
+    private AsciiStringKeys(String[] keys) {
+      this.keys = keys;
+      this.asciiStrings = new AsciiString[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        asciiStrings[i] = new AsciiString(keys[i]);
+      }
+    }
+  }
+}
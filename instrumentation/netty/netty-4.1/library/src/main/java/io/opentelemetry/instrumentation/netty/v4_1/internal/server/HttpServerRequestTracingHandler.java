@@ -10,6 +10,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
@@ -24,10 +26,13 @@ import io.opentelemetry.instrumentation.netty.v4_1.internal.ServerContexts;
 public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapter {
 
   private final Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter;
+  private final LongCounter evictedServerContexts;
 
   public HttpServerRequestTracingHandler(
-      Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter) {
+      Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter,
+      LongCounter evictedServerContexts) {
     this.instrumenter = instrumenter;
+    this.evictedServerContexts = evictedServerContexts;
   }
 
   @Override
@@ -55,7 +60,11 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
     }
 
     Context context = instrumenter.start(parentContext, request);
-    serverContexts.addLast(ServerContext.create(context, request));
+    ServerContext evicted = serverContexts.addLast(ServerContext.create(context, request));
+    if (evicted != null) {
+      evictedServerContexts.add(1, Attributes.empty(), evicted.context());
+      instrumenter.end(evicted.context(), evicted.request(), null, null);
+    }
 
     try (Scope ignored = context.makeCurrent()) {
       super.channelRead(ctx, msg);
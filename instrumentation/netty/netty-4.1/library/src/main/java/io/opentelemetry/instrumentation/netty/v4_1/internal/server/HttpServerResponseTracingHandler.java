@@ -50,6 +50,14 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise prm) throws Exception {
     ServerContexts serverContexts = ServerContexts.get(ctx.channel());
+    if (serverContexts != null && serverContexts.isWritingEvictedResponse()) {
+      // the server context of this response's request was evicted and its span was already ended
+      if (msg instanceof LastHttpContent) {
+        serverContexts.evictedResponseWritten();
+      }
+      super.write(ctx, msg, prm);
+      return;
+    }
     ServerContext serverContext = serverContexts != null ? serverContexts.peekFirst() : null;
     if (serverContext == null) {
       super.write(ctx, msg, prm);
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
 
 import io.netty.channel.CombinedChannelDuplexHandler;
 import io.netty.handler.codec.http.HttpResponse;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.ProtocolEventHandler;
@@ -21,10 +22,11 @@ public class HttpServerTracingHandler
 
   public HttpServerTracingHandler(
       Instrumenter<HttpRequestAndChannel, HttpResponse> instrumenter,
+      LongCounter evictedServerContexts,
       HttpServerResponseBeforeCommitHandler responseBeforeCommitHandler,
       ProtocolEventHandler protocolEventHandler) {
     super(
-        new HttpServerRequestTracingHandler(instrumenter),
+        new HttpServerRequestTracingHandler(instrumenter, evictedServerContexts),
         new HttpServerResponseTracingHandler(
             instrumenter, responseBeforeCommitHandler, protocolEventHandler));
   }
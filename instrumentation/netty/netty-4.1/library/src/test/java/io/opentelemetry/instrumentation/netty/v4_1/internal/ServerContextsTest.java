@@ -0,0 +1,106 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
+import io.opentelemetry.instrumentation.netty.v4_1.NettyServerTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ServerContextsTest {
+
+  private final EmbeddedChannel channel = new EmbeddedChannel();
+
+  @Test
+  void keepsContextsInRequestOrder() {
+    ServerContexts serverContexts = ServerContexts.getOrCreate(channel);
+    List<ServerContext> contexts = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      ServerContext context = serverContext(i);
+      contexts.add(context);
+      assertThat(serverContexts.addLast(context)).isNull();
+      assertThat(serverContexts.peekLast()).isSameAs(context);
+    }
+
+    assertThat(serverContexts.pollLast()).isSameAs(contexts.get(9));
+    for (int i = 0; i < 9; i++) {
+      assertThat(ServerContexts.peekFirst(channel)).isSameAs(contexts.get(i));
+      assertThat(serverContexts.pollFirst()).isSameAs(contexts.get(i));
+    }
+    assertThat(serverContexts.peekFirst()).isNull();
+    assertThat(serverContexts.peekLast()).isNull();
+    assertThat(serverContexts.pollFirst()).isNull();
+    assertThat(serverContexts.pollLast()).isNull();
+  }
+
+  @Test
+  void evictsOldestContextWhenPipeliningLimitIsExceeded() {
+    ServerContexts serverContexts = ServerContexts.getOrCreate(channel);
+    ServerContext first = serverContext(0);
+    ServerContext second = serverContext(1);
+    serverContexts.addLast(first);
+    serverContexts.addLast(second);
+    for (int i = 2; i < 1024; i++) {
+      assertThat(serverContexts.addLast(serverContext(i))).isNull();
+    }
+
+    ServerContext last = serverContext(1024);
+    assertThat(serverContexts.addLast(last)).isSameAs(first);
+    assertThat(serverContexts.peekFirst()).isSameAs(second);
+    assertThat(serverContexts.peekLast()).isSameAs(last);
+
+    // the next response belongs to the evicted request and must not be matched with a later one
+    assertThat(serverContexts.isWritingEvictedResponse()).isTrue();
+    assertThat(ServerContexts.peekFirst(channel)).isNull();
+    serverContexts.evictedResponseWritten();
+    assertThat(serverContexts.isWritingEvictedResponse()).isFalse();
+    assertThat(ServerContexts.peekFirst(channel)).isSameAs(second);
+  }
+
+  @Test
+  void countsEvictedRequests() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+    EmbeddedChannel serverChannel =
+        new EmbeddedChannel(NettyServerTelemetry.create(openTelemetry).createRequestHandler());
+
+    for (int i = 0; i < 1026; i++) {
+      serverChannel.writeInbound(
+          new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/" + i));
+    }
+
+    // the spans of the first two requests are ended when they are evicted
+    assertThat(metricReader.collectAllMetrics())
+        .filteredOn(metric -> metric.getName().equals("netty.server.context.evicted"))
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasUnit("{request}")
+                    .hasLongSumSatisfying(
+                        sum -> sum.isMonotonic().hasPointsSatisfying(point -> point.hasValue(2))));
+  }
+
+  private ServerContext serverContext(int i) {
+    return ServerContext.create(
+        Context.root(),
+        HttpRequestAndChannel.create(
+            new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/" + i), channel));
+  }
+}
@@ -17,15 +17,18 @@ import javax.annotation.Nullable;
 public abstract class NettyConnectionRequest {
 
   public static NettyConnectionRequest resolve(SocketAddress remoteAddress) {
-    return new AutoValue_NettyConnectionRequest("RESOLVE", remoteAddress);
+    return new AutoValue_NettyConnectionRequest("RESOLVE", remoteAddress, true);
   }
 
   public static NettyConnectionRequest connect(SocketAddress remoteAddress) {
-    return new AutoValue_NettyConnectionRequest("CONNECT", remoteAddress);
+    return new AutoValue_NettyConnectionRequest("CONNECT", remoteAddress, false);
   }
 
   public abstract String spanName();
 
   @Nullable
   public abstract SocketAddress remoteAddressOnStart();
+
+  /** Returns whether this is an address resolution rather than a connect attempt. */
+  public abstract boolean isResolve();
 }
@@ -35,8 +35,11 @@ public final class Timer implements ImplicitContextKeyed {
   }
 
   public Instant now() {
-    long durationNanos = System.nanoTime() - startNanoTime;
-    return startTime().plusNanos(durationNanos);
+    return startTime().plusNanos(elapsedNanos());
+  }
+
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanoTime;
   }
 
   @Override
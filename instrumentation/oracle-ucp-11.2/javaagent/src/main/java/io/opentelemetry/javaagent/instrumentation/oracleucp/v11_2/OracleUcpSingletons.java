@@ -6,15 +6,56 @@
 package io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.oracleucp.v11_2.OracleUcpTelemetry;
+import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
+import java.time.Duration;
+import oracle.ucp.UniversalConnectionPool;
+import oracle.ucp.UniversalPooledConnection;
 
 public final class OracleUcpSingletons {
 
   private static final OracleUcpTelemetry oracleUcpTelemetry =
-      OracleUcpTelemetry.create(GlobalOpenTelemetry.get());
+      OracleUcpTelemetry.builder(GlobalOpenTelemetry.get())
+          .setLeakDetectionThreshold(
+              AgentInstrumentationConfig.get()
+                  .getDuration(
+                      "otel.instrumentation.db-connection-pool.experimental.leak-detection-threshold",
+                      Duration.ZERO))
+          .build();
 
-  public static OracleUcpTelemetry telemetry() {
-    return oracleUcpTelemetry;
+  private static final VirtualField<UniversalConnectionPool, DbConnectionPoolTracker>
+      connectionPoolTracker =
+          VirtualField.find(UniversalConnectionPool.class, DbConnectionPoolTracker.class);
+
+  public static void registerMetrics(UniversalConnectionPool connectionPool) {
+    oracleUcpTelemetry.registerMetrics(connectionPool);
+    connectionPoolTracker.set(connectionPool, DbConnectionPoolTrackers.get(connectionPool));
+  }
+
+  public static void unregisterMetrics(UniversalConnectionPool connectionPool) {
+    oracleUcpTelemetry.unregisterMetrics(connectionPool);
+    connectionPoolTracker.set(connectionPool, null);
+  }
+
+  public static void connectionBorrowed(
+      UniversalConnectionPool connectionPool,
+      UniversalPooledConnection connection,
+      long startNanos) {
+    DbConnectionPoolTracker tracker = connectionPoolTracker.get(connectionPool);
+    if (tracker != null) {
+      tracker.onAcquired(connection, System.nanoTime() - startNanos);
+    }
+  }
+
+  public static void connectionReturned(
+      UniversalConnectionPool connectionPool, UniversalPooledConnection connection) {
+    DbConnectionPoolTracker tracker = connectionPoolTracker.get(connectionPool);
+    if (tracker != null) {
+      tracker.onReleased(connection);
+    }
   }
 
   private OracleUcpSingletons() {}
@@ -7,7 +7,6 @@ package io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2;
 
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
-import static io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2.OracleUcpSingletons.telemetry;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
@@ -19,6 +18,7 @@ import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import oracle.ucp.UniversalConnectionPool;
+import oracle.ucp.UniversalPooledConnection;
 
 public class UniversalConnectionPoolInstrumentation implements TypeInstrumentation {
 
@@ -38,6 +38,12 @@ public class UniversalConnectionPoolInstrumentation implements TypeInstrumentati
         named("start").and(isPublic()), this.getClass().getName() + "$StartAdvice");
     transformer.applyAdviceToMethod(
         named("stop").and(takesArguments(0)), this.getClass().getName() + "$StopAdvice");
+    transformer.applyAdviceToMethod(
+        named("borrowConnection").and(isPublic()).and(takesArguments(1)),
+        this.getClass().getName() + "$BorrowConnectionAdvice");
+    transformer.applyAdviceToMethod(
+        named("returnConnection").and(isPublic()).and(takesArguments(1)),
+        this.getClass().getName() + "$ReturnConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -45,7 +51,7 @@ public class UniversalConnectionPoolInstrumentation implements TypeInstrumentati
 
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void onExit(@Advice.This UniversalConnectionPool connectionPool) {
-      telemetry().registerMetrics(connectionPool);
+      OracleUcpSingletons.registerMetrics(connectionPool);
     }
   }
 
@@ -66,7 +72,49 @@ public class UniversalConnectionPoolInstrumentation implements TypeInstrumentati
         return;
       }
 
-      telemetry().unregisterMetrics(connectionPool);
+      OracleUcpSingletons.unregisterMetrics(connectionPool);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class BorrowConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelStartNanos") long startNanos) {
+      // pool implementations delegate to the borrowConnection() of their superclass
+      callDepth = CallDepth.forClass(UniversalPooledConnection.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return;
+      }
+      startNanos = System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
+    public static void onExit(
+        @Advice.This UniversalConnectionPool connectionPool,
+        @Advice.Return UniversalPooledConnection connection,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelStartNanos") long startNanos) {
+      if (callDepth == null || callDepth.decrementAndGet() > 0) {
+        return;
+      }
+      if (connection != null) {
+        OracleUcpSingletons.connectionBorrowed(connectionPool, connection, startNanos);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ReturnConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.This UniversalConnectionPool connectionPool,
+        @Advice.Argument(0) UniversalPooledConnection connection) {
+      // returning the same connection again, e.g. from a superclass method, is ignored
+      OracleUcpSingletons.connectionReturned(connectionPool, connection);
     }
   }
 }
@@ -10,6 +10,9 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import oracle.ucp.UniversalConnectionPool;
@@ -24,17 +27,26 @@ final class ConnectionPoolMetrics {
       new ConcurrentHashMap<>();
 
   public static void registerMetrics(
-      OpenTelemetry openTelemetry, UniversalConnectionPool connectionPool) {
+      OpenTelemetry openTelemetry,
+      UniversalConnectionPool connectionPool,
+      Duration leakDetectionThreshold) {
     dataSourceMetrics.computeIfAbsent(
-        connectionPool, (unused) -> createMeters(openTelemetry, connectionPool));
+        connectionPool,
+        (unused) -> createMeters(openTelemetry, connectionPool, leakDetectionThreshold));
   }
 
   private static BatchCallback createMeters(
-      OpenTelemetry openTelemetry, UniversalConnectionPool connectionPool) {
+      OpenTelemetry openTelemetry,
+      UniversalConnectionPool connectionPool,
+      Duration leakDetectionThreshold) {
     DbConnectionPoolMetrics metrics =
         DbConnectionPoolMetrics.create(
             openTelemetry, INSTRUMENTATION_NAME, connectionPool.getName());
 
+    // ucp doesn't notify about borrowed connections, they are fed by the javaagent instrumentation
+    DbConnectionPoolTrackers.register(
+        connectionPool, DbConnectionPoolTracker.create(metrics, leakDetectionThreshold));
+
     ObservableLongMeasurement connections = metrics.connections();
     ObservableLongMeasurement maxConnections = metrics.maxConnections();
     ObservableLongMeasurement pendingRequestsForConnection = metrics.pendingRequestsForConnection();
@@ -60,6 +72,7 @@ final class ConnectionPoolMetrics {
   }
 
   public static void unregisterMetrics(UniversalConnectionPool connectionPool) {
+    DbConnectionPoolTrackers.unregister(connectionPool);
     BatchCallback callback = dataSourceMetrics.remove(connectionPool);
     if (callback != null) {
       callback.close();
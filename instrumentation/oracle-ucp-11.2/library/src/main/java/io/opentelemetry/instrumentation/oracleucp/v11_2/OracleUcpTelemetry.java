@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.oracleucp.v11_2;
 
 import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
 import oracle.ucp.UniversalConnectionPool;
 
 /** Entrypoint for instrumenting Oracle UCP database connection pools. */
@@ -13,18 +14,29 @@ public final class OracleUcpTelemetry {
 
   /** Returns a new {@link OracleUcpTelemetry} configured with the given {@link OpenTelemetry}. */
   public static OracleUcpTelemetry create(OpenTelemetry openTelemetry) {
-    return new OracleUcpTelemetry(openTelemetry);
+    return builder(openTelemetry).build();
+  }
+
+  /**
+   * Returns a new {@link OracleUcpTelemetryBuilder} configured with the given {@link
+   * OpenTelemetry}.
+   */
+  public static OracleUcpTelemetryBuilder builder(OpenTelemetry openTelemetry) {
+    return new OracleUcpTelemetryBuilder(openTelemetry);
   }
 
   private final OpenTelemetry openTelemetry;
+  private final Duration leakDetectionThreshold;
 
-  private OracleUcpTelemetry(OpenTelemetry openTelemetry) {
+  OracleUcpTelemetry(OpenTelemetry openTelemetry, Duration leakDetectionThreshold) {
     this.openTelemetry = openTelemetry;
+    this.leakDetectionThreshold = leakDetectionThreshold;
   }
 
   /** Start collecting metrics for given connection pool. */
   public void registerMetrics(UniversalConnectionPool universalConnectionPool) {
-    ConnectionPoolMetrics.registerMetrics(openTelemetry, universalConnectionPool);
+    ConnectionPoolMetrics.registerMetrics(
+        openTelemetry, universalConnectionPool, leakDetectionThreshold);
   }
 
   /** Stop collecting metrics for given connection pool. */
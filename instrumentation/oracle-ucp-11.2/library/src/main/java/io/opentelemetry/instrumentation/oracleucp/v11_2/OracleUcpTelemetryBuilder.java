@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.oracleucp.v11_2;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
+
+/** A builder of {@link OracleUcpTelemetry}. */
+public final class OracleUcpTelemetryBuilder {
+
+  private final OpenTelemetry openTelemetry;
+  private Duration leakDetectionThreshold = Duration.ZERO;
+
+  OracleUcpTelemetryBuilder(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+  }
+
+  /**
+   * Sets how long a connection can be held before it is counted as leaked. Leak detection is
+   * disabled by default, and when the passed threshold is zero.
+   */
+  @CanIgnoreReturnValue
+  public OracleUcpTelemetryBuilder setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+    this.leakDetectionThreshold = leakDetectionThreshold;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link OracleUcpTelemetry} with the settings of this {@link
+   * OracleUcpTelemetryBuilder}.
+   */
+  public OracleUcpTelemetry build() {
+    return new OracleUcpTelemetry(openTelemetry, leakDetectionThreshold);
+  }
+}
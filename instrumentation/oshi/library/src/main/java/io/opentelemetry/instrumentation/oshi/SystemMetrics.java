@@ -9,8 +9,14 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import oshi.SystemInfo;
 import oshi.hardware.GlobalMemory;
 import oshi.hardware.HWDiskStore;
@@ -27,124 +33,202 @@ public class SystemMetrics {
   private static final Attributes ATTRIBUTES_USED = Attributes.of(STATE_KEY, "used");
   private static final Attributes ATTRIBUTES_FREE = Attributes.of(STATE_KEY, "free");
 
+  // collections that happen within this interval, e.g. by multiple metric readers, share a snapshot
+  private static final long MIN_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
   private SystemMetrics() {}
 
   /** Register observers for system metrics. */
   public static List<AutoCloseable> registerObservers(OpenTelemetry openTelemetry) {
-    Meter meter = openTelemetry.getMeterProvider().get("io.opentelemetry.oshi");
     SystemInfo systemInfo = new SystemInfo();
-    HardwareAbstractionLayer hal = systemInfo.getHardware();
-    List<AutoCloseable> observables = new ArrayList<>();
+    return registerObservers(openTelemetry, systemInfo.getHardware(), System::nanoTime);
+  }
 
-    observables.add(
+  // visible for testing
+  static List<AutoCloseable> registerObservers(
+      OpenTelemetry openTelemetry, HardwareAbstractionLayer hal, LongSupplier nanoTime) {
+    Meter meter = openTelemetry.getMeterProvider().get("io.opentelemetry.oshi");
+    Snapshot snapshot = new Snapshot(hal, nanoTime);
+
+    ObservableLongMeasurement memoryUsage =
         meter
             .upDownCounterBuilder("system.memory.usage")
             .setDescription("System memory usage")
             .setUnit("By")
-            .buildWithCallback(
-                r -> {
-                  GlobalMemory mem = hal.getMemory();
-                  r.record(mem.getTotal() - mem.getAvailable(), ATTRIBUTES_USED);
-                  r.record(mem.getAvailable(), ATTRIBUTES_FREE);
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableDoubleMeasurement memoryUtilization =
         meter
             .gaugeBuilder("system.memory.utilization")
             .setDescription("System memory utilization")
             .setUnit("1")
-            .buildWithCallback(
-                r -> {
-                  GlobalMemory mem = hal.getMemory();
-                  r.record(
-                      ((double) (mem.getTotal() - mem.getAvailable())) / mem.getTotal(),
-                      ATTRIBUTES_USED);
-                  r.record(((double) mem.getAvailable()) / mem.getTotal(), ATTRIBUTES_FREE);
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableLongMeasurement networkIo =
         meter
             .counterBuilder("system.network.io")
             .setDescription("System network IO")
             .setUnit("By")
-            .buildWithCallback(
-                r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getBytesRecv();
-                    long sent = networkIf.getBytesSent();
-                    String device = networkIf.getName();
-                    r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
-                    r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
-                  }
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableLongMeasurement networkPackets =
         meter
             .counterBuilder("system.network.packets")
             .setDescription("System network packets")
             .setUnit("{packets}")
-            .buildWithCallback(
-                r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getPacketsRecv();
-                    long sent = networkIf.getPacketsSent();
-                    String device = networkIf.getName();
-                    r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
-                    r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
-                  }
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableLongMeasurement networkErrors =
         meter
             .counterBuilder("system.network.errors")
             .setDescription("System network errors")
             .setUnit("{errors}")
-            .buildWithCallback(
-                r -> {
-                  for (NetworkIF networkIf : hal.getNetworkIFs()) {
-                    networkIf.updateAttributes();
-                    long recv = networkIf.getInErrors();
-                    long sent = networkIf.getOutErrors();
-                    String device = networkIf.getName();
-                    r.record(recv, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "receive"));
-                    r.record(sent, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "transmit"));
-                  }
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableLongMeasurement diskIo =
         meter
             .counterBuilder("system.disk.io")
             .setDescription("System disk IO")
             .setUnit("By")
-            .buildWithCallback(
-                r -> {
-                  for (HWDiskStore diskStore : hal.getDiskStores()) {
-                    long read = diskStore.getReadBytes();
-                    long write = diskStore.getWriteBytes();
-                    String device = diskStore.getName();
-                    r.record(read, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "read"));
-                    r.record(write, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "write"));
-                  }
-                }));
-
-    observables.add(
+            .buildObserver();
+    ObservableLongMeasurement diskOperations =
         meter
             .counterBuilder("system.disk.operations")
             .setDescription("System disk operations")
             .setUnit("{operations}")
-            .buildWithCallback(
-                r -> {
-                  for (HWDiskStore diskStore : hal.getDiskStores()) {
-                    long read = diskStore.getReads();
-                    long write = diskStore.getWrites();
-                    String device = diskStore.getName();
-                    r.record(read, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "read"));
-                    r.record(write, Attributes.of(DEVICE_KEY, device, DIRECTION_KEY, "write"));
-                  }
-                }));
+            .buildObserver();
+
+    List<AutoCloseable> observables = new ArrayList<>();
+    observables.add(
+        meter.batchCallback(
+            () -> {
+              synchronized (snapshot) {
+                snapshot.refresh();
+
+                long used = snapshot.memoryTotal - snapshot.memoryAvailable;
+                memoryUsage.record(used, ATTRIBUTES_USED);
+                memoryUsage.record(snapshot.memoryAvailable, ATTRIBUTES_FREE);
+                memoryUtilization.record(((double) used) / snapshot.memoryTotal, ATTRIBUTES_USED);
+                memoryUtilization.record(
+                    ((double) snapshot.memoryAvailable) / snapshot.memoryTotal, ATTRIBUTES_FREE);
+
+                for (Device networkIf : snapshot.networkIfs.values()) {
+                  networkIo.record(networkIf.values[0], networkIf.in);
+                  networkIo.record(networkIf.values[1], networkIf.out);
+                  networkPackets.record(networkIf.values[2], networkIf.in);
+                  networkPackets.record(networkIf.values[3], networkIf.out);
+                  networkErrors.record(networkIf.values[4], networkIf.in);
+                  networkErrors.record(networkIf.values[5], networkIf.out);
+                }
+
+                for (Device diskStore : snapshot.diskStores.values()) {
+                  diskIo.record(diskStore.values[0], diskStore.in);
+                  diskIo.record(diskStore.values[1], diskStore.out);
+                  diskOperations.record(diskStore.values[2], diskStore.in);
+                  diskOperations.record(diskStore.values[3], diskStore.out);
+                }
+              }
+            },
+            memoryUsage,
+            memoryUtilization,
+            networkIo,
+            networkPackets,
+            networkErrors,
+            diskIo,
+            diskOperations));
 
     return observables;
   }
+
+  /**
+   * The values of all system metrics, read from OSHI at most once per {@link
+   * #MIN_REFRESH_INTERVAL_NANOS}. Each device is created once, with its attributes, and then
+   * updated in place for as long as it exists, so that a refresh doesn't allocate anything beyond
+   * what OSHI itself does.
+   */
+  private static final class Snapshot {
+    private final HardwareAbstractionLayer hal;
+    private final LongSupplier nanoTime;
+
+    private boolean initialized;
+    private long lastRefreshNanos;
+    private long generation;
+
+    long memoryTotal;
+    long memoryAvailable;
+    final Map<String, Device> networkIfs = new HashMap<>();
+    final Map<String, Device> diskStores = new HashMap<>();
+
+    Snapshot(HardwareAbstractionLayer hal, LongSupplier nanoTime) {
+      this.hal = hal;
+      this.nanoTime = nanoTime;
+    }
+
+    void refresh() {
+      long now = nanoTime.getAsLong();
+      if (initialized && now - lastRefreshNanos < MIN_REFRESH_INTERVAL_NANOS) {
+        return;
+      }
+      initialized = true;
+      lastRefreshNanos = now;
+      generation++;
+
+      GlobalMemory mem = hal.getMemory();
+      memoryTotal = mem.getTotal();
+      memoryAvailable = mem.getAvailable();
+
+      // the network interfaces read their statistics when they're created
+      for (NetworkIF networkIf : hal.getNetworkIFs()) {
+        long[] values =
+            device(networkIfs, networkIf.getName(), "receive", "transmit", 6, generation).values;
+        values[0] = networkIf.getBytesRecv();
+        values[1] = networkIf.getBytesSent();
+        values[2] = networkIf.getPacketsRecv();
+        values[3] = networkIf.getPacketsSent();
+        values[4] = networkIf.getInErrors();
+        values[5] = networkIf.getOutErrors();
+      }
+      removeDisappeared(networkIfs, generation);
+
+      for (HWDiskStore diskStore : hal.getDiskStores()) {
+        long[] values =
+            device(diskStores, diskStore.getName(), "read", "write", 4, generation).values;
+        values[0] = diskStore.getReadBytes();
+        values[1] = diskStore.getWriteBytes();
+        values[2] = diskStore.getReads();
+        values[3] = diskStore.getWrites();
+      }
+      removeDisappeared(diskStores, generation);
+    }
+
+    private static Device device(
+        Map<String, Device> devices,
+        String name,
+        String in,
+        String out,
+        int valueCount,
+        long generation) {
+      Device device = devices.get(name);
+      if (device == null) {
+        device = new Device(name, in, out, valueCount);
+        devices.put(name, device);
+      }
+      device.generation = generation;
+      return device;
+    }
+
+    private static void removeDisappeared(Map<String, Device> devices, long generation) {
+      devices.values().removeIf(device -> device.generation != generation);
+    }
+  }
+
+  /** The values of a device, alternating between the incoming and outgoing direction. */
+  private static final class Device {
+    final Attributes in;
+    final Attributes out;
+    final long[] values;
+    // the refresh that last saw the device
+    long generation;
+
+    Device(String name, String in, String out, int valueCount) {
+      this.in = Attributes.of(DEVICE_KEY, name, DIRECTION_KEY, in);
+      this.out = Attributes.of(DEVICE_KEY, name, DIRECTION_KEY, out);
+      this.values = new long[valueCount];
+    }
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.oshi;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HWDiskStore;
+import oshi.hardware.HardwareAbstractionLayer;
+import oshi.hardware.NetworkIF;
+
+class SystemMetricsRefreshTest {
+
+  private final HardwareAbstractionLayer hal = mock(HardwareAbstractionLayer.class);
+  private final NetworkIF networkIf = mock(NetworkIF.class);
+  private final HWDiskStore diskStore = mock(HWDiskStore.class);
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+  private OpenTelemetrySdk openTelemetry;
+
+  @BeforeEach
+  void setUp() {
+    GlobalMemory memory = mock(GlobalMemory.class);
+    when(memory.getTotal()).thenReturn(100L);
+    when(memory.getAvailable()).thenReturn(40L);
+    when(hal.getMemory()).thenReturn(memory);
+    when(networkIf.getName()).thenReturn("eth0");
+    when(networkIf.getBytesRecv()).thenReturn(10L);
+    when(hal.getNetworkIFs()).thenReturn(singletonList(networkIf));
+    when(diskStore.getName()).thenReturn("sda");
+    when(diskStore.getReadBytes()).thenReturn(20L);
+    when(hal.getDiskStores()).thenReturn(singletonList(diskStore));
+
+    openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+    SystemMetrics.registerObservers(openTelemetry, hal, nanoTime::get);
+  }
+
+  @AfterEach
+  void tearDown() {
+    openTelemetry.close();
+  }
+
+  @Test
+  void refreshesOnceForAllInstruments() {
+    assertThat(metricReader.collectAllMetrics())
+        .extracting(MetricData::getName)
+        .containsExactlyInAnyOrder(
+            "system.memory.usage",
+            "system.memory.utilization",
+            "system.network.io",
+            "system.network.packets",
+            "system.network.errors",
+            "system.disk.io",
+            "system.disk.operations");
+
+    verify(hal, times(1)).getMemory();
+    verify(hal, times(1)).getNetworkIFs();
+    verify(hal, times(1)).getDiskStores();
+    verify(networkIf, times(1)).getBytesRecv();
+  }
+
+  @Test
+  void refreshesAtMostOncePerSecond() {
+    metricReader.collectAllMetrics();
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    metricReader.collectAllMetrics();
+    verify(hal, times(1)).getMemory();
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    when(networkIf.getBytesRecv()).thenReturn(30L);
+    when(hal.getDiskStores()).thenReturn(emptyList());
+
+    assertThat(metricReader.collectAllMetrics())
+        .noneMatch(metric -> metric.getName().startsWith("system.disk."))
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("system.network.io")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(30)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(AttributeKey.stringKey("device"), "eth0"),
+                                            equalTo(
+                                                AttributeKey.stringKey("direction"), "receive")),
+                                point ->
+                                    point
+                                        .hasValue(0)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(AttributeKey.stringKey("device"), "eth0"),
+                                            equalTo(
+                                                AttributeKey.stringKey("direction"),
+                                                "transmit")))));
+    verify(hal, times(2)).getMemory();
+  }
+}
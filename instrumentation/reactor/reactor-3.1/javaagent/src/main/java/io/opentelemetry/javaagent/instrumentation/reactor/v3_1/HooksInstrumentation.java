@@ -6,7 +6,6 @@
 package io.opentelemetry.javaagent.instrumentation.reactor.v3_1;
 
 import static net.bytebuddy.matcher.ElementMatchers.isTypeInitializer;
-import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 
 import io.opentelemetry.instrumentation.reactor.v3_1.ContextPropagationOperator;
@@ -30,7 +29,7 @@ public class HooksInstrumentation implements TypeInstrumentation {
   @Override
   public void transform(TypeTransformer transformer) {
     transformer.applyAdviceToMethod(
-        isTypeInitializer().or(named("resetOnEachOperator")),
+        isTypeInitializer().or(namedOneOf("resetOnEachOperator", "resetOnLastOperator")),
         this.getClass().getName() + "$ResetOnEachOperatorAdvice");
   }
 
@@ -39,12 +38,20 @@ public class HooksInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void postStaticInitializer() {
-      ContextPropagationOperator.builder()
-          .setCaptureExperimentalSpanAttributes(
-              AgentInstrumentationConfig.get()
-                  .getBoolean("otel.instrumentation.reactor.experimental-span-attributes", false))
-          .build()
-          .registerOnEachOperator();
+      ContextPropagationOperator operator =
+          ContextPropagationOperator.builder()
+              .setCaptureExperimentalSpanAttributes(
+                  AgentInstrumentationConfig.get()
+                      .getBoolean(
+                          "otel.instrumentation.reactor.experimental-span-attributes", false))
+              .build();
+      if (AgentInstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.reactor.experimental.last-operator-propagation", false)) {
+        operator.registerOnLastOperator();
+      } else {
+        operator.registerOnEachOperator();
+      }
     }
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor.v3_1;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/**
+ * Compares running a chain of synchronous operators without context propagation, with the hook on
+ * each operator and with the hook on the last operator only. The hook on each operator prevents the
+ * operators from fusing, and opens a scope for every signal of every operator.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+public class ContextPropagationBenchmark {
+
+  @Param({"none", "eachOperator", "lastOperator"})
+  public String hook;
+
+  @Param({"5", "50"})
+  public int operators;
+
+  private final ContextPropagationOperator operator = ContextPropagationOperator.create();
+  private Context context;
+
+  @Setup
+  public void setUp() {
+    if (hook.equals("eachOperator")) {
+      operator.registerOnEachOperator();
+    } else if (hook.equals("lastOperator")) {
+      operator.registerOnLastOperator();
+    }
+    Span span =
+        Span.wrap(
+            SpanContext.create(
+                "ff01020304050600ff0a0b0c0d0e0f00",
+                "090a0b0c0d0e0f00",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()));
+    context = Context.root().with(span);
+  }
+
+  @TearDown
+  public void tearDown() {
+    operator.resetOnEachOperator();
+    operator.resetOnLastOperator();
+  }
+
+  @Benchmark
+  public Integer operatorChain() {
+    try (io.opentelemetry.context.Scope ignored = context.makeCurrent()) {
+      // the hooks are applied when the operators are assembled
+      Flux<Integer> flux = Flux.range(0, 100);
+      for (int i = 0; i < operators; i++) {
+        flux = flux.map(value -> value + 1);
+      }
+      return flux.blockLast();
+    }
+  }
+}
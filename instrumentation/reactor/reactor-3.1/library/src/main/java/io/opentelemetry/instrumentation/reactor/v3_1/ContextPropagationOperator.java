@@ -108,6 +108,7 @@ public final class ContextPropagationOperator {
   private static final Object lock = new Object();
 
   private static volatile boolean enabled = false;
+  private static volatile boolean onLastOperator = false;
 
   /**
    * Stores Trace {@link io.opentelemetry.context.Context} in Reactor {@link
@@ -186,10 +187,49 @@ public final class ContextPropagationOperator {
     }
   }
 
+  /**
+   * Registers a hook that applies only to the last operator of each reactive stream and to the
+   * tasks that are scheduled on Reactor's schedulers, propagating {@link Context} to the subscriber
+   * of the stream. Operators that don't switch threads run the callbacks of the operators before
+   * them on the same thread, so this is enough for most streams, while it avoids a wrapper around
+   * every operator, keeps the micro-fusion between operators, and only makes the context current
+   * when it isn't already. This should generally be called in a static initializer block in your
+   * application, instead of {@link #registerOnEachOperator()}.
+   */
+  public void registerOnLastOperator() {
+    synchronized (lock) {
+      if (enabled) {
+        return;
+      }
+      Hooks.onLastOperator(
+          LastOperatorTracingSubscriber.class.getName(),
+          Operators.lift(
+              ContextPropagationOperator::shouldInstrument,
+              new LastOperatorLifter<>(asyncOperationEndStrategy)));
+      AsyncOperationEndStrategies.instance().registerStrategy(asyncOperationEndStrategy);
+      registerScheduleHook(RunnableWrapper.class.getName(), RunnableWrapper::new);
+      enabled = true;
+      onLastOperator = true;
+    }
+  }
+
+  /** Unregisters the hook registered by {@link #registerOnLastOperator()}. */
+  public void resetOnLastOperator() {
+    synchronized (lock) {
+      if (!enabled || !onLastOperator) {
+        return;
+      }
+      Hooks.resetOnLastOperator(LastOperatorTracingSubscriber.class.getName());
+      AsyncOperationEndStrategies.instance().unregisterStrategy(asyncOperationEndStrategy);
+      enabled = false;
+      onLastOperator = false;
+    }
+  }
+
   /** Unregisters the hook registered by {@link #registerOnEachOperator()}. */
   public void resetOnEachOperator() {
     synchronized (lock) {
-      if (!enabled) {
+      if (!enabled || onLastOperator) {
         return;
       }
       Hooks.resetOnEachOperator(TracingSubscriber.class.getName());
@@ -288,6 +328,26 @@ public final class ContextPropagationOperator {
     }
   }
 
+  private static class LastOperatorLifter<T>
+      implements BiFunction<Scannable, CoreSubscriber<? super T>, CoreSubscriber<? super T>> {
+
+    /** Holds reference to strategy to prevent it from being collected. */
+    @SuppressWarnings({"FieldCanBeLocal", "UnusedVariable"})
+    private final ReactorAsyncOperationEndStrategy asyncOperationEndStrategy;
+
+    public LastOperatorLifter(ReactorAsyncOperationEndStrategy asyncOperationEndStrategy) {
+      this.asyncOperationEndStrategy = asyncOperationEndStrategy;
+    }
+
+    @Override
+    public CoreSubscriber<? super T> apply(Scannable publisher, CoreSubscriber<? super T> sub) {
+      if (sub instanceof LastOperatorTracingSubscriber) {
+        return sub;
+      }
+      return new LastOperatorTracingSubscriber<>(sub);
+    }
+  }
+
   static void subscribeInActiveSpan(CoreSubscriber<? super Object> actual, Object value) {
     Context tracingContextInReactor =
         ContextPropagationOperator.getOpenTelemetryContext(actual.currentContext(), null);
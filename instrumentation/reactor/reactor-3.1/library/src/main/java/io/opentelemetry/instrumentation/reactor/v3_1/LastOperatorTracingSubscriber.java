@@ -0,0 +1,126 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor.v3_1;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import javax.annotation.Nullable;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Fuseable;
+
+/**
+ * Propagates {@link Context} to the subscriber of the last operator of a reactive stream. Unlike
+ * {@link TracingSubscriber}, it is also a {@link Fuseable.QueueSubscription}, so that the
+ * subscriber can still fuse with the last operator, and it only makes the context current when it
+ * isn't already.
+ */
+final class LastOperatorTracingSubscriber<T>
+    implements CoreSubscriber<T>, Fuseable.QueueSubscription<T> {
+
+  private final CoreSubscriber<? super T> actual;
+  @Nullable private final Context traceContext;
+
+  private Subscription subscription;
+  @Nullable private Fuseable.QueueSubscription<T> queueSubscription;
+
+  LastOperatorTracingSubscriber(CoreSubscriber<? super T> actual) {
+    this.actual = actual;
+    Context context =
+        ContextPropagationOperator.getOpenTelemetryContext(
+            actual.currentContext(), Context.current());
+    this.traceContext =
+        context != null && Span.fromContext(context).getSpanContext().isValid() ? context : null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void onSubscribe(Subscription subscription) {
+    this.subscription = subscription;
+    if (subscription instanceof Fuseable.QueueSubscription) {
+      queueSubscription = (Fuseable.QueueSubscription<T>) subscription;
+    }
+    try (Scope ignored = openScope()) {
+      actual.onSubscribe(this);
+    }
+  }
+
+  @Override
+  public void onNext(T t) {
+    try (Scope ignored = openScope()) {
+      actual.onNext(t);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    try (Scope ignored = openScope()) {
+      actual.onError(throwable);
+    }
+  }
+
+  @Override
+  public void onComplete() {
+    try (Scope ignored = openScope()) {
+      actual.onComplete();
+    }
+  }
+
+  @Override
+  public reactor.util.context.Context currentContext() {
+    return actual.currentContext();
+  }
+
+  @Override
+  public void request(long n) {
+    subscription.request(n);
+  }
+
+  @Override
+  public void cancel() {
+    subscription.cancel();
+  }
+
+  @Override
+  public int requestFusion(int requestedMode) {
+    return queueSubscription == null
+        ? Fuseable.NONE
+        : queueSubscription.requestFusion(requestedMode);
+  }
+
+  @Override
+  @Nullable
+  public T poll() {
+    // with fusion, the values are pulled by the subscriber instead of being pushed with onNext
+    try (Scope ignored = openScope()) {
+      return queueSubscription.poll();
+    }
+  }
+
+  @Override
+  public int size() {
+    return queueSubscription.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return queueSubscription.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    queueSubscription.clear();
+  }
+
+  @Nullable
+  private Scope openScope() {
+    if (traceContext == null || traceContext == Context.current()) {
+      return null;
+    }
+    return traceContext.makeCurrent();
+  }
+}
@@ -7,7 +7,14 @@ package io.opentelemetry.instrumentation.reactor.v3_1;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
@@ -35,6 +42,54 @@ class HooksTest {
     assertThat(subscriber.get()).extracting("actual").isNotInstanceOf(TracingSubscriber.class);
   }
 
+  @Test
+  void canResetLastOperatorHook() {
+    ContextPropagationOperator operator = ContextPropagationOperator.create();
+    AtomicReference<CoreSubscriber<? super Integer>> subscriber = new AtomicReference<>();
+
+    operator.registerOnLastOperator();
+    new CapturingMono(subscriber).map(i -> i + 1).subscribe();
+    assertThat(subscriber.get())
+        .extracting("actual")
+        .isInstanceOf(LastOperatorTracingSubscriber.class);
+
+    operator.resetOnLastOperator();
+    new CapturingMono(subscriber).map(i -> i + 1).subscribe();
+    assertThat(subscriber.get())
+        .extracting("actual")
+        .isNotInstanceOf(LastOperatorTracingSubscriber.class);
+  }
+
+  @Test
+  void lastOperatorHookPropagatesContextToSubscriber() throws InterruptedException {
+    ContextPropagationOperator operator = ContextPropagationOperator.create();
+    operator.registerOnLastOperator();
+
+    Span span =
+        Span.wrap(
+            SpanContext.create(
+                "ff01020304050600ff0a0b0c0d0e0f00",
+                "090a0b0c0d0e0f00",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()));
+    AtomicReference<Span> spanInSubscriber = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    try (Scope ignored = Context.current().with(span).makeCurrent()) {
+      Mono.just(1)
+          .publishOn(Schedulers.single())
+          .map(i -> i + 1)
+          .subscribe(
+              unused -> {
+                spanInSubscriber.set(Span.current());
+                latch.countDown();
+              });
+    }
+    assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    operator.resetOnLastOperator();
+
+    assertThat(spanInSubscriber.get()).isSameAs(span);
+  }
+
   private static class CapturingMono extends Mono<Integer> {
     final AtomicReference<CoreSubscriber<? super Integer>> subscriber;
 
@@ -14,9 +14,11 @@ import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyCli
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyClientInstrumenterFactory;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionInstrumentationFlag;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionInstrumenter;
+import io.opentelemetry.instrumentation.netty.v4.common.internal.client.NettyConnectionMetrics;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentCommonConfig;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentInstrumentationConfig;
 import io.opentelemetry.javaagent.bootstrap.internal.JavaagentHttpClientInstrumenters;
+import java.time.Duration;
 import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 
@@ -27,6 +29,16 @@ public final class ReactorNettySingletons {
   private static final boolean connectionTelemetryEnabled =
       AgentInstrumentationConfig.get()
           .getBoolean("otel.instrumentation.reactor-netty.connection-telemetry.enabled", false);
+  private static final boolean coalescedConnectionTelemetryEnabled =
+      AgentInstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.reactor-netty.experimental.coalesced-connection-telemetry.enabled",
+              false);
+  private static final Duration slowConnectionThreshold =
+      AgentInstrumentationConfig.get()
+          .getDuration(
+              "otel.instrumentation.reactor-netty.experimental.coalesced-connection-telemetry.slow-threshold",
+              Duration.ofSeconds(1));
 
   private static final Instrumenter<HttpClientRequest, HttpClientResponse> INSTRUMENTER;
   private static final NettyConnectionInstrumenter CONNECTION_INSTRUMENTER;
@@ -45,13 +57,22 @@ public final class ReactorNettySingletons {
     NettyClientInstrumenterFactory instrumenterFactory =
         new NettyClientInstrumenterFactory(
             builder,
-            connectionTelemetryEnabled
-                ? NettyConnectionInstrumentationFlag.ENABLED
-                : NettyConnectionInstrumentationFlag.DISABLED,
-            NettyConnectionInstrumentationFlag.DISABLED);
+            connectionTelemetryState(),
+            NettyConnectionInstrumentationFlag.DISABLED,
+            NettyConnectionMetrics.create(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME),
+            slowConnectionThreshold);
     CONNECTION_INSTRUMENTER = instrumenterFactory.createConnectionInstrumenter();
   }
 
+  private static NettyConnectionInstrumentationFlag connectionTelemetryState() {
+    if (connectionTelemetryEnabled) {
+      return NettyConnectionInstrumentationFlag.ENABLED;
+    }
+    return coalescedConnectionTelemetryEnabled
+        ? NettyConnectionInstrumentationFlag.COALESCED
+        : NettyConnectionInstrumentationFlag.DISABLED;
+  }
+
   public static Instrumenter<HttpClientRequest, HttpClientResponse> instrumenter() {
     return INSTRUMENTER;
   }
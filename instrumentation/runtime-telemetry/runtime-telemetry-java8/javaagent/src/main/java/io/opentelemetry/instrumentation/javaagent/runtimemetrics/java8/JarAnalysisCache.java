@@ -0,0 +1,213 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.javaagent.runtimemetrics.java8;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.api.common.AttributeType;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Persistent cache of the attributes computed by {@link JarAnalyzer}, so that archives which did
+ * not change since the previous run of the application don't have to be read and hashed again.
+ * Entries are keyed by the absolute path of the archive and are only reused when both its size and
+ * last modification time are unchanged. Entries of archives that no longer exist are dropped when
+ * the cache is written.
+ */
+final class JarAnalysisCache {
+
+  private static final Logger logger = Logger.getLogger(JarAnalysisCache.class.getName());
+
+  private static final String SIZE = "size";
+  private static final String LAST_MODIFIED = "last-modified";
+  private static final String ATTRIBUTE_PREFIX = "attribute.";
+  static final long SAVE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  @Nullable private final Path cacheFile;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private volatile boolean dirty;
+  // guarded by this
+  private long lastSaveNanos;
+  private boolean saved;
+
+  /** Returns a cache that is never persisted. */
+  static JarAnalysisCache inMemory() {
+    return new JarAnalysisCache(null);
+  }
+
+  /** Returns a cache backed by {@code cacheFile}, loading the entries stored by a previous run. */
+  static JarAnalysisCache load(Path cacheFile) {
+    JarAnalysisCache cache = new JarAnalysisCache(cacheFile);
+    Properties properties = new Properties();
+    try (Reader reader = Files.newBufferedReader(cacheFile, UTF_8)) {
+      properties.load(reader);
+    } catch (NoSuchFileException e) {
+      return cache;
+    } catch (IOException | IllegalArgumentException e) {
+      logger.log(Level.WARNING, "Unable to read package cache file: " + cacheFile, e);
+      return cache;
+    }
+    // keys are "<path>#<property>", paths may contain '#' but property names never do
+    Map<String, Map<String, String>> propertiesByPath = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      int separator = key.lastIndexOf('#');
+      if (separator > 0) {
+        propertiesByPath
+            .computeIfAbsent(key.substring(0, separator), unused -> new HashMap<>())
+            .put(key.substring(separator + 1), properties.getProperty(key));
+      }
+    }
+    propertiesByPath.forEach(
+        (path, entryProperties) -> {
+          Entry entry = Entry.read(entryProperties);
+          if (entry != null) {
+            cache.entries.put(path, entry);
+          }
+        });
+    return cache;
+  }
+
+  private JarAnalysisCache(@Nullable Path cacheFile) {
+    this.cacheFile = cacheFile;
+  }
+
+  /**
+   * Returns the attributes stored for {@code archive}, or {@code null} if there are none or the
+   * archive changed since they were computed.
+   */
+  @Nullable
+  Attributes get(Path archive, BasicFileAttributes fileAttributes) {
+    Entry entry = entries.get(archive.toAbsolutePath().toString());
+    if (entry == null
+        || entry.size != fileAttributes.size()
+        || entry.lastModified != fileAttributes.lastModifiedTime().toMillis()) {
+      return null;
+    }
+    return entry.attributes;
+  }
+
+  void put(Path archive, BasicFileAttributes fileAttributes, Attributes attributes) {
+    entries.put(
+        archive.toAbsolutePath().toString(),
+        new Entry(fileAttributes.size(), fileAttributes.lastModifiedTime().toMillis(), attributes));
+    dirty = true;
+  }
+
+  /**
+   * Writes the cache like {@link #save()}, unless it was already written less than {@link
+   * #SAVE_INTERVAL_MILLIS} ago.
+   */
+  void saveIfDue() {
+    if (!dirty) {
+      return;
+    }
+    synchronized (this) {
+      if (saved
+          && System.nanoTime() - lastSaveNanos
+              < TimeUnit.MILLISECONDS.toNanos(SAVE_INTERVAL_MILLIS)) {
+        return;
+      }
+      save();
+    }
+  }
+
+  /** Writes the cache to its backing file if it was modified since it was last written. */
+  synchronized void save() {
+    if (cacheFile == null || !dirty) {
+      return;
+    }
+    dirty = false;
+    saved = true;
+    lastSaveNanos = System.nanoTime();
+
+    entries.keySet().removeIf(path -> !Files.exists(Paths.get(path)));
+    Properties properties = new Properties();
+    entries.forEach((path, entry) -> entry.write(path, properties));
+    try {
+      Path parent = cacheFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      // write to a temporary file first, so that concurrently starting applications sharing the
+      // cache file never observe a partially written file
+      Path tempFile = Files.createTempFile(parent, cacheFile.getFileName().toString(), ".tmp");
+      try {
+        try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+          properties.store(writer, "OpenTelemetry package emitter cache");
+        }
+        Files.move(
+            tempFile,
+            cacheFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.log(Level.WARNING, "Unable to write package cache file: " + cacheFile, e);
+    }
+  }
+
+  private static final class Entry {
+
+    private final long size;
+    private final long lastModified;
+    private final Attributes attributes;
+
+    private Entry(long size, long lastModified, Attributes attributes) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.attributes = attributes;
+    }
+
+    @Nullable
+    private static Entry read(Map<String, String> properties) {
+      try {
+        long size = Long.parseLong(properties.get(SIZE));
+        long lastModified = Long.parseLong(properties.get(LAST_MODIFIED));
+        AttributesBuilder builder = Attributes.builder();
+        properties.forEach(
+            (key, value) -> {
+              if (key.startsWith(ATTRIBUTE_PREFIX)) {
+                builder.put(key.substring(ATTRIBUTE_PREFIX.length()), value);
+              }
+            });
+        return new Entry(size, lastModified, builder.build());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    private void write(String path, Properties properties) {
+      properties.setProperty(path + '#' + SIZE, Long.toString(size));
+      properties.setProperty(path + '#' + LAST_MODIFIED, Long.toString(lastModified));
+      attributes.forEach(
+          (key, value) -> {
+            if (key.getType() == AttributeType.STRING) {
+              properties.setProperty(path + '#' + ATTRIBUTE_PREFIX + key.getKey(), (String) value);
+            }
+          });
+    }
+  }
+}
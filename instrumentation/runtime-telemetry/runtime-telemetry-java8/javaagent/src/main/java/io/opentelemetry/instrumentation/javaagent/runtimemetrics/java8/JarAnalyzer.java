@@ -24,15 +24,24 @@ import java.lang.instrument.ClassFileTransformer;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * {@link JarAnalyzer} is a {@link ClassFileTransformer} which processes the {@link
@@ -54,26 +63,39 @@ final class JarAnalyzer implements ClassFileTransformer {
       AttributeKey.stringKey("package.checksum_algorithm");
   static final AttributeKey<String> PACKAGE_PATH = AttributeKey.stringKey("package.path");
 
-  private final Set<URI> seenUris = new HashSet<>();
-  private final BlockingQueue<URL> toProcess = new LinkedBlockingDeque<>();
+  private final Set<URI> seenUris = ConcurrentHashMap.newKeySet();
+  private final BlockingQueue<Attributes> toEmit = new LinkedBlockingDeque<>();
+  private final ExecutorService analyzerExecutor;
+  private final JarAnalysisCache cache;
+  private final AtomicInteger pendingAnalyses = new AtomicInteger();
 
-  private JarAnalyzer(OpenTelemetry unused, int jarsPerSecond) {
+  private JarAnalyzer(
+      OpenTelemetry unused, int jarsPerSecond, int analyzerThreads, JarAnalysisCache cache) {
     // TODO(jack-berg): Use OpenTelemetry to obtain EventLogger when event API is stable
     EventLogger eventLogger =
         GlobalEventLoggerProvider.get()
             .eventLoggerBuilder(JmxRuntimeMetricsUtil.getInstrumentationName())
             .setInstrumentationVersion(JmxRuntimeMetricsUtil.getInstrumentationVersion())
             .build();
-    Worker worker = new Worker(eventLogger, toProcess, jarsPerSecond);
+    this.cache = cache;
+    this.analyzerExecutor =
+        Executors.newFixedThreadPool(
+            analyzerThreads,
+            new DaemonThreadFactory(JarAnalyzer.class.getSimpleName() + "_AnalyzerThread"));
+    Worker worker = new Worker(eventLogger, toEmit, jarsPerSecond, this::saveCacheIfIdle);
     Thread workerThread =
         new DaemonThreadFactory(JarAnalyzer.class.getSimpleName() + "_WorkerThread")
             .newThread(worker);
     workerThread.start();
   }
 
-  /** Create {@link JarAnalyzer} and start the worker thread. */
-  public static JarAnalyzer create(OpenTelemetry unused, int jarsPerSecond) {
-    return new JarAnalyzer(unused, jarsPerSecond);
+  /**
+   * Create {@link JarAnalyzer} and start the worker thread. Archives are analyzed on {@code
+   * analyzerThreads} threads, while the emitted events are limited to {@code jarsPerSecond}.
+   */
+  public static JarAnalyzer create(
+      OpenTelemetry unused, int jarsPerSecond, int analyzerThreads, JarAnalysisCache cache) {
+    return new JarAnalyzer(unused, jarsPerSecond, analyzerThreads, cache);
   }
 
   /**
@@ -147,49 +169,93 @@ final class JarAnalyzer implements ClassFileTransformer {
     }
 
     // Only code locations with .jar and .war extension should make it here
-    toProcess.add(archiveUrl);
+    URL url = archiveUrl;
+    pendingAnalyses.incrementAndGet();
+    try {
+      analyzerExecutor.execute(() -> analyze(url));
+    } catch (RejectedExecutionException e) {
+      pendingAnalyses.decrementAndGet();
+      logger.log(Level.WARNING, "Unable to schedule processing of archive URL: " + url, e);
+    }
+  }
+
+  private void analyze(URL archiveUrl) {
+    try {
+      // TODO(jack-berg): add ability to optionally re-process urls periodically to re-emit
+      // events
+      Attributes attributes = analyzeUrl(archiveUrl, cache);
+      if (attributes != null) {
+        toEmit.add(attributes);
+      }
+    } catch (Throwable e) {
+      logger.log(Level.WARNING, "Unexpected error processing archive URL: " + archiveUrl, e);
+    } finally {
+      pendingAnalyses.decrementAndGet();
+    }
+  }
+
+  /**
+   * Persists the cache once all archives discovered so far have been analyzed. Archives are usually
+   * discovered in bursts, during application startup and then every now and then when new archives
+   * are loaded, so the cache is written at most every {@link
+   * JarAnalysisCache#SAVE_INTERVAL_MILLIS}.
+   */
+  private void saveCacheIfIdle() {
+    if (pendingAnalyses.get() == 0) {
+      cache.saveIfDue();
+    }
   }
 
   private static final class Worker implements Runnable {
 
     private final EventLogger eventLogger;
-    private final BlockingQueue<URL> toProcess;
+    private final BlockingQueue<Attributes> toEmit;
     private final io.opentelemetry.sdk.internal.RateLimiter rateLimiter;
+    private final Runnable onIdle;
 
-    private Worker(EventLogger eventLogger, BlockingQueue<URL> toProcess, int jarsPerSecond) {
+    private Worker(
+        EventLogger eventLogger,
+        BlockingQueue<Attributes> toEmit,
+        int jarsPerSecond,
+        Runnable onIdle) {
       this.eventLogger = eventLogger;
-      this.toProcess = toProcess;
+      this.toEmit = toEmit;
+      this.onIdle = onIdle;
       this.rateLimiter =
           new io.opentelemetry.sdk.internal.RateLimiter(
               jarsPerSecond, jarsPerSecond, Clock.getDefault());
     }
 
     /**
-     * Continuously poll the {@link #toProcess} for archive {@link URL}s, and process each wit
-     * {@link #processUrl(EventLogger, URL)}.
+     * Continuously poll the {@link #toEmit} for analyzed archives, and emit an event for each of
+     * them, at most {@code jarsPerSecond} per second. Runs {@link #onIdle} whenever there is
+     * nothing to emit.
      */
     @Override
     public void run() {
       while (!Thread.currentThread().isInterrupted()) {
-        URL archiveUrl = null;
+        Attributes attributes = null;
         try {
           if (!rateLimiter.trySpend(1.0)) {
             Thread.sleep(100);
             continue;
           }
-          archiveUrl = toProcess.poll(100, TimeUnit.MILLISECONDS);
+          attributes = toEmit.poll(100, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
           Thread.currentThread().interrupt();
         }
-        if (archiveUrl == null) {
+        if (attributes == null) {
+          try {
+            onIdle.run();
+          } catch (Throwable e) {
+            logger.log(Level.WARNING, "Unexpected error persisting package cache", e);
+          }
           continue;
         }
         try {
-          // TODO(jack-berg): add ability to optionally re-process urls periodically to re-emit
-          // events
-          processUrl(eventLogger, archiveUrl);
+          emit(eventLogger, attributes);
         } catch (Throwable e) {
-          logger.log(Level.WARNING, "Unexpected error processing archive URL: " + archiveUrl, e);
+          logger.log(Level.WARNING, "Unexpected error emitting package event", e);
         }
       }
       logger.warning("JarAnalyzer stopped");
@@ -201,12 +267,46 @@ final class JarAnalyzer implements ClassFileTransformer {
    * content.
    */
   static void processUrl(EventLogger eventLogger, URL archiveUrl) {
+    Attributes attributes = analyzeUrl(archiveUrl, JarAnalysisCache.inMemory());
+    if (attributes != null) {
+      emit(eventLogger, attributes);
+    }
+  }
+
+  private static void emit(EventLogger eventLogger, Attributes attributes) {
+    eventLogger.builder(EVENT_NAME_INFO).setAttributes(attributes).emit();
+  }
+
+  /**
+   * Extract the metadata of the {@code archiveUrl}, reusing the result stored in the {@code cache}
+   * when the archive is a file which didn't change since it was analyzed. Returns {@code null} if
+   * the archive can't be read.
+   */
+  @Nullable
+  static Attributes analyzeUrl(URL archiveUrl, JarAnalysisCache cache) {
+    Path archivePath = null;
+    BasicFileAttributes fileAttributes = null;
+    if ("file".equals(archiveUrl.getProtocol())) {
+      try {
+        // unlike getFile(), toURI() decodes escaped characters such as spaces
+        archivePath = Paths.get(archiveUrl.toURI());
+        fileAttributes = Files.readAttributes(archivePath, BasicFileAttributes.class);
+        Attributes cached = cache.get(archivePath, fileAttributes);
+        if (cached != null) {
+          return cached;
+        }
+      } catch (IOException | URISyntaxException | RuntimeException e) {
+        archivePath = null;
+        fileAttributes = null;
+      }
+    }
+
     JarDetails jarDetails;
     try {
       jarDetails = JarDetails.forUrl(archiveUrl);
     } catch (IOException e) {
       logger.log(Level.WARNING, "Error reading package for archive URL: " + archiveUrl, e);
-      return;
+      return null;
     }
     AttributesBuilder builder = Attributes.builder();
 
@@ -239,6 +339,10 @@ final class JarAnalyzer implements ClassFileTransformer {
     builder.put(PACKAGE_CHECKSUM, packageChecksum);
     builder.put(PACKAGE_CHECKSUM_ALGORITHM, "SHA1");
 
-    eventLogger.builder(EVENT_NAME_INFO).setAttributes(builder.build()).emit();
+    Attributes attributes = builder.build();
+    if (archivePath != null && fileAttributes != null) {
+      cache.put(archivePath, fileAttributes, attributes);
+    }
+    return attributes;
   }
 }
@@ -12,6 +12,7 @@ import io.opentelemetry.javaagent.tooling.BeforeAgentListener;
 import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.lang.instrument.Instrumentation;
+import java.nio.file.Paths;
 
 /** Installs the {@link JarAnalyzer}. */
 @AutoService(BeforeAgentListener.class)
@@ -32,8 +33,22 @@ public class JarAnalyzerInstaller implements BeforeAgentListener {
     }
     int jarsPerSecond =
         config.getInt("otel.instrumentation.runtime-telemetry.package-emitter.jars-per-second", 10);
+    int analyzerThreads =
+        config.getInt(
+            "otel.instrumentation.runtime-telemetry.package-emitter.threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    String cacheFile =
+        config.getString("otel.instrumentation.runtime-telemetry.package-emitter.cache-file");
+    JarAnalysisCache cache =
+        cacheFile == null || cacheFile.isEmpty()
+            ? JarAnalysisCache.inMemory()
+            : JarAnalysisCache.load(Paths.get(cacheFile));
     JarAnalyzer jarAnalyzer =
-        JarAnalyzer.create(autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk(), jarsPerSecond);
+        JarAnalyzer.create(
+            autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk(),
+            jarsPerSecond,
+            analyzerThreads,
+            cache);
     inst.addTransformer(jarAnalyzer);
   }
 }
@@ -13,6 +13,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
@@ -83,7 +84,16 @@ class JarDetails {
         }
       }
     }
-    return new JarDetails(url, new JarFile(url.getFile()));
+    return new JarDetails(url, new JarFile(toFile(url)));
+  }
+
+  private static File toFile(URL url) {
+    try {
+      // unlike getFile(), toURI() decodes escaped characters such as spaces
+      return new File(url.toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return new File(url.getFile());
+    }
   }
 
   /**
@@ -177,6 +187,7 @@ class JarDetails {
   }
 
   private String computeDigest(MessageDigest md) throws IOException {
+    md.reset();
     try (InputStream inputStream = getInputStream()) {
       DigestInputStream dis = new DigestInputStream(inputStream, md);
       byte[] buffer = new byte[8192];
@@ -0,0 +1,140 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.javaagent.runtimemetrics.java8;
+
+import static io.opentelemetry.instrumentation.javaagent.runtimemetrics.java8.JarAnalyzer.PACKAGE_CHECKSUM;
+import static io.opentelemetry.instrumentation.javaagent.runtimemetrics.java8.JarAnalyzer.PACKAGE_NAME;
+import static io.opentelemetry.instrumentation.javaagent.runtimemetrics.java8.JarAnalyzer.PACKAGE_PATH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import io.opentelemetry.api.common.Attributes;
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JarAnalysisCacheTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void reusesEntriesAcrossRestarts() throws Exception {
+    Path archive = Files.write(tempDir.resolve("library#1.jar"), new byte[] {1, 2, 3});
+    Path cacheFile = tempDir.resolve("cache").resolve("packages.properties");
+    Attributes attributes =
+        Attributes.of(PACKAGE_PATH, "library#1.jar", PACKAGE_NAME, "com.example:library");
+
+    JarAnalysisCache cache = JarAnalysisCache.load(cacheFile);
+    cache.put(archive, fileAttributes(archive), attributes);
+    cache.save();
+
+    JarAnalysisCache restored = JarAnalysisCache.load(cacheFile);
+    assertThat(restored.get(archive, fileAttributes(archive))).isEqualTo(attributes);
+  }
+
+  @Test
+  void ignoresModifiedArchives() throws Exception {
+    Path archive = Files.write(tempDir.resolve("library.jar"), new byte[] {1, 2, 3});
+    JarAnalysisCache cache = JarAnalysisCache.inMemory();
+    cache.put(archive, fileAttributes(archive), Attributes.of(PACKAGE_PATH, "library.jar"));
+
+    Files.setLastModifiedTime(
+        archive, FileTime.fromMillis(Files.getLastModifiedTime(archive).toMillis() + 10_000));
+    assertThat(cache.get(archive, fileAttributes(archive))).isNull();
+
+    Files.write(archive, new byte[] {1, 2, 3, 4});
+    assertThat(cache.get(archive, fileAttributes(archive))).isNull();
+  }
+
+  @Test
+  void ignoresUnreadableCacheFile() throws Exception {
+    Path cacheFile = Files.write(tempDir.resolve("packages.properties"), new byte[] {'\\', 'u'});
+    Path archive = Files.write(tempDir.resolve("library.jar"), new byte[] {1, 2, 3});
+
+    JarAnalysisCache cache = JarAnalysisCache.load(cacheFile);
+    assertThat(cache.get(archive, fileAttributes(archive))).isNull();
+  }
+
+  @Test
+  void analyzeUrlUsesCache() throws Exception {
+    URL archiveUrl = ImmutableMap.class.getProtectionDomain().getCodeSource().getLocation();
+    Path archive = new File(archiveUrl.getFile()).toPath();
+    JarAnalysisCache cache = JarAnalysisCache.inMemory();
+
+    Attributes attributes = JarAnalyzer.analyzeUrl(archiveUrl, cache);
+    assertThat(attributes).isNotNull();
+    assertThat(attributes.get(PACKAGE_CHECKSUM)).isNotEmpty();
+    assertThat(cache.get(archive, fileAttributes(archive))).isEqualTo(attributes);
+    assertThat(JarAnalyzer.analyzeUrl(archiveUrl, cache)).isSameAs(attributes);
+  }
+
+  @Test
+  void analyzeUrlDecodesPath() throws Exception {
+    Path archive = tempDir.resolve("my library.jar");
+    try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(archive))) {
+      jar.putNextEntry(new JarEntry("META-INF/"));
+    }
+    URL archiveUrl = archive.toUri().toURL();
+    assertThat(archiveUrl.getFile()).contains("my%20library.jar");
+    JarAnalysisCache cache = JarAnalysisCache.inMemory();
+
+    Attributes attributes = JarAnalyzer.analyzeUrl(archiveUrl, cache);
+    assertThat(attributes).isNotNull();
+    assertThat(cache.get(archive, fileAttributes(archive))).isEqualTo(attributes);
+  }
+
+  @Test
+  void dropsDeletedArchives() throws Exception {
+    Path archive = Files.write(tempDir.resolve("library.jar"), new byte[] {1, 2, 3});
+    Path deleted = Files.write(tempDir.resolve("deleted.jar"), new byte[] {1, 2, 3});
+    Path cacheFile = tempDir.resolve("packages.properties");
+    JarAnalysisCache cache = JarAnalysisCache.load(cacheFile);
+    cache.put(archive, fileAttributes(archive), Attributes.of(PACKAGE_PATH, "library.jar"));
+    BasicFileAttributes deletedAttributes = fileAttributes(deleted);
+    cache.put(deleted, deletedAttributes, Attributes.of(PACKAGE_PATH, "deleted.jar"));
+
+    Files.delete(deleted);
+    cache.save();
+
+    assertThat(new String(Files.readAllBytes(cacheFile), UTF_8))
+        .contains("library.jar")
+        .doesNotContain("deleted.jar");
+    JarAnalysisCache restored = JarAnalysisCache.load(cacheFile);
+    assertThat(restored.get(archive, fileAttributes(archive))).isNotNull();
+    assertThat(restored.get(deleted, deletedAttributes)).isNull();
+  }
+
+  @Test
+  void limitsSaveFrequency() throws Exception {
+    Path archive = Files.write(tempDir.resolve("library.jar"), new byte[] {1, 2, 3});
+    Path other = Files.write(tempDir.resolve("other.jar"), new byte[] {1, 2, 3});
+    Path cacheFile = tempDir.resolve("packages.properties");
+    JarAnalysisCache cache = JarAnalysisCache.load(cacheFile);
+
+    cache.put(archive, fileAttributes(archive), Attributes.of(PACKAGE_PATH, "library.jar"));
+    cache.saveIfDue();
+    assertThat(cacheFile).exists();
+
+    cache.put(other, fileAttributes(other), Attributes.of(PACKAGE_PATH, "other.jar"));
+    cache.saveIfDue();
+    assertThat(new String(Files.readAllBytes(cacheFile), UTF_8)).doesNotContain("other.jar");
+
+    cache.save();
+    assertThat(new String(Files.readAllBytes(cacheFile), UTF_8)).contains("other.jar");
+  }
+
+  private static BasicFileAttributes fileAttributes(Path path) throws Exception {
+    return Files.readAttributes(path, BasicFileAttributes.class);
+  }
+}
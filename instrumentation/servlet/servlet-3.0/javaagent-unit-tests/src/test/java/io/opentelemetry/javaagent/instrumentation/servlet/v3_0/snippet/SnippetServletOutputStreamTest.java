@@ -144,6 +144,51 @@ class SnippetServletOutputStreamTest {
     assertThat(out.getBytes()).isEqualTo(expectedHtml);
   }
 
+  @Test
+  void testInjectionWithOffset() throws IOException {
+    String snippet = "\n  <script type=\"text/javascript\"> Test </script>";
+    String extraBuffer = "<head>this buffer should not be written</head>";
+    byte[] html = readFileAsBytes("beforeSnippetInjection.html");
+    byte[] buffer = new byte[extraBuffer.length() + html.length + extraBuffer.length()];
+    System.arraycopy(extraBuffer.getBytes(UTF_8), 0, buffer, 0, extraBuffer.length());
+    System.arraycopy(html, 0, buffer, extraBuffer.length(), html.length);
+    System.arraycopy(
+        extraBuffer.getBytes(UTF_8),
+        0,
+        buffer,
+        extraBuffer.length() + html.length,
+        extraBuffer.length());
+
+    InjectionState obj = createInjectionStateForTesting(snippet, UTF_8);
+    InMemoryServletOutputStream out = new InMemoryServletOutputStream();
+
+    OutputStreamSnippetInjectionHelper helper =
+        new OutputStreamSnippetInjectionHelper(() -> snippet);
+    boolean injected = helper.handleWrite(obj, out, buffer, extraBuffer.length(), html.length);
+
+    assertThat(injected).isTrue();
+    byte[] expectedHtml = readFileAsBytes("afterSnippetInjection.html");
+    assertThat(out.getBytes()).isEqualTo(expectedHtml);
+  }
+
+  @Test
+  void testNoScanningAfterBodyTag() throws IOException {
+    String snippet = "\n  <script type=\"text/javascript\"> Test </script>";
+    byte[] firstPart = "<!DOCTYPE html>\n<html>\n<body>\n".getBytes(UTF_8);
+    byte[] secondPart = "<pre>&lt;head&gt;</pre><head></head>\n</body>\n</html>".getBytes(UTF_8);
+
+    InjectionState obj = createInjectionStateForTesting(snippet, UTF_8);
+    InMemoryServletOutputStream out = new InMemoryServletOutputStream();
+
+    OutputStreamSnippetInjectionHelper helper =
+        new OutputStreamSnippetInjectionHelper(() -> snippet);
+    assertThat(helper.handleWrite(obj, out, firstPart, 0, firstPart.length)).isFalse();
+    assertThat(obj.isInjectionDone()).isTrue();
+    assertThat(helper.handleWrite(obj, out, secondPart, 0, secondPart.length)).isFalse();
+    assertThat(obj.isHeadTagWritten()).isFalse();
+    assertThat(out.getBytes()).isEmpty();
+  }
+
   private static InjectionState createInjectionStateForTesting(String snippet, Charset charset) {
     HttpServletResponse response = mock(HttpServletResponse.class);
     when(response.isCommitted()).thenReturn(false);
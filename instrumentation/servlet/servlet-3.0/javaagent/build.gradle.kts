@@ -1,5 +1,6 @@
 plugins {
   id("otel.javaagent-instrumentation")
+  id("otel.jmh-conventions")
 }
 muzzle {
   pass {
@@ -21,4 +22,9 @@ dependencies {
   bootstrap(project(":instrumentation:servlet:servlet-common:bootstrap"))
 
   compileOnly("javax.servlet:javax.servlet-api:3.0.1")
+
+  // bootstrap classes are provided by the agent at runtime
+  jmhImplementation(project(":javaagent-bootstrap"))
+  jmhImplementation(project(":instrumentation:servlet:servlet-common:bootstrap"))
+  jmhImplementation("org.apache.tomcat.embed:tomcat-embed-core:8.0.41")
 }
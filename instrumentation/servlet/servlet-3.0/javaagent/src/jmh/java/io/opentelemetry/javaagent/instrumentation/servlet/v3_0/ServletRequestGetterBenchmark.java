@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet.v3_0;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.javaagent.instrumentation.servlet.ServletRequestContext;
+import io.opentelemetry.javaagent.instrumentation.servlet.ServletRequestGetter;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import org.apache.catalina.connector.Request;
+import org.apache.tomcat.util.http.MimeHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures extracting the W3C trace context and baggage from a Tomcat request, and iterating over
+ * the request header names like propagators looking for prefixed headers do.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ServletRequestGetterBenchmark {
+
+  private static final ServletRequestGetter<HttpServletRequest> GETTER =
+      new ServletRequestGetter<>(Servlet3Accessor.INSTANCE);
+
+  private static final Instrumenter<ServletRequestContext<HttpServletRequest>, Void> INSTRUMENTER =
+      Instrumenter.<ServletRequestContext<HttpServletRequest>, Void>builder(
+              OpenTelemetry.propagating(
+                  ContextPropagators.create(
+                      TextMapPropagator.composite(
+                          W3CTraceContextPropagator.getInstance(),
+                          W3CBaggagePropagator.getInstance()))),
+              "benchmark",
+              unused -> "GET")
+          .buildServerInstrumenter(GETTER);
+
+  @Param({"5", "20"})
+  int headerCount;
+
+  @Param({"true", "false"})
+  boolean traced;
+
+  ServletRequestContext<HttpServletRequest> request;
+
+  @Setup
+  public void setUp() {
+    org.apache.coyote.Request coyoteRequest = new org.apache.coyote.Request();
+    MimeHeaders headers = coyoteRequest.getMimeHeaders();
+    headers.addValue("Host").setString("localhost:8080");
+    for (int i = 1; i < headerCount; i++) {
+      headers.addValue("X-Header-" + i).setString("value-" + i);
+    }
+    if (traced) {
+      headers
+          .addValue("traceparent")
+          .setString("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+      headers.addValue("tracestate").setString("congo=t61rcWkgMzE");
+      headers.addValue("baggage").setString("userId=alice");
+    }
+    Request servletRequest = new Request();
+    servletRequest.setCoyoteRequest(coyoteRequest);
+    request = new ServletRequestContext<>(servletRequest);
+  }
+
+  @Benchmark
+  public Context extract() {
+    return INSTRUMENTER.start(Context.root(), request);
+  }
+
+  @Benchmark
+  public void keys(Blackhole blackhole) {
+    for (String key : GETTER.keys(request)) {
+      blackhole.consume(key);
+    }
+  }
+
+  /** Iterates over the header names the way the getter did before they were iterated lazily. */
+  @Benchmark
+  public void keysCopied(Blackhole blackhole) {
+    for (String key : Collections.list(request.request().getHeaderNames())) {
+      blackhole.consume(key);
+    }
+  }
+}
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.servlet.v5_0;
 
 import io.opentelemetry.javaagent.bootstrap.http.HttpServerResponseMutator;
+import io.opentelemetry.javaagent.instrumentation.servlet.LazyEnumerationIterable;
 import io.opentelemetry.javaagent.instrumentation.servlet.ServletAccessor;
 import io.opentelemetry.javaagent.instrumentation.servlet.ServletAsyncListener;
 import jakarta.servlet.AsyncEvent;
@@ -101,7 +102,7 @@ public class Servlet5Accessor
 
   @Override
   public Iterable<String> getRequestHeaderNames(HttpServletRequest httpServletRequest) {
-    return Collections.list(httpServletRequest.getHeaderNames());
+    return new LazyEnumerationIterable<>(httpServletRequest::getHeaderNames);
   }
 
   @Override
@@ -9,11 +9,16 @@ package io.opentelemetry.javaagent.bootstrap.servlet;
 public class InjectionState {
   private static final int HEAD_TAG_WRITTEN_FAKE_VALUE = -1;
   private static final int HEAD_TAG_PREFIX_LENGTH = "<head".length();
+  private static final int BODY_TAG_PREFIX_LENGTH = "<body".length();
   private final SnippetInjectingResponseWrapper wrapper;
   private int headTagBytesSeen = 0;
+  private int bodyTagBytesSeen = 0;
+  // the head tag can't come after the body tag, so there's no need to scan any further
+  private boolean injectionImpossible = false;
 
   public InjectionState(SnippetInjectingResponseWrapper wrapper) {
     this.wrapper = wrapper;
+    SnippetInjectionMetrics.registerIfNeeded();
   }
 
   public int getHeadTagBytesSeen() {
@@ -32,14 +37,107 @@ public class InjectionState {
     return headTagBytesSeen == HEAD_TAG_WRITTEN_FAKE_VALUE;
   }
 
+  /**
+   * Returns true when the rest of the response doesn't have to be scanned, because the head tag was
+   * already found or can't be found anymore.
+   */
+  public boolean isInjectionDone() {
+    return headTagBytesSeen == HEAD_TAG_WRITTEN_FAKE_VALUE || injectionImpossible;
+  }
+
   /**
    * Returns true when the byte is the last character of "<head>" and now is the right time to
    * inject. Otherwise, returns false.
    */
   public boolean processByte(int b) {
-    if (isHeadTagWritten()) {
+    if (isInjectionDone()) {
+      return false;
+    }
+    SnippetInjectionMetrics.recordScannedBytes(1);
+    return match(b);
+  }
+
+  /**
+   * Returns true when the character is the last character of "<head>" and now is the right time to
+   * inject. Otherwise, returns false.
+   */
+  public boolean processChar(int c) {
+    if (isInjectionDone()) {
       return false;
     }
+    SnippetInjectionMetrics.recordScannedChars(1);
+    return match(c);
+  }
+
+  /**
+   * Returns the index of the last character of "<head>" in the passed range of bytes, or -1 when it
+   * isn't in there. The state of the match is carried over to the next call, so that the tag may be
+   * split across writes.
+   */
+  public int findInjectionPoint(byte[] bytes, int off, int len) {
+    if (isInjectionDone()) {
+      return -1;
+    }
+    int end = off + len;
+    int index = off;
+    while (index < end) {
+      if (headTagBytesSeen == 0 && bodyTagBytesSeen == 0) {
+        // no tag is being matched, skip to the start of the next one
+        while (index < end && bytes[index] != '<') {
+          index++;
+        }
+        if (index == end) {
+          break;
+        }
+      }
+      if (match(bytes[index])) {
+        SnippetInjectionMetrics.recordScannedBytes(index - off + 1);
+        return index;
+      }
+      index++;
+      if (injectionImpossible) {
+        break;
+      }
+    }
+    SnippetInjectionMetrics.recordScannedBytes(index - off);
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last character of "<head>" in the passed range of characters, or -1
+   * when it isn't in there. The state of the match is carried over to the next call, so that the
+   * tag may be split across writes.
+   */
+  public int findInjectionPoint(CharSequence chars, int off, int len) {
+    if (isInjectionDone()) {
+      return -1;
+    }
+    int end = off + len;
+    int index = off;
+    while (index < end) {
+      if (headTagBytesSeen == 0 && bodyTagBytesSeen == 0) {
+        // no tag is being matched, skip to the start of the next one
+        while (index < end && chars.charAt(index) != '<') {
+          index++;
+        }
+        if (index == end) {
+          break;
+        }
+      }
+      if (match(chars.charAt(index))) {
+        SnippetInjectionMetrics.recordScannedChars(index - off + 1);
+        return index;
+      }
+      index++;
+      if (injectionImpossible) {
+        break;
+      }
+    }
+    SnippetInjectionMetrics.recordScannedChars(index - off);
+    return -1;
+  }
+
+  private boolean match(int b) {
     if (inHeadTag(b)) {
       headTagBytesSeen++;
     } else {
@@ -48,9 +146,17 @@ public class InjectionState {
     if (headTagBytesSeen > HEAD_TAG_PREFIX_LENGTH && b == '>') {
       setHeadTagWritten();
       return true;
+    }
+    // the attributes of the head tag may contain anything
+    if (headTagBytesSeen <= HEAD_TAG_PREFIX_LENGTH && inBodyTag(b)) {
+      bodyTagBytesSeen++;
+      if (bodyTagBytesSeen > BODY_TAG_PREFIX_LENGTH) {
+        injectionImpossible = true;
+      }
     } else {
-      return false;
+      bodyTagBytesSeen = 0;
     }
+    return false;
   }
 
   private boolean inHeadTag(int b) {
@@ -71,6 +177,22 @@ public class InjectionState {
     }
   }
 
+  private boolean inBodyTag(int b) {
+    if (bodyTagBytesSeen == 0) {
+      return b == '<';
+    } else if (bodyTagBytesSeen == 1) {
+      return b == 'b';
+    } else if (bodyTagBytesSeen == 2) {
+      return b == 'o';
+    } else if (bodyTagBytesSeen == 3) {
+      return b == 'd';
+    } else if (bodyTagBytesSeen == 4) {
+      return b == 'y';
+    } else {
+      return b == '>' || Character.isWhitespace(b);
+    }
+  }
+
   public SnippetInjectingResponseWrapper getWrapper() {
     return wrapper;
   }
@@ -0,0 +1,56 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.servlet;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the response bytes and characters that were scanned for the injection point of the
+ * snippet. Responses written with a ServletOutputStream are scanned as bytes, and responses written
+ * with a PrintWriter as characters, which are counted separately since they're encoded later. The
+ * counters are shared by all servlet instrumentations, and are registered when the first response
+ * is wrapped for snippet injection.
+ */
+public final class SnippetInjectionMetrics {
+
+  private static final AtomicBoolean registered = new AtomicBoolean();
+  private static final LongAdder scannedBytes = new LongAdder();
+  private static final LongAdder scannedChars = new LongAdder();
+
+  static void registerIfNeeded() {
+    if (registered.get() || !registered.compareAndSet(false, true)) {
+      return;
+    }
+    Meter meter = GlobalOpenTelemetry.getMeter("io.opentelemetry.servlet-common");
+    meter
+        .counterBuilder("servlet.snippet_injection.scanned_bytes")
+        .setUnit("By")
+        .setDescription(
+            "Number of response bytes written with a ServletOutputStream that were scanned for the"
+                + " injection point of the snippet")
+        .buildWithCallback(measurement -> measurement.record(scannedBytes.sum()));
+    meter
+        .counterBuilder("servlet.snippet_injection.scanned_chars")
+        .setUnit("{char}")
+        .setDescription(
+            "Number of response characters written with a PrintWriter that were scanned for the"
+                + " injection point of the snippet")
+        .buildWithCallback(measurement -> measurement.record(scannedChars.sum()));
+  }
+
+  static void recordScannedBytes(long count) {
+    scannedBytes.add(count);
+  }
+
+  static void recordScannedChars(long count) {
+    scannedChars.add(count);
+  }
+
+  private SnippetInjectionMetrics() {}
+}
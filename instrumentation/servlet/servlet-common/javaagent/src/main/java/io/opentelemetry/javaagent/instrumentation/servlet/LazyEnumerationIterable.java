@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link Iterable} that obtains a new {@link Enumeration} for every iteration and iterates it
+ * directly, instead of copying it into a list up front like {@link Collections#list(Enumeration)}.
+ * Propagators only iterate over the header names when they look for prefixed headers, usually once
+ * per request, so the copy is wasted.
+ */
+public final class LazyEnumerationIterable<T> implements Iterable<T> {
+
+  private final Supplier<Enumeration<T>> enumerationSupplier;
+
+  public LazyEnumerationIterable(Supplier<Enumeration<T>> enumerationSupplier) {
+    this.enumerationSupplier = enumerationSupplier;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    Enumeration<T> enumeration = enumerationSupplier.get();
+    // servlet containers are allowed to return null when they don't expose the headers
+    if (enumeration == null) {
+      return Collections.emptyIterator();
+    }
+    return new EnumerationIterator<>(enumeration);
+  }
+
+  private static final class EnumerationIterator<T> implements Iterator<T> {
+
+    private final Enumeration<T> enumeration;
+
+    private EnumerationIterator(Enumeration<T> enumeration) {
+      this.enumeration = enumeration;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return enumeration.hasMoreElements();
+    }
+
+    @Override
+    @Nullable
+    public T next() {
+      if (!enumeration.hasMoreElements()) {
+        throw new NoSuchElementException();
+      }
+      return enumeration.nextElement();
+    }
+  }
+}
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet.snippet;
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
 import io.opentelemetry.javaagent.bootstrap.servlet.SnippetInjectingResponseWrapper;
 import java.io.PrintWriter;
+import java.nio.CharBuffer;
 
 public class SnippetInjectingPrintWriter extends PrintWriter {
   private final String snippet;
@@ -22,41 +23,46 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
 
   @Override
   public void write(String s, int off, int len) {
-    if (state.isHeadTagWritten()) {
+    int endOfHeadTagPosition = state.findInjectionPoint(s, off, len);
+    if (endOfHeadTagPosition == -1) {
       super.write(s, off, len);
       return;
     }
-    for (int i = off; i < s.length() && i - off < len; i++) {
-      write(s.charAt(i));
-    }
+    // the original string is written around the snippet, without copying it
+    super.write(s, off, endOfHeadTagPosition - off + 1);
+    injectSnippet();
+    super.write(s, endOfHeadTagPosition + 1, off + len - endOfHeadTagPosition - 1);
   }
 
   @Override
   public void write(int b) {
     super.write(b);
-    if (state.isHeadTagWritten()) {
+    if (state.processChar(b)) {
+      injectSnippet();
+    }
+  }
+
+  @Override
+  public void write(char[] buf, int off, int len) {
+    if (state.isInjectionDone()) {
+      super.write(buf, off, len);
       return;
     }
-    boolean endOfHeadTagFound = state.processByte(b);
-    if (!endOfHeadTagFound) {
+    int endOfHeadTagPosition = state.findInjectionPoint(CharBuffer.wrap(buf), off, len);
+    if (endOfHeadTagPosition == -1) {
+      super.write(buf, off, len);
       return;
     }
+    super.write(buf, off, endOfHeadTagPosition - off + 1);
+    injectSnippet();
+    super.write(buf, endOfHeadTagPosition + 1, off + len - endOfHeadTagPosition - 1);
+  }
 
+  private void injectSnippet() {
     if (state.getWrapper().isNotSafeToInject()) {
       return;
     }
     state.getWrapper().updateContentLengthIfPreviouslySet();
     super.write(snippet);
   }
-
-  @Override
-  public void write(char[] buf, int off, int len) {
-    if (state.isHeadTagWritten()) {
-      super.write(buf, off, len);
-      return;
-    }
-    for (int i = off; i < buf.length && i - off < len; i++) {
-      write(buf[i]);
-    }
-  }
 }
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.servlet.javax;
 
+import io.opentelemetry.javaagent.instrumentation.servlet.LazyEnumerationIterable;
 import io.opentelemetry.javaagent.instrumentation.servlet.ServletAccessor;
 import java.security.Principal;
 import java.util.Arrays;
@@ -73,10 +74,10 @@ public abstract class JavaxServletAccessor<R> implements ServletAccessor<HttpSer
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Iterable<String> getRequestHeaderNames(HttpServletRequest httpServletRequest) {
-    @SuppressWarnings("unchecked")
-    Enumeration<String> names = httpServletRequest.getHeaderNames();
-    return Collections.list(names);
+    return new LazyEnumerationIterable<>(
+        () -> (Enumeration<String>) httpServletRequest.getHeaderNames());
   }
 
   @Override
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.spring.autoconfigure;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.TracerProvider;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.MapConverter;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.OpenTelemetrySdkLifecycle;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.SdkEnabled;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.OtelResourceProperties;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.OtelSpringProperties;
@@ -113,6 +114,12 @@ public class OpenTelemetryAutoConfiguration {
       return autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk();
     }
 
+    @Bean
+    public OpenTelemetrySdkLifecycle otelSdkLifecycle(
+        AutoConfiguredOpenTelemetrySdk autoConfiguredOpenTelemetrySdk) {
+      return new OpenTelemetrySdkLifecycle(autoConfiguredOpenTelemetrySdk.getOpenTelemetrySdk());
+    }
+
     /**
      * Expose the {@link ConfigProperties} bean for use in other auto-configurations.
      *
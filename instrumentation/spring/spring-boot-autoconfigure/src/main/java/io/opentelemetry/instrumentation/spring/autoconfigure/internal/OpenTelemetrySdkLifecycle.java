@@ -0,0 +1,60 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure.internal;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Flushes the telemetry buffered by the SDK when the application context is stopped. Spring stops
+ * the lifecycle beans before a CRaC checkpoint is taken and starts them again after the restore, so
+ * that no spans, metrics or logs are captured in the checkpoint and no export is in flight while
+ * the JVM is suspended. The exporters and their connections are left as they are.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class OpenTelemetrySdkLifecycle implements SmartLifecycle {
+
+  private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+  private final OpenTelemetrySdk openTelemetrySdk;
+  private volatile boolean running;
+
+  public OpenTelemetrySdkLifecycle(OpenTelemetrySdk openTelemetrySdk) {
+    this.openTelemetrySdk = openTelemetrySdk;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    CompletableResultCode.ofAll(
+            Arrays.asList(
+                openTelemetrySdk.getSdkTracerProvider().forceFlush(),
+                openTelemetrySdk.getSdkMeterProvider().forceFlush(),
+                openTelemetrySdk.getSdkLoggerProvider().forceFlush()))
+        .join(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // stop after all other lifecycle beans, e.g. the web server, so that their telemetry is flushed
+    return Integer.MIN_VALUE;
+  }
+}
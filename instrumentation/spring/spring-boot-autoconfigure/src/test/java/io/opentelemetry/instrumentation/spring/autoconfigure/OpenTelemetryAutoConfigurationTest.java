@@ -11,9 +11,12 @@ import static org.mockito.Mockito.withSettings;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.exporter.otlp.internal.OtlpSpanExporterProvider;
+import io.opentelemetry.instrumentation.spring.autoconfigure.internal.OpenTelemetrySdkLifecycle;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.AutoConfigureListener;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -152,6 +155,44 @@ class OpenTelemetryAutoConfigurationTest {
             });
   }
 
+  @Test
+  void shouldFlushSdkWhenStopped() {
+    SpanExporter spanExporter = Mockito.mock(SpanExporter.class);
+    Mockito.when(spanExporter.export(any())).thenReturn(CompletableResultCode.ofSuccess());
+    Mockito.when(spanExporter.flush()).thenReturn(CompletableResultCode.ofSuccess());
+    Mockito.when(spanExporter.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    ConfigurableSpanExporterProvider spanExporterProvider =
+        Mockito.mock(ConfigurableSpanExporterProvider.class);
+    Mockito.when(spanExporterProvider.getName()).thenReturn("custom");
+    Mockito.when(spanExporterProvider.createExporter(any())).thenReturn(spanExporter);
+
+    this.contextRunner
+        .withBean(
+            "customSpanExporter",
+            ConfigurableSpanExporterProvider.class,
+            () -> spanExporterProvider,
+            bd -> bd.setDestroyMethodName(""))
+        .withConfiguration(AutoConfigurations.of(OpenTelemetryAutoConfiguration.class))
+        .withPropertyValues("otel.traces.exporter=custom", "otel.bsp.schedule.delay=1h")
+        .run(
+            context -> {
+              OpenTelemetrySdkLifecycle lifecycle =
+                  context.getBean(OpenTelemetrySdkLifecycle.class);
+              assertThat(lifecycle.isRunning()).isTrue();
+
+              context
+                  .getBean(OpenTelemetry.class)
+                  .getTracer("test")
+                  .spanBuilder("span")
+                  .startSpan()
+                  .end();
+              lifecycle.stop();
+
+              assertThat(lifecycle.isRunning()).isFalse();
+              Mockito.verify(spanExporter).export(any());
+            });
+  }
+
   @Test
   void shouldInitializeNoopOpenTelemetryWhenSdkIsDisabled() {
     this.contextRunner
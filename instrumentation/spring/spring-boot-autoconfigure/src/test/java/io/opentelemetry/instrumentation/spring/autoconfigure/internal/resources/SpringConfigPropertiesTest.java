@@ -14,6 +14,7 @@ import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.OtlpExporterProperties;
 import io.opentelemetry.instrumentation.spring.autoconfigure.internal.properties.SpringConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
@@ -64,4 +65,33 @@ class SpringConfigPropertiesTest {
               assertThat(config.getString("fallback")).isEqualTo("fallbackVal");
             });
   }
+
+  @Test
+  void shouldResolveEnvironmentPropertiesRepeatedly() {
+    this.contextRunner
+        .withConfiguration(AutoConfigurations.of(OpenTelemetryAutoConfiguration.class))
+        .withPropertyValues(
+            "otel.metrics.exporter=none",
+            "otel.logs.exporter=none",
+            "otel.traces.exporter=none",
+            "otel.instrumentation.test.enabled=true")
+        .run(
+            context -> {
+              Environment env = context.getBean("environment", Environment.class);
+              SpringConfigProperties config =
+                  new SpringConfigProperties(
+                      env,
+                      new SpelExpressionParser(),
+                      context.getBean(OtlpExporterProperties.class),
+                      context.getBean(OtelResourceProperties.class),
+                      context.getBean(OtelSpringProperties.class),
+                      DefaultConfigProperties.createFromMap(
+                          Collections.singletonMap("otel.instrumentation.missing", "fallback")));
+
+              for (int i = 0; i < 3; i++) {
+                assertThat(config.getBoolean("otel.instrumentation.test.enabled")).isTrue();
+                assertThat(config.getString("otel.instrumentation.missing")).isEqualTo("fallback");
+              }
+            });
+  }
 }
@@ -5,12 +5,13 @@
 
 package io.opentelemetry.javaagent.instrumentation.viburdbcp.v11_0;
 
-import static io.opentelemetry.javaagent.instrumentation.viburdbcp.v11_0.ViburSingletons.telemetry;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.sql.Connection;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -29,6 +30,9 @@ final class ViburDbcpDataSourceInstrumentation implements TypeInstrumentation {
         named("start").and(takesArguments(0)), this.getClass().getName() + "$StartAdvice");
     transformer.applyAdviceToMethod(
         named("close").and(takesArguments(0)), this.getClass().getName() + "$CloseAdvice");
+    transformer.applyAdviceToMethod(
+        isPublic().and(named("getConnection")).and(takesArguments(0)),
+        this.getClass().getName() + "$GetConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -36,7 +40,7 @@ final class ViburDbcpDataSourceInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void onExit(@Advice.This ViburDBCPDataSource dataSource) {
-      telemetry().registerMetrics(dataSource);
+      ViburSingletons.registerMetrics(dataSource);
     }
   }
 
@@ -45,7 +49,26 @@ final class ViburDbcpDataSourceInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
     public static void onExit(@Advice.This ViburDBCPDataSource dataSource) {
-      telemetry().unregisterMetrics(dataSource);
+      ViburSingletons.unregisterMetrics(dataSource);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter() {
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class)
+    public static void onExit(
+        @Advice.This ViburDBCPDataSource dataSource,
+        @Advice.Enter long startNanos,
+        @Advice.Return Connection connection) {
+      if (connection != null) {
+        ViburSingletons.connectionAcquired(dataSource, startNanos);
+      }
     }
   }
 }
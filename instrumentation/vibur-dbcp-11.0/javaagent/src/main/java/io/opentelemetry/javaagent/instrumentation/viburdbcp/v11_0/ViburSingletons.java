@@ -6,15 +6,36 @@
 package io.opentelemetry.javaagent.instrumentation.viburdbcp.v11_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.viburdbcp.v11_0.ViburTelemetry;
+import org.vibur.dbcp.ViburDBCPDataSource;
 
 public final class ViburSingletons {
 
   private static final ViburTelemetry viburTelemetry =
       ViburTelemetry.create(GlobalOpenTelemetry.get());
 
-  public static ViburTelemetry telemetry() {
-    return viburTelemetry;
+  private static final VirtualField<ViburDBCPDataSource, DbConnectionPoolTracker>
+      dataSourceTracker =
+          VirtualField.find(ViburDBCPDataSource.class, DbConnectionPoolTracker.class);
+
+  public static void registerMetrics(ViburDBCPDataSource dataSource) {
+    viburTelemetry.registerMetrics(dataSource);
+    dataSourceTracker.set(dataSource, DbConnectionPoolTrackers.get(dataSource));
+  }
+
+  public static void unregisterMetrics(ViburDBCPDataSource dataSource) {
+    viburTelemetry.unregisterMetrics(dataSource);
+    dataSourceTracker.set(dataSource, null);
+  }
+
+  public static void connectionAcquired(ViburDBCPDataSource dataSource, long startNanos) {
+    DbConnectionPoolTracker tracker = dataSourceTracker.get(dataSource);
+    if (tracker != null) {
+      tracker.recordWaitTime(System.nanoTime() - startNanos);
+    }
   }
 
   private ViburSingletons() {}
@@ -26,4 +26,9 @@ class ViburInstrumentationTest extends AbstractViburInstrumentationTest {
 
   @Override
   protected void shutdown(ViburDBCPDataSource viburDataSource) {}
+
+  @Override
+  protected boolean recordsWaitTime() {
+    return true;
+  }
 }
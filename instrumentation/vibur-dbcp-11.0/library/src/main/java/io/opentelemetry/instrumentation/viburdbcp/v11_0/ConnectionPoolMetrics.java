@@ -10,6 +10,9 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTracker;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.DbConnectionPoolTrackers;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.vibur.dbcp.ViburDBCPDataSource;
@@ -33,6 +36,12 @@ final class ConnectionPoolMetrics {
     DbConnectionPoolMetrics metrics =
         DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSource.getName());
 
+    // vibur doesn't notify about taken connections in a way that works across its versions, the
+    // wait time is fed by the javaagent instrumentation; the connections are JDK proxies, so
+    // returning them to the pool can't be observed and leak detection stays off
+    DbConnectionPoolTrackers.register(
+        dataSource, DbConnectionPoolTracker.create(metrics, Duration.ZERO));
+
     ObservableLongMeasurement connections = metrics.connections();
     ObservableLongMeasurement maxConnections = metrics.maxConnections();
 
@@ -51,6 +60,7 @@ final class ConnectionPoolMetrics {
   }
 
   public static void unregisterMetrics(ViburDBCPDataSource dataSource) {
+    DbConnectionPoolTrackers.unregister(dataSource);
     BatchCallback callback = dataSourceMetrics.remove(dataSource);
     if (callback != null) {
       callback.close();
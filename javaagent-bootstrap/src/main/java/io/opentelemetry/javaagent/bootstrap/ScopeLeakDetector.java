@@ -0,0 +1,204 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.context.Scope;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Detects leaked {@link Scope}s, i.e. scopes that were garbage collected without being closed, by
+ * tracking a sample of the scopes opened through the {@link ContextStorage}. Only the sampled
+ * scopes capture the location where they were opened, and the capture is limited to the innermost
+ * 32 frames, so that the detector can be left enabled in production.
+ *
+ * <p>The first 20 leaks are logged with the location where the scope was opened; all of them are
+ * counted and can be exported as metrics.
+ */
+public final class ScopeLeakDetector {
+
+  private static final Logger logger = Logger.getLogger(ScopeLeakDetector.class.getName());
+
+  private static final int MAX_STACK_DEPTH = 32;
+  private static final int MAX_LOGGED_LEAKS = 20;
+
+  @Nullable private static volatile ScopeLeakDetector instance;
+
+  private final int sampleInterval;
+  // the references of the sampled scopes that are still open, which keeps the references reachable
+  private final Set<ScopeReference> openScopes = ConcurrentHashMap.newKeySet();
+  private final ReferenceQueue<TrackedScope> collectedScopes = new ReferenceQueue<>();
+  private final LongAdder sampledCount = new LongAdder();
+  private final LongAdder leakedCount = new LongAdder();
+  private final AtomicInteger loggedLeaks = new AtomicInteger();
+
+  /**
+   * Wraps the {@link ContextStorage} so that one in {@code sampleInterval} opened scopes is
+   * tracked. Must be called before the context storage is first used.
+   */
+  public static void install(int sampleInterval) {
+    if (sampleInterval <= 0 || instance != null) {
+      return;
+    }
+    ScopeLeakDetector detector = new ScopeLeakDetector(sampleInterval);
+    instance = detector;
+    ContextStorage.addWrapper(detector::wrap);
+  }
+
+  /** Returns the installed detector, or null if leak detection is disabled. */
+  @Nullable
+  public static ScopeLeakDetector get() {
+    return instance;
+  }
+
+  // visible for tests
+  ScopeLeakDetector(int sampleInterval) {
+    this.sampleInterval = sampleInterval;
+  }
+
+  // visible for tests
+  ContextStorage wrap(ContextStorage storage) {
+    return new LeakDetectingContextStorage(storage, this);
+  }
+
+  /** Returns the number of scopes that were tracked. */
+  public long getSampledCount() {
+    return sampledCount.sum();
+  }
+
+  /** Returns the number of tracked scopes that were garbage collected without being closed. */
+  public long getLeakedCount() {
+    detectLeaks();
+    return leakedCount.sum();
+  }
+
+  private Scope track(Scope scope) {
+    // attaching the context that is already current doesn't have to be undone
+    if (scope == Scope.noop() || ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+      return scope;
+    }
+    detectLeaks();
+    sampledCount.increment();
+    TrackedScope trackedScope = new TrackedScope(scope);
+    ScopeReference reference =
+        new ScopeReference(
+            trackedScope, collectedScopes, Thread.currentThread().getName(), captureLocation());
+    trackedScope.reference = reference;
+    openScopes.add(reference);
+    return trackedScope;
+  }
+
+  private void closed(ScopeReference reference) {
+    openScopes.remove(reference);
+    reference.clear();
+  }
+
+  private void detectLeaks() {
+    ScopeReference reference;
+    while ((reference = (ScopeReference) collectedScopes.poll()) != null) {
+      if (!openScopes.remove(reference)) {
+        continue;
+      }
+      leakedCount.increment();
+      if (loggedLeaks.getAndIncrement() < MAX_LOGGED_LEAKS) {
+        logger.log(WARNING, "Scope leak detected: {0}", reference);
+      }
+    }
+  }
+
+  private static StackTraceElement[] captureLocation() {
+    StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+    // skip captureLocation(), track() and attach()
+    int from = Math.min(3, stackTrace.length);
+    int to = Math.min(stackTrace.length, from + MAX_STACK_DEPTH);
+    return Arrays.copyOfRange(stackTrace, from, to);
+  }
+
+  private static final class LeakDetectingContextStorage implements ContextStorage, AutoCloseable {
+
+    private final ContextStorage delegate;
+    private final ScopeLeakDetector detector;
+
+    LeakDetectingContextStorage(ContextStorage delegate, ScopeLeakDetector detector) {
+      this.delegate = delegate;
+      this.detector = detector;
+    }
+
+    @Override
+    public Scope attach(Context toAttach) {
+      return detector.track(delegate.attach(toAttach));
+    }
+
+    @Nullable
+    @Override
+    public Context current() {
+      return delegate.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+      if (delegate instanceof AutoCloseable) {
+        ((AutoCloseable) delegate).close();
+      }
+    }
+  }
+
+  private final class TrackedScope implements Scope {
+
+    private final Scope delegate;
+    @Nullable private ScopeReference reference;
+
+    TrackedScope(Scope delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void close() {
+      if (reference != null) {
+        closed(reference);
+        reference = null;
+      }
+      delegate.close();
+    }
+  }
+
+  private static final class ScopeReference extends WeakReference<TrackedScope> {
+
+    private final String threadName;
+    private final StackTraceElement[] location;
+
+    ScopeReference(
+        TrackedScope scope,
+        ReferenceQueue<TrackedScope> queue,
+        String threadName,
+        StackTraceElement[] location) {
+      super(scope, queue);
+      this.threadName = threadName;
+      this.location = location;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("scope opened on thread ").append(threadName);
+      for (StackTraceElement element : location) {
+        sb.append("\n    at ").append(element);
+      }
+      return sb.toString();
+    }
+  }
+}
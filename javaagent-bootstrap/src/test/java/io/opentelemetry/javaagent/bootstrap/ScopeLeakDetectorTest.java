@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.context.Scope;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ScopeLeakDetectorTest {
+
+  private static final ContextKey<String> KEY = ContextKey.named("test");
+
+  @Test
+  void countsLeakedScopes() {
+    ScopeLeakDetector detector = new ScopeLeakDetector(1);
+    ContextStorage storage = detector.wrap(new ThreadLocalStorage());
+
+    leakScope(storage);
+
+    assertThat(detector.getSampledCount()).isEqualTo(1);
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> {
+              System.gc();
+              assertThat(detector.getLeakedCount()).isEqualTo(1);
+            });
+  }
+
+  @Test
+  void doesNotCountClosedScopes() throws InterruptedException {
+    ScopeLeakDetector detector = new ScopeLeakDetector(1);
+    ContextStorage storage = detector.wrap(new ThreadLocalStorage());
+
+    try (Scope ignored = storage.attach(Context.root().with(KEY, "value"))) {
+      assertThat(storage.current().get(KEY)).isEqualTo("value");
+    }
+    System.gc();
+    Thread.sleep(100);
+
+    assertThat(detector.getSampledCount()).isEqualTo(1);
+    assertThat(detector.getLeakedCount()).isZero();
+  }
+
+  @Test
+  void doesNotTrackNoopScopes() {
+    ScopeLeakDetector detector = new ScopeLeakDetector(1);
+    ContextStorage storage = detector.wrap(new ThreadLocalStorage());
+    Context context = Context.root().with(KEY, "value");
+
+    try (Scope outer = storage.attach(context);
+        Scope inner = storage.attach(context)) {
+      assertThat(inner).isSameAs(Scope.noop());
+      assertThat(outer).isNotSameAs(Scope.noop());
+    }
+
+    assertThat(detector.getSampledCount()).isEqualTo(1);
+  }
+
+  @Test
+  void samplesScopes() {
+    ScopeLeakDetector detector = new ScopeLeakDetector(1000);
+    ContextStorage storage = detector.wrap(new ThreadLocalStorage());
+
+    for (int i = 0; i < 100; i++) {
+      storage.attach(Context.root().with(KEY, "value")).close();
+    }
+
+    assertThat(detector.getSampledCount()).isLessThan(100);
+  }
+
+  private static void leakScope(ContextStorage storage) {
+    // the returned scope is never closed
+    storage.attach(Context.root().with(KEY, "value"));
+  }
+
+  private static class ThreadLocalStorage implements ContextStorage {
+
+    private final ThreadLocal<Context> current = new ThreadLocal<>();
+
+    @Override
+    public Scope attach(Context toAttach) {
+      Context previous = current.get();
+      if (previous == toAttach) {
+        return Scope.noop();
+      }
+      current.set(toAttach);
+      return () -> current.set(previous);
+    }
+
+    @Override
+    public Context current() {
+      return current.get();
+    }
+  }
+}
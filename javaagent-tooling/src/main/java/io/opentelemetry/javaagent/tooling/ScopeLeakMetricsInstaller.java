@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.javaagent.bootstrap.ScopeLeakDetector;
+import io.opentelemetry.javaagent.extension.AgentListener;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+
+/** An {@link AgentListener} that exports the counters of the scope leak detector as metrics. */
+@AutoService(AgentListener.class)
+public class ScopeLeakMetricsInstaller implements AgentListener {
+
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.javaagent";
+
+  @Override
+  public void afterAgent(AutoConfiguredOpenTelemetrySdk autoConfiguredSdk) {
+    ScopeLeakDetector scopeLeakDetector = ScopeLeakDetector.get();
+    if (scopeLeakDetector == null) {
+      return;
+    }
+
+    Meter meter = GlobalOpenTelemetry.getMeter(INSTRUMENTATION_NAME);
+    meter
+        .counterBuilder("context.scope.sampled")
+        .setUnit("{scope}")
+        .setDescription("Number of opened scopes that were tracked by the scope leak detector")
+        .buildWithCallback(measurement -> measurement.record(scopeLeakDetector.getSampledCount()));
+    meter
+        .counterBuilder("context.scope.leaked")
+        .setUnit("{scope}")
+        .setDescription("Number of tracked scopes that were garbage collected without being closed")
+        .buildWithCallback(measurement -> measurement.record(scopeLeakDetector.getLeakedCount()));
+  }
+}
@@ -22,8 +22,10 @@ import net.bytebuddy.agent.builder.AgentBuilder;
 public class InstrumentationLoader implements AgentExtension {
   private static final Logger logger = Logger.getLogger(InstrumentationLoader.class.getName());
 
+  private final MuzzlePreloader muzzlePreloader = new MuzzlePreloader();
   private final InstrumentationModuleInstaller instrumentationModuleInstaller =
-      new InstrumentationModuleInstaller(InstrumentationHolder.getInstrumentation());
+      new InstrumentationModuleInstaller(
+          InstrumentationHolder.getInstrumentation(), muzzlePreloader);
 
   @Override
   public AgentBuilder extend(AgentBuilder agentBuilder, ConfigProperties config) {
@@ -56,7 +58,7 @@ public class InstrumentationLoader implements AgentExtension {
     }
     logger.log(FINE, "Installed {0} instrumentation(s)", numberOfLoadedModules);
 
-    return agentBuilder;
+    return muzzlePreloader.install(agentBuilder, config);
   }
 
   @Override
@@ -53,11 +53,13 @@ public final class InstrumentationModuleInstaller {
       not(isAnnotatedWith(named("javax.decorator.Decorator")));
 
   private final Instrumentation instrumentation;
+  private final MuzzlePreloader muzzlePreloader;
   private final VirtualFieldImplementationInstallerFactory virtualFieldInstallerFactory =
       VirtualFieldImplementationInstallerFactory.getInstance();
 
-  public InstrumentationModuleInstaller(Instrumentation instrumentation) {
+  InstrumentationModuleInstaller(Instrumentation instrumentation, MuzzlePreloader muzzlePreloader) {
     this.instrumentation = instrumentation;
+    this.muzzlePreloader = muzzlePreloader;
   }
 
   AgentBuilder install(
@@ -115,7 +117,11 @@ public final class InstrumentationModuleInstaller {
           .injectClasses(injectedClassesCollector);
     }
 
+    boolean injectsClasses =
+        !injectedHelperClassNames.isEmpty() || injectedClassesCollector.hasClassesToInject();
+
     MuzzleMatcher muzzleMatcher = new MuzzleMatcher(logger, instrumentationModule, config);
+    muzzlePreloader.register(instrumentationModule, muzzleMatcher);
 
     Function<ClassLoader, List<HelperClassDefinition>> helperGenerator =
         cl -> {
@@ -156,7 +162,7 @@ public final class InstrumentationModuleInstaller {
       // We need to update our documentation on that
       extendableAgentBuilder =
           IndyModuleRegistry.initializeModuleLoaderOnMatch(
-              instrumentationModule, extendableAgentBuilder);
+              instrumentationModule, extendableAgentBuilder, injectsClasses);
       extendableAgentBuilder = extendableAgentBuilder.transform(helperInjector);
       extendableAgentBuilder = contextProvider.injectHelperClasses(extendableAgentBuilder);
       IndyTypeTransformerImpl typeTransformer =
@@ -192,6 +198,7 @@ public final class InstrumentationModuleInstaller {
     }
 
     MuzzleMatcher muzzleMatcher = new MuzzleMatcher(logger, instrumentationModule, config);
+    muzzlePreloader.register(instrumentationModule, muzzleMatcher);
     AgentBuilder.Transformer helperInjector =
         new HelperInjector(
             instrumentationModule.instrumentationName(),
@@ -15,13 +15,11 @@ import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.config.AgentConfig;
 import io.opentelemetry.javaagent.tooling.instrumentation.indy.IndyModuleRegistry;
-import io.opentelemetry.javaagent.tooling.instrumentation.indy.InstrumentationModuleClassLoader;
 import io.opentelemetry.javaagent.tooling.muzzle.Mismatch;
 import io.opentelemetry.javaagent.tooling.muzzle.ReferenceMatcher;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.security.ProtectionDomain;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import net.bytebuddy.agent.builder.AgentBuilder;
@@ -40,8 +38,9 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
   private final TransformSafeLogger instrumentationLogger;
   private final InstrumentationModule instrumentationModule;
   private final Level muzzleLogLevel;
-  private final AtomicBoolean initialized = new AtomicBoolean(false);
   private final Cache<ClassLoader, Boolean> matchCache = Cache.weak();
+  // results of the background verification that haven't been reported yet
+  private final Cache<ClassLoader, Boolean> preverifyCache = Cache.weak();
   private volatile ReferenceMatcher referenceMatcher;
 
   MuzzleMatcher(
@@ -63,36 +62,60 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
     if (classLoader == BOOTSTRAP_LOADER) {
       classLoader = Utils.getBootstrapProxy();
     }
+    return matches(classLoader);
+  }
+
+  boolean matches(ClassLoader classLoader) {
+    return matchCache.computeIfAbsent(classLoader, this::doesMatch);
+  }
+
+  /**
+   * Verifies the passed class loader ahead of time, without counting or logging a mismatch. The
+   * result is reported when the class loader is matched for a transformed class.
+   */
+  void preverify(ClassLoader classLoader) {
+    if (matchCache.get(classLoader) == null && preverifyCache.get(classLoader) == null) {
+      preverifyCache.put(
+          classLoader, getReferenceMatcher().matches(muzzleClassLoader(classLoader)));
+    }
+  }
+
+  private ClassLoader muzzleClassLoader(ClassLoader classLoader) {
     if (instrumentationModule.isIndyModule()) {
-      return matchCache.computeIfAbsent(
-          classLoader,
-          cl -> {
-            InstrumentationModuleClassLoader moduleCl =
-                IndyModuleRegistry.createInstrumentationClassLoaderWithoutRegistration(
-                    instrumentationModule, cl);
-            return doesMatch(moduleCl);
-          });
-    } else {
-      return matchCache.computeIfAbsent(classLoader, this::doesMatch);
+      return IndyModuleRegistry.createInstrumentationClassLoaderWithoutRegistration(
+          instrumentationModule, classLoader);
     }
+    return classLoader;
   }
 
   private boolean doesMatch(ClassLoader classLoader) {
     ReferenceMatcher muzzle = getReferenceMatcher();
-    boolean isMatch = muzzle.matches(classLoader);
+    Boolean preverified = preverifyCache.get(classLoader);
+    ClassLoader muzzleClassLoader = null;
+    boolean isMatch;
+    if (preverified != null) {
+      preverifyCache.remove(classLoader);
+      isMatch = preverified;
+    } else {
+      muzzleClassLoader = muzzleClassLoader(classLoader);
+      isMatch = muzzle.matches(muzzleClassLoader);
+    }
 
     if (!isMatch) {
       MuzzleFailureCounter.inc();
       if (muzzleLogger.isLoggable(muzzleLogLevel)) {
+        if (muzzleClassLoader == null) {
+          muzzleClassLoader = muzzleClassLoader(classLoader);
+        }
         muzzleLogger.log(
             muzzleLogLevel,
             "Instrumentation skipped, mismatched references were found: {0} [class {1}] on {2}",
             new Object[] {
               instrumentationModule.instrumentationName(),
               instrumentationModule.getClass().getName(),
-              classLoader
+              muzzleClassLoader
             });
-        List<Mismatch> mismatches = muzzle.getMismatchedReferenceSources(classLoader);
+        List<Mismatch> mismatches = muzzle.getMismatchedReferenceSources(muzzleClassLoader);
         for (Mismatch mismatch : mismatches) {
           muzzleLogger.log(muzzleLogLevel, "-- {0}", mismatch);
         }
@@ -105,7 +128,7 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
             new Object[] {
               instrumentationModule.instrumentationName(),
               instrumentationModule.getClass().getName(),
-              classLoader
+              muzzleClassLoader != null ? muzzleClassLoader : classLoader
             });
       }
     }
@@ -113,12 +136,23 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
     return isMatch;
   }
 
+  void preloadReferences() {
+    getReferenceMatcher();
+  }
+
   // ReferenceMatcher is lazily created to avoid unnecessarily loading the muzzle references from
   // the module during the agent setup
   private ReferenceMatcher getReferenceMatcher() {
-    if (initialized.compareAndSet(false, true)) {
-      referenceMatcher = ReferenceMatcher.of(instrumentationModule);
+    ReferenceMatcher matcher = referenceMatcher;
+    if (matcher == null) {
+      synchronized (this) {
+        matcher = referenceMatcher;
+        if (matcher == null) {
+          matcher = ReferenceMatcher.of(instrumentationModule);
+          referenceMatcher = matcher;
+        }
+      }
     }
-    return referenceMatcher;
+    return matcher;
   }
 }
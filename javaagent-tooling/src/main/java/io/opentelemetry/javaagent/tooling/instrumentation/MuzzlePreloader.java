@@ -0,0 +1,148 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.WARNING;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.bootstrap.AgentClassLoader;
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.tooling.ExtensionClassLoader;
+import io.opentelemetry.javaagent.tooling.instrumentation.indy.InstrumentationModuleClassLoader;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * Moves muzzle work off the application threads. Once all instrumentation modules are installed,
+ * the {@link io.opentelemetry.javaagent.tooling.muzzle.ReferenceMatcher}s of all modules are built
+ * in parallel, and every class loader that the agent sees for the first time is verified in the
+ * background against all modules whose class loader matchers match it. Application threads then
+ * usually find the muzzle result already cached in the {@link MuzzleMatcher}.
+ */
+final class MuzzlePreloader extends AgentBuilder.Listener.Adapter {
+
+  private static final Logger logger = Logger.getLogger(MuzzlePreloader.class.getName());
+
+  private static final ElementMatcher<ClassLoader> ANY = ElementMatchers.any();
+
+  private final List<PreloadedModule> modules = new ArrayList<>();
+  private final Cache<ClassLoader, Boolean> seenClassLoaders = Cache.weak();
+  private volatile ForkJoinPool pool;
+
+  void register(InstrumentationModule module, MuzzleMatcher muzzleMatcher) {
+    modules.add(new PreloadedModule(module, muzzleMatcher));
+  }
+
+  AgentBuilder install(AgentBuilder agentBuilder, ConfigProperties config) {
+    if (!config.getBoolean("otel.javaagent.experimental.muzzle.preload.enabled", false)
+        || modules.isEmpty()) {
+      modules.clear();
+      return agentBuilder;
+    }
+
+    int parallelism =
+        config.getInt(
+            "otel.javaagent.experimental.muzzle.preload.parallelism",
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    pool =
+        new ForkJoinPool(
+            parallelism,
+            forkJoinPool -> {
+              ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+              thread.setName("otel-muzzle-preloader-" + thread.getPoolIndex());
+              thread.setDaemon(true);
+              thread.setContextClassLoader(null);
+              return thread;
+            },
+            null,
+            false);
+
+    long start = System.nanoTime();
+    pool.execute(
+        () -> {
+          modules.parallelStream().forEach(PreloadedModule::preloadReferences);
+          logger.log(
+              FINE,
+              "Preloaded muzzle references of {0} instrumentation modules in {1} ms",
+              new Object[] {modules.size(), (System.nanoTime() - start) / 1_000_000});
+        });
+    return agentBuilder.with(this);
+  }
+
+  @Override
+  public void onDiscovery(
+      String typeName, ClassLoader classLoader, JavaModule module, boolean loaded) {
+    if (classLoader == null
+        || classLoader instanceof AgentClassLoader
+        || classLoader instanceof ExtensionClassLoader
+        || classLoader instanceof InstrumentationModuleClassLoader
+        || seenClassLoaders.get(classLoader) != null) {
+      return;
+    }
+    seenClassLoaders.put(classLoader, Boolean.TRUE);
+    try {
+      pool.execute(() -> preverify(classLoader));
+    } catch (RejectedExecutionException e) {
+      logger.log(WARNING, "Unable to schedule muzzle verification of " + classLoader, e);
+    }
+  }
+
+  // visible for tests
+  void preverify(ClassLoader classLoader) {
+    for (PreloadedModule module : modules) {
+      module.preverify(classLoader);
+    }
+  }
+
+  private static final class PreloadedModule {
+
+    private final MuzzleMatcher muzzleMatcher;
+    private final List<ElementMatcher<ClassLoader>> classLoaderMatchers = new ArrayList<>();
+
+    PreloadedModule(InstrumentationModule module, MuzzleMatcher muzzleMatcher) {
+      this.muzzleMatcher = muzzleMatcher;
+      ElementMatcher.Junction<ClassLoader> moduleMatcher = module.classLoaderMatcher();
+      for (TypeInstrumentation typeInstrumentation : module.typeInstrumentations()) {
+        ElementMatcher<ClassLoader> optimization = typeInstrumentation.classLoaderOptimization();
+        // don't verify modules that match every class loader, they would be checked against
+        // every class loader in the application
+        if (!ANY.equals(moduleMatcher) || !ANY.equals(optimization)) {
+          classLoaderMatchers.add(moduleMatcher.and(optimization));
+        }
+      }
+    }
+
+    void preloadReferences() {
+      muzzleMatcher.preloadReferences();
+    }
+
+    void preverify(ClassLoader classLoader) {
+      try {
+        for (ElementMatcher<ClassLoader> classLoaderMatcher : classLoaderMatchers) {
+          if (classLoaderMatcher.matches(classLoader)) {
+            muzzleMatcher.preverify(classLoader);
+            return;
+          }
+        }
+      } catch (RuntimeException | LinkageError e) {
+        // the class loader will be verified again when a class is actually transformed
+        logger.log(FINE, "Muzzle preverification failed for " + classLoader, e);
+      }
+    }
+  }
+}
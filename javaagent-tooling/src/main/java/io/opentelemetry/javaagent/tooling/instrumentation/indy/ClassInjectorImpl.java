@@ -39,6 +39,10 @@ public class ClassInjectorImpl implements ClassInjector {
         .collect(Collectors.toList());
   }
 
+  public boolean hasClassesToInject() {
+    return !classesToInject.isEmpty();
+  }
+
   @Override
   public ProxyInjectionBuilder proxyBuilder(String classToProxy, String newProxyName) {
     return new ProxyBuilder(classToProxy, newProxyName);
@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.tooling.instrumentation.indy;
 
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.extension.instrumentation.internal.ExperimentalInstrumentationModule;
+import io.opentelemetry.javaagent.tooling.config.EarlyInitAgentConfig;
 import io.opentelemetry.javaagent.tooling.util.ClassLoaderValue;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -65,7 +66,12 @@ public class IndyModuleRegistry {
               + " yet");
     }
 
-    return loader;
+    return SharedModuleClassLoaders.resolve(
+        module, groupName, instrumentedClassLoader, loadersByGroupName, loader);
+  }
+
+  public static void configure(EarlyInitAgentConfig config) {
+    SharedModuleClassLoaders.configure(config);
   }
 
   /**
@@ -84,8 +90,16 @@ public class IndyModuleRegistry {
     return cl;
   }
 
+  /**
+   * Registers the module and creates its class loader for every class loader the module matches.
+   *
+   * @param injectsClasses whether the module injects classes into the instrumented class loader, in
+   *     which case its module class loader is never shared between instrumented class loaders
+   */
   public static AgentBuilder.Identified.Extendable initializeModuleLoaderOnMatch(
-      InstrumentationModule module, AgentBuilder.Identified.Extendable agentBuilder) {
+      InstrumentationModule module,
+      AgentBuilder.Identified.Extendable agentBuilder,
+      boolean injectsClasses) {
     if (!module.isIndyModule()) {
       throw new IllegalArgumentException("Provided module is not an indy module!");
     }
@@ -95,6 +109,9 @@ public class IndyModuleRegistry {
       throw new IllegalArgumentException(
           "A different module with the class name " + moduleName + " has already been registered!");
     }
+    if (injectsClasses) {
+      SharedModuleClassLoaders.markUnshareable(module);
+    }
     return agentBuilder.transform(
         (builder, typeDescription, classLoader, javaModule, protectionDomain) -> {
           initializeModuleLoaderForClassLoader(module, classLoader);
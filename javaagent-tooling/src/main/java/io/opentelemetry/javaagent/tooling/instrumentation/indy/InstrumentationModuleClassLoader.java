@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import net.bytebuddy.agent.builder.AgentBuilder;
@@ -86,6 +87,8 @@ public class InstrumentationModuleClassLoader extends ClassLoader {
 
   private final Set<InstrumentationModule> installedModules;
 
+  private final AtomicLong definedBytecodeSize = new AtomicLong();
+
   public InstrumentationModuleClassLoader(
       ClassLoader instrumentedCl, ClassLoader agentOrExtensionCl) {
     this(
@@ -159,6 +162,11 @@ public class InstrumentationModuleClassLoader extends ClassLoader {
     return installedModules.contains(module);
   }
 
+  /** Returns the total size of the bytecode of all classes defined by this class loader. */
+  long getDefinedBytecodeSize() {
+    return definedBytecodeSize.get();
+  }
+
   // Visible for testing
   synchronized void installInjectedClasses(Map<String, BytecodeWithUrl> classesToInject) {
     classesToInject.forEach(additionalInjectedClasses::putIfAbsent);
@@ -332,7 +340,9 @@ public class InstrumentationModuleClassLoader extends ClassLoader {
         String packageName = name.substring(0, lastDotIndex);
         safeDefinePackage(packageName);
       }
-      return defineClass(name, bytecode, 0, bytecode.length, PROTECTION_DOMAIN);
+      Class<?> clazz = defineClass(name, bytecode, 0, bytecode.length, PROTECTION_DOMAIN);
+      definedBytecodeSize.addAndGet(bytecode.length);
+      return clazz;
     } catch (LinkageError error) {
       // Precaution against linkage error due to nested instrumentations happening
       // it might be possible that e.g. an advice class has already been defined
@@ -0,0 +1,220 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.indy;
+
+import static java.util.logging.Level.FINE;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.tooling.config.EarlyInitAgentConfig;
+import io.opentelemetry.javaagent.tooling.muzzle.HelperClassPredicate;
+import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
+import io.opentelemetry.javaagent.tooling.util.ClassLoaderValue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Shares {@link InstrumentationModuleClassLoader}s between application class loaders that resolve
+ * all library classes used by an instrumentation module to the same {@link Class} instances.
+ *
+ * <p>In application servers many web applications usually delegate to a common class loader for
+ * server provided libraries (e.g. the servlet api). Without sharing, the helper and advice classes
+ * of every instrumentation module are defined once per web application. With sharing enabled, they
+ * are defined once per class loader that actually defines the referenced library classes.
+ *
+ * <p>Only modules that are alone in their module group and that don't inject any classes directly
+ * into the application class loader are shared, since for those the muzzle references describe
+ * everything the module class loader will ever resolve through the application class loader.
+ */
+final class SharedModuleClassLoaders {
+
+  private static final Logger logger = Logger.getLogger(SharedModuleClassLoaders.class.getName());
+
+  private static volatile boolean enabled = false;
+
+  // exported as metrics by SharedModuleClassLoadersMetricsInstaller
+  private static final AtomicLong createdCount = new AtomicLong();
+  private static final AtomicLong reusedCount = new AtomicLong();
+  private static final AtomicLong bytecodeBytesSaved = new AtomicLong();
+
+  private static final Set<String> unshareableModules = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Module class loaders for which the sharing decision has already been made, so that it is
+   * computed only once per application class loader and module.
+   */
+  private static final Cache<InstrumentationModuleClassLoader, Boolean> resolvedClassLoaders =
+      Cache.weak();
+
+  /**
+   * Shared module class loaders, attached to the class loader defining the library classes used by
+   * the module and keyed by the module group name.
+   */
+  private static final ClassLoaderValue<Map<String, InstrumentationModuleClassLoader>>
+      sharedClassLoaders = new ClassLoaderValue<>();
+
+  static void configure(EarlyInitAgentConfig config) {
+    enabled =
+        config.getBoolean("otel.javaagent.experimental.indy.shared-class-loaders.enabled", false);
+  }
+
+  // visible for testing
+  static void setEnabled(boolean enabled) {
+    SharedModuleClassLoaders.enabled = enabled;
+  }
+
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Returns the number of shared module class loaders that were created. */
+  static long getCreatedCount() {
+    return createdCount.get();
+  }
+
+  /** Returns the number of module class loaders that were replaced with a shared one. */
+  static long getReusedCount() {
+    return reusedCount.get();
+  }
+
+  /**
+   * Returns the size of the bytecode that the shared module class loaders had defined when they
+   * replaced another module class loader, which that loader didn't need to define again.
+   */
+  static long getBytecodeBytesSaved() {
+    return bytecodeBytesSaved.get();
+  }
+
+  static void markUnshareable(InstrumentationModule module) {
+    unshareableModules.add(module.getClass().getName());
+  }
+
+  /**
+   * Returns the module class loader that should be used for the given application class loader,
+   * which is either the given one or a shared one whose module classes resolve to the very same
+   * library classes.
+   */
+  static InstrumentationModuleClassLoader resolve(
+      InstrumentationModule module,
+      String groupName,
+      ClassLoader instrumentedClassLoader,
+      Map<String, InstrumentationModuleClassLoader> loadersByGroupName,
+      InstrumentationModuleClassLoader loader) {
+    if (!enabled || resolvedClassLoaders.get(loader) != null) {
+      return loader;
+    }
+    if (!groupName.equals(module.getClass().getName())
+        || unshareableModules.contains(module.getClass().getName())) {
+      resolvedClassLoaders.put(loader, Boolean.TRUE);
+      return loader;
+    }
+
+    ClassLoader definingClassLoader = findDefiningClassLoader(module, instrumentedClassLoader);
+    if (definingClassLoader == null || definingClassLoader == instrumentedClassLoader) {
+      resolvedClassLoaders.put(loader, Boolean.TRUE);
+      return loader;
+    }
+
+    ClassLoader agentOrExtensionCl = module.getClass().getClassLoader();
+    InstrumentationModuleClassLoader shared =
+        sharedClassLoaders
+            .computeIfAbsent(definingClassLoader, ConcurrentHashMap::new)
+            .computeIfAbsent(
+                groupName,
+                unused -> {
+                  createdCount.incrementAndGet();
+                  return new InstrumentationModuleClassLoader(
+                      definingClassLoader, agentOrExtensionCl);
+                });
+    shared.installModule(module);
+    resolvedClassLoaders.put(shared, Boolean.TRUE);
+
+    if (loadersByGroupName.replace(groupName, loader, shared)) {
+      reusedCount.incrementAndGet();
+      // lower bound, classes the shared loader defines later on are also saved
+      bytecodeBytesSaved.addAndGet(shared.getDefinedBytecodeSize());
+      if (logger.isLoggable(FINE)) {
+        logger.log(
+            FINE,
+            "Sharing instrumentation class loader of {0} for {1} with {2}",
+            new Object[] {groupName, instrumentedClassLoader, definingClassLoader});
+      }
+    }
+    InstrumentationModuleClassLoader result = loadersByGroupName.get(groupName);
+    return result != null ? result : shared;
+  }
+
+  /**
+   * Returns the class loader that resolves every library class referenced by the module to the same
+   * class as the given application class loader, or {@code null} if there is none. Classes are
+   * loaded one at a time and the search stops at the first class that rules out sharing, so that
+   * the remaining references aren't loaded needlessly.
+   */
+  @Nullable
+  private static ClassLoader findDefiningClassLoader(
+      InstrumentationModule module, ClassLoader instrumentedClassLoader) {
+    Set<String> helperClassNames =
+        new HashSet<>(InstrumentationModuleMuzzle.getHelperClassNames(module));
+    HelperClassPredicate helperClassPredicate = new HelperClassPredicate(module::isHelperClass);
+
+    List<Class<?>> libraryClasses = new ArrayList<>();
+    ClassLoader candidate = null;
+    for (String className : InstrumentationModuleMuzzle.getMuzzleReferences(module).keySet()) {
+      if (helperClassNames.contains(className) || !helperClassPredicate.isLibraryClass(className)) {
+        continue;
+      }
+      Class<?> libraryClass = tryLoad(instrumentedClassLoader, className);
+      if (libraryClass == null || libraryClass.getClassLoader() == instrumentedClassLoader) {
+        return null;
+      }
+      libraryClasses.add(libraryClass);
+
+      ClassLoader classLoader = libraryClass.getClassLoader();
+      if (classLoader == null || classLoader == candidate) {
+        continue;
+      }
+      if (candidate == null || !resolvesSameClass(candidate, libraryClass)) {
+        // the library class comes from a class loader below the current candidate
+        if (!resolvesSameClasses(classLoader, libraryClasses)) {
+          return null;
+        }
+        candidate = classLoader;
+      }
+    }
+    return candidate;
+  }
+
+  private static boolean resolvesSameClasses(ClassLoader candidate, List<Class<?>> classes) {
+    for (Class<?> clazz : classes) {
+      if (!resolvesSameClass(candidate, clazz)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean resolvesSameClass(ClassLoader candidate, Class<?> clazz) {
+    return clazz.getClassLoader() == candidate || tryLoad(candidate, clazz.getName()) == clazz;
+  }
+
+  @Nullable
+  private static Class<?> tryLoad(ClassLoader classLoader, String className) {
+    try {
+      return Class.forName(className, false, classLoader);
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
+  }
+
+  private SharedModuleClassLoaders() {}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.indy;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.javaagent.extension.AgentListener;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+
+/** An {@link AgentListener} that exports the counters of the shared module class loaders. */
+@AutoService(AgentListener.class)
+public class SharedModuleClassLoadersMetricsInstaller implements AgentListener {
+
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.javaagent";
+
+  @Override
+  public void afterAgent(AutoConfiguredOpenTelemetrySdk autoConfiguredSdk) {
+    if (!SharedModuleClassLoaders.isEnabled()) {
+      return;
+    }
+
+    Meter meter = GlobalOpenTelemetry.getMeter(INSTRUMENTATION_NAME);
+    meter
+        .counterBuilder("javaagent.indy.shared_class_loader.created")
+        .setUnit("{class_loader}")
+        .setDescription("Number of shared instrumentation module class loaders that were created")
+        .buildWithCallback(
+            measurement -> measurement.record(SharedModuleClassLoaders.getCreatedCount()));
+    meter
+        .counterBuilder("javaagent.indy.shared_class_loader.reused")
+        .setUnit("{class_loader}")
+        .setDescription(
+            "Number of instrumentation module class loaders that were replaced with a shared one")
+        .buildWithCallback(
+            measurement -> measurement.record(SharedModuleClassLoaders.getReusedCount()));
+    meter
+        .counterBuilder("javaagent.indy.shared_class_loader.bytecode_saved")
+        .setUnit("By")
+        .setDescription(
+            "Size of the helper bytecode that didn't need to be defined again thanks to shared"
+                + " instrumentation module class loaders")
+        .buildWithCallback(
+            measurement -> measurement.record(SharedModuleClassLoaders.getBytecodeBytesSaved()));
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static net.bytebuddy.matcher.ElementMatchers.any;
+import static net.bytebuddy.matcher.ElementMatchers.is;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
+import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappingsBuilder;
+import io.opentelemetry.javaagent.tooling.muzzle.references.ClassRef;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MuzzlePreloaderTest {
+
+  private static final String MISSING_CLASS = "missing.MissingClass";
+
+  @BeforeEach
+  void resetFailureCounter() {
+    MuzzleFailureCounter.getAndReset();
+  }
+
+  @Test
+  void preloadsReferences() {
+    TestModule module = new TestModule(any());
+    MuzzleMatcher muzzleMatcher = muzzleMatcher(module);
+
+    muzzleMatcher.preloadReferences();
+    assertThat(module.referencesRequested).hasValue(1);
+
+    muzzleMatcher.matches(new CountingClassLoader());
+    assertThat(module.referencesRequested).hasValue(1);
+  }
+
+  @Test
+  void preverifyDoesNotReportMismatches() {
+    MuzzleMatcher muzzleMatcher = muzzleMatcher(new TestModule(any()));
+    CountingClassLoader classLoader = new CountingClassLoader();
+
+    muzzleMatcher.preverify(classLoader);
+    assertThat(classLoader.lookups).hasPositiveValue();
+    assertThat(MuzzleFailureCounter.getAndReset()).isZero();
+
+    // the mismatch is reported once, when a class of the class loader is matched
+    int lookups = classLoader.lookups.get();
+    assertThat(muzzleMatcher.matches(classLoader)).isFalse();
+    assertThat(muzzleMatcher.matches(classLoader)).isFalse();
+    assertThat(classLoader.lookups).hasValue(lookups);
+    assertThat(MuzzleFailureCounter.getAndReset()).isEqualTo(1);
+  }
+
+  @Test
+  void preverifiesOnlyMatchingClassLoaders() {
+    CountingClassLoader matching = new CountingClassLoader();
+    CountingClassLoader other = new CountingClassLoader();
+    TestModule module = new TestModule(is(matching));
+    MuzzlePreloader preloader = new MuzzlePreloader();
+    preloader.register(module, muzzleMatcher(module));
+
+    preloader.preverify(other);
+    assertThat(other.lookups).hasValue(0);
+
+    preloader.preverify(matching);
+    assertThat(matching.lookups).hasPositiveValue();
+    assertThat(MuzzleFailureCounter.getAndReset()).isZero();
+  }
+
+  @Test
+  void doesNotPreverifyModulesMatchingEveryClassLoader() {
+    CountingClassLoader classLoader = new CountingClassLoader();
+    TestModule module = new TestModule(any());
+    MuzzlePreloader preloader = new MuzzlePreloader();
+    preloader.register(module, muzzleMatcher(module));
+
+    preloader.preverify(classLoader);
+    assertThat(classLoader.lookups).hasValue(0);
+  }
+
+  private static MuzzleMatcher muzzleMatcher(InstrumentationModule module) {
+    return new MuzzleMatcher(
+        InstrumentationModuleInstaller.logger, module, mock(ConfigProperties.class));
+  }
+
+  static class CountingClassLoader extends ClassLoader {
+
+    final AtomicInteger lookups = new AtomicInteger();
+
+    CountingClassLoader() {
+      super(null);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      lookups.incrementAndGet();
+      return super.loadClass(name, resolve);
+    }
+
+    @Override
+    public URL getResource(String name) {
+      lookups.incrementAndGet();
+      return super.getResource(name);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+      lookups.incrementAndGet();
+      return super.getResourceAsStream(name);
+    }
+  }
+
+  public static class TestModule extends InstrumentationModule
+      implements InstrumentationModuleMuzzle {
+
+    final AtomicInteger referencesRequested = new AtomicInteger();
+    private final ElementMatcher.Junction<ClassLoader> classLoaderMatcher;
+
+    TestModule(ElementMatcher.Junction<ClassLoader> classLoaderMatcher) {
+      super("test-module");
+      this.classLoaderMatcher = classLoaderMatcher;
+    }
+
+    @Override
+    public boolean isIndyModule() {
+      return false;
+    }
+
+    @Override
+    public ElementMatcher.Junction<ClassLoader> classLoaderMatcher() {
+      return classLoaderMatcher;
+    }
+
+    @Override
+    public List<TypeInstrumentation> typeInstrumentations() {
+      return singletonList(new TestInstrumentation());
+    }
+
+    @Override
+    public Map<String, ClassRef> getMuzzleReferences() {
+      referencesRequested.incrementAndGet();
+      return singletonMap(MISSING_CLASS, ClassRef.builder(MISSING_CLASS).build());
+    }
+
+    @Override
+    public void registerMuzzleVirtualFields(VirtualFieldMappingsBuilder builder) {}
+
+    @Override
+    public List<String> getMuzzleHelperClassNames() {
+      return emptyList();
+    }
+  }
+
+  static class TestInstrumentation implements TypeInstrumentation {
+
+    @Override
+    public ElementMatcher<TypeDescription> typeMatcher() {
+      return named("test.Instrumented");
+    }
+
+    @Override
+    public void transform(TypeTransformer transformer) {}
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation.indy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
+import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappingsBuilder;
+import io.opentelemetry.javaagent.tooling.muzzle.references.ClassRef;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedModuleClassLoadersTest {
+
+  private static final String LIBRARY_CLASS = "library.SharedLibraryClass";
+  private static final String MISSING_CLASS = "library.MissingClass";
+
+  @BeforeEach
+  void setUp() {
+    SharedModuleClassLoaders.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SharedModuleClassLoaders.setEnabled(false);
+  }
+
+  @Test
+  void sharesClassLoaderForCommonLibrary() throws Exception {
+    ClassLoader libraryCl = libraryClassLoader();
+    LibraryModule module = new LibraryModule();
+
+    long created = SharedModuleClassLoaders.getCreatedCount();
+    long reused = SharedModuleClassLoaders.getReusedCount();
+
+    try (URLClassLoader app1 = new URLClassLoader(new URL[0], libraryCl);
+        URLClassLoader app2 = new URLClassLoader(new URL[0], libraryCl)) {
+      Map<String, InstrumentationModuleClassLoader> app1Loaders = new ConcurrentHashMap<>();
+      Map<String, InstrumentationModuleClassLoader> app2Loaders = new ConcurrentHashMap<>();
+
+      InstrumentationModuleClassLoader shared1 = resolve(module, app1, app1Loaders);
+      InstrumentationModuleClassLoader shared2 = resolve(module, app2, app2Loaders);
+
+      assertThat(shared1).isSameAs(shared2);
+      assertThat(shared1.hasModuleInstalled(module)).isTrue();
+      assertThat(app1Loaders.get(groupName(module))).isSameAs(shared1);
+      assertThat(app2Loaders.get(groupName(module))).isSameAs(shared2);
+      assertThat(shared1.loadClass(LIBRARY_CLASS).getClassLoader()).isSameAs(libraryCl);
+
+      // the decision is only made once
+      assertThat(resolve(module, app1, app1Loaders)).isSameAs(shared1);
+      assertThat(SharedModuleClassLoaders.getCreatedCount()).isEqualTo(created + 1);
+      assertThat(SharedModuleClassLoaders.getReusedCount()).isEqualTo(reused + 2);
+    }
+  }
+
+  @Test
+  void doesNotShareClassLoaderForOwnLibraryCopy() {
+    LibraryModule module = new LibraryModule();
+    ClassLoader app = libraryClassLoader();
+    Map<String, InstrumentationModuleClassLoader> appLoaders = new ConcurrentHashMap<>();
+
+    InstrumentationModuleClassLoader local = install(module, app, appLoaders);
+    assertThat(SharedModuleClassLoaders.resolve(module, groupName(module), app, appLoaders, local))
+        .isSameAs(local);
+  }
+
+  @Test
+  void doesNotShareUnshareableModule() throws Exception {
+    ClassLoader libraryCl = libraryClassLoader();
+    UnshareableModule module = new UnshareableModule();
+    SharedModuleClassLoaders.markUnshareable(module);
+
+    try (URLClassLoader app = new URLClassLoader(new URL[0], libraryCl)) {
+      Map<String, InstrumentationModuleClassLoader> appLoaders = new ConcurrentHashMap<>();
+
+      InstrumentationModuleClassLoader local = install(module, app, appLoaders);
+      assertThat(
+              SharedModuleClassLoaders.resolve(module, groupName(module), app, appLoaders, local))
+          .isSameAs(local);
+    }
+  }
+
+  @Test
+  void stopsAtFirstMissingLibraryClass() throws Exception {
+    ClassLoader libraryCl = libraryClassLoader();
+    MissingLibraryModule module = new MissingLibraryModule();
+    List<String> requestedClasses = new CopyOnWriteArrayList<>();
+
+    try (URLClassLoader app =
+        new URLClassLoader(new URL[0], libraryCl) {
+          @Override
+          protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requestedClasses.add(name);
+            return super.loadClass(name, resolve);
+          }
+        }) {
+      Map<String, InstrumentationModuleClassLoader> appLoaders = new ConcurrentHashMap<>();
+
+      InstrumentationModuleClassLoader local = install(module, app, appLoaders);
+      assertThat(
+              SharedModuleClassLoaders.resolve(module, groupName(module), app, appLoaders, local))
+          .isSameAs(local);
+      assertThat(requestedClasses).contains(MISSING_CLASS).doesNotContain(LIBRARY_CLASS);
+    }
+  }
+
+  private static InstrumentationModuleClassLoader resolve(
+      InstrumentationModule module,
+      ClassLoader instrumentedCl,
+      Map<String, InstrumentationModuleClassLoader> loaders) {
+    InstrumentationModuleClassLoader local = loaders.get(groupName(module));
+    if (local == null) {
+      local = install(module, instrumentedCl, loaders);
+    }
+    return SharedModuleClassLoaders.resolve(
+        module, groupName(module), instrumentedCl, loaders, local);
+  }
+
+  private static InstrumentationModuleClassLoader install(
+      InstrumentationModule module,
+      ClassLoader instrumentedCl,
+      Map<String, InstrumentationModuleClassLoader> loaders) {
+    InstrumentationModuleClassLoader loader =
+        new InstrumentationModuleClassLoader(instrumentedCl, module.getClass().getClassLoader());
+    loader.installModule(module);
+    loaders.put(groupName(module), loader);
+    return loader;
+  }
+
+  private static String groupName(InstrumentationModule module) {
+    return module.getClass().getName();
+  }
+
+  private static ClassLoader libraryClassLoader() {
+    byte[] bytecode = new ByteBuddy().subclass(Object.class).name(LIBRARY_CLASS).make().getBytes();
+    return new ByteArrayClassLoader(null, Collections.singletonMap(LIBRARY_CLASS, bytecode));
+  }
+
+  public static class LibraryModule extends InstrumentationModule
+      implements InstrumentationModuleMuzzle {
+
+    public LibraryModule() {
+      super("library-module");
+    }
+
+    @Override
+    public List<TypeInstrumentation> typeInstrumentations() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, ClassRef> getMuzzleReferences() {
+      return Collections.singletonMap(LIBRARY_CLASS, ClassRef.builder(LIBRARY_CLASS).build());
+    }
+
+    @Override
+    public void registerMuzzleVirtualFields(VirtualFieldMappingsBuilder builder) {}
+
+    @Override
+    public List<String> getMuzzleHelperClassNames() {
+      return Collections.emptyList();
+    }
+  }
+
+  public static class UnshareableModule extends LibraryModule {}
+
+  public static class MissingLibraryModule extends LibraryModule {
+
+    @Override
+    public Map<String, ClassRef> getMuzzleReferences() {
+      Map<String, ClassRef> references = new LinkedHashMap<>();
+      references.put(MISSING_CLASS, ClassRef.builder(MISSING_CLASS).build());
+      references.put(LIBRARY_CLASS, ClassRef.builder(LIBRARY_CLASS).build());
+      return references;
+    }
+  }
+}